@@ -0,0 +1,16 @@
+-- ================================================
+-- V001: 수강 레슨 완료 카운터
+-- ================================================
+-- 진도율 계산 시 매번 lesson / lesson_progress를 COUNT 하지 않도록
+-- course_enrollment에 완료/전체 레슨 수를 저장한다.
+-- (ddl-auto=update 환경에서는 컬럼이 자동 추가되고, 앱 시작 시 EnrollmentCounterReconciler가 값을 채움)
+
+ALTER TABLE course_enrollment
+    ADD COLUMN IF NOT EXISTS completed_lesson_count INT NOT NULL DEFAULT 0 COMMENT '완료한 레슨 수',
+    ADD COLUMN IF NOT EXISTS total_lesson_count INT NOT NULL DEFAULT 0 COMMENT '강좌 전체 레슨 수';
+
+-- 기존 데이터 채우기
+UPDATE course_enrollment e
+SET e.total_lesson_count = (SELECT COUNT(*) FROM lesson l WHERE l.course_id = e.course_id),
+    e.completed_lesson_count = (SELECT COUNT(*) FROM lesson_progress p
+                                WHERE p.user_id = e.user_id AND p.course_id = e.course_id AND p.completed = TRUE);
@@ -0,0 +1,6 @@
+-- ================================================
+-- V002: 학습 세션 기간 조회 인덱스
+-- ================================================
+-- heartbeat 기반 학습 세션 저장으로 "이번 주 학습 시간" 등 기간 합계를 (user_id, started_at) 범위로 조회
+
+CREATE INDEX IF NOT EXISTS idx_session_user_started ON learning_session (user_id, started_at);
@@ -0,0 +1,8 @@
+-- ================================================
+-- V003: 레슨 시청 구간 비트맵
+-- ================================================
+-- watched_sec는 반복 시청/탐색으로 부풀려지므로 완료 판정은 5초당 1비트의 시청 구간 비트맵으로 한다.
+-- 기존 행은 NULL로 두며, NULL인 진도는 watched_sec 기준으로 판정한다 (다음 heartbeat부터 비트맵 기록).
+
+ALTER TABLE lesson_progress
+    ADD COLUMN IF NOT EXISTS watched_coverage VARBINARY(1024) NULL COMMENT '시청 구간 비트맵(5초당 1비트) - 완료 판정용';
@@ -0,0 +1,42 @@
+-- ================================================
+-- V004: 쓰기 많은 테이블 ID 생성 방식 변경 (IDENTITY → 테이블 기반 pooled-lo)
+-- ================================================
+-- IDENTITY는 Hibernate INSERT 배치를 막으므로 아래 테이블은 id_generator에서 50개 단위로 ID 블록을 받는다.
+--   lesson_progress, attendance_daily, learning_session, quiz_answer, planner_itinerary
+-- 기존 ID는 그대로 두고, 각 생성기는 현재 MAX(id) + 1 부터 시작한다.
+-- (앱 시작 시 PooledIdAllocator가 같은 보정을 다시 수행하므로 ddl-auto=update 환경에서도 안전)
+
+CREATE TABLE IF NOT EXISTS id_generator (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='ID 생성기';
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'lesson_progress', COALESCE(MAX(id), 0) + 1 FROM lesson_progress
+WHERE NOT EXISTS (SELECT 1 FROM id_generator WHERE sequence_name = 'lesson_progress');
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'attendance_daily', COALESCE(MAX(id), 0) + 1 FROM attendance_daily
+WHERE NOT EXISTS (SELECT 1 FROM id_generator WHERE sequence_name = 'attendance_daily');
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'learning_session', COALESCE(MAX(id), 0) + 1 FROM learning_session
+WHERE NOT EXISTS (SELECT 1 FROM id_generator WHERE sequence_name = 'learning_session');
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'quiz_answer', COALESCE(MAX(id), 0) + 1 FROM quiz_answer
+WHERE NOT EXISTS (SELECT 1 FROM id_generator WHERE sequence_name = 'quiz_answer');
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'planner_itinerary', COALESCE(MAX(id), 0) + 1 FROM planner_itinerary
+WHERE NOT EXISTS (SELECT 1 FROM id_generator WHERE sequence_name = 'planner_itinerary');
+
+-- ID는 애플리케이션이 할당하므로 AUTO_INCREMENT 제거 (값/참조는 그대로)
+SET FOREIGN_KEY_CHECKS = 0;
+ALTER TABLE lesson_progress MODIFY id BIGINT NOT NULL;
+ALTER TABLE attendance_daily MODIFY id BIGINT NOT NULL;
+ALTER TABLE learning_session MODIFY id BIGINT NOT NULL;
+ALTER TABLE quiz_answer MODIFY id BIGINT NOT NULL;
+ALTER TABLE planner_itinerary MODIFY id BIGINT NOT NULL;
+SET FOREIGN_KEY_CHECKS = 1;
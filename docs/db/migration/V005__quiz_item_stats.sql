@@ -0,0 +1,58 @@
+-- ================================================
+-- V005: 퀴즈 문제/선택지 응답 통계 롤업 테이블
+-- ================================================
+-- 관리자 퀴즈 상세의 정답률/변별도/선택지 분포를 quiz_answer 스캔 없이 보여주기 위한 집계.
+-- 운영 중에는 QuizItemStatsAggregator가 채점 시 증분을 모아 주기적으로 더한다.
+-- 아래 백필은 배포 시 한 번만 기존 quiz_answer 기록을 집계한다.
+
+CREATE TABLE IF NOT EXISTS quiz_question_stat (
+    question_id BIGINT NOT NULL PRIMARY KEY COMMENT '문제 ID',
+    quiz_id BIGINT NOT NULL COMMENT '퀴즈 ID',
+    answered_count BIGINT NOT NULL DEFAULT 0 COMMENT '응답 수',
+    correct_count BIGINT NOT NULL DEFAULT 0 COMMENT '정답 수',
+    passed_answered_count BIGINT NOT NULL DEFAULT 0 COMMENT '합격 시도의 응답 수',
+    passed_correct_count BIGINT NOT NULL DEFAULT 0 COMMENT '합격 시도의 정답 수',
+    updated_at DATETIME,
+    INDEX idx_question_stat_quiz (quiz_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='퀴즈 문제별 응답 통계';
+
+CREATE TABLE IF NOT EXISTS quiz_option_stat (
+    option_id BIGINT NOT NULL PRIMARY KEY COMMENT '선택지 ID',
+    question_id BIGINT NOT NULL COMMENT '문제 ID',
+    quiz_id BIGINT NOT NULL COMMENT '퀴즈 ID',
+    selected_count BIGINT NOT NULL DEFAULT 0 COMMENT '선택 수',
+    passed_selected_count BIGINT NOT NULL DEFAULT 0 COMMENT '합격 시도의 선택 수',
+    updated_at DATETIME,
+    INDEX idx_option_stat_quiz (quiz_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='퀴즈 선택지별 선택 통계';
+
+INSERT INTO quiz_question_stat
+    (question_id, quiz_id, answered_count, correct_count, passed_answered_count, passed_correct_count, updated_at)
+SELECT qa.question_id, q.quiz_id,
+       COUNT(*),
+       SUM(CASE WHEN qa.is_correct THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.passed THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.passed AND qa.is_correct THEN 1 ELSE 0 END),
+       NOW()
+FROM quiz_answer qa
+JOIN quiz_attempt t ON t.id = qa.attempt_id
+JOIN quiz_question q ON q.id = qa.question_id
+WHERE t.completed_at IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM quiz_question_stat s WHERE s.question_id = qa.question_id)
+GROUP BY qa.question_id, q.quiz_id;
+
+INSERT INTO quiz_option_stat
+    (option_id, question_id, quiz_id, selected_count, passed_selected_count, updated_at)
+SELECT qa.selected_option_id, qa.question_id, q.quiz_id,
+       COUNT(*),
+       SUM(CASE WHEN t.passed THEN 1 ELSE 0 END),
+       NOW()
+FROM quiz_answer qa
+JOIN quiz_attempt t ON t.id = qa.attempt_id
+JOIN quiz_question q ON q.id = qa.question_id
+JOIN quiz_option o ON o.id = qa.selected_option_id AND o.question_id = qa.question_id
+WHERE t.completed_at IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM quiz_option_stat s WHERE s.option_id = qa.selected_option_id)
+GROUP BY qa.selected_option_id, qa.question_id, q.quiz_id;
@@ -0,0 +1,23 @@
+-- ================================================
+-- V006: 퀴즈 시도 번호 유니크 제약
+-- ================================================
+-- 중복 제출이 동시에 시도 횟수 검사를 통과해 같은 시도 번호가 두 번 저장되는 것을 DB에서 막는다.
+-- (서버 내에서는 QuizAttemptAdmission의 (userId, quizId) 스트라이프 락으로 직렬화, 서버 간은 이 제약이 최종 판정)
+-- 제약 추가 전 기존 중복은 시작 시각 순으로 시도 번호를 다시 매긴다.
+
+UPDATE quiz_attempt a
+JOIN (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY user_id, quiz_id, cycle ORDER BY started_at, id) AS rn
+    FROM quiz_attempt
+) r ON r.id = a.id
+SET a.attempt_no = r.rn
+WHERE a.attempt_no <> r.rn
+  AND EXISTS (
+    SELECT 1 FROM (SELECT user_id, quiz_id, cycle, attempt_no FROM quiz_attempt) d
+    WHERE d.user_id = a.user_id AND d.quiz_id = a.quiz_id AND d.cycle = a.cycle
+    GROUP BY d.user_id, d.quiz_id, d.cycle
+    HAVING COUNT(*) > COUNT(DISTINCT d.attempt_no)
+  );
+
+ALTER TABLE quiz_attempt
+    ADD CONSTRAINT uk_attempt_no UNIQUE (user_id, quiz_id, cycle, attempt_no);
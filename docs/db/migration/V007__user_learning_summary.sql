@@ -0,0 +1,23 @@
+-- ================================================
+-- V007: 사용자 학습 요약 읽기 모델
+-- ================================================
+-- 메인/마이페이지 "나의 학습 요약"을 기본 키 조회 1회로 보여주기 위한 테이블.
+-- 운영 중에는 LearningSummaryService가 출석/heartbeat/레슨 완료/수강 상태 변경 시 증분 반영하고,
+-- 매일 app.learning.summary.rebuild-cron 시각에 원본 테이블 기준으로 재계산한다.
+-- 백필은 하지 않는다: 행이 없는 사용자는 첫 조회 때 원본 테이블에서 생성된다.
+
+CREATE TABLE IF NOT EXISTS user_learning_summary (
+    user_id BIGINT NOT NULL PRIMARY KEY COMMENT '사용자 ID',
+    in_progress_count INT NOT NULL DEFAULT 0 COMMENT '진행 중 수강 수',
+    completed_count INT NOT NULL DEFAULT 0 COMMENT '완료 수강 수',
+    in_progress_percent_sum BIGINT NOT NULL DEFAULT 0 COMMENT '진행 중 수강 진도율 합계',
+    total_watched_sec BIGINT NOT NULL DEFAULT 0 COMMENT '누적 시청 시간 (초)',
+    total_attendance_days INT NOT NULL DEFAULT 0 COMMENT '총 출석일',
+    current_streak INT NOT NULL DEFAULT 0 COMMENT 'last_attend_date에서 끝나는 연속 출석일',
+    last_attend_date DATE COMMENT '마지막 출석일',
+    attendance_month INT COMMENT 'month_attendance_days 기준 월 (yyyyMM)',
+    month_attendance_days INT NOT NULL DEFAULT 0 COMMENT '기준 월 출석일',
+    rebuilt_at DATETIME COMMENT '마지막 재계산 시각',
+    updated_at DATETIME
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='사용자 학습 요약';
@@ -0,0 +1,19 @@
+-- ================================================
+-- V008: 사용자·연도별 출석 비트셋
+-- ================================================
+-- 연속 출석/월별 출석 수/연간 히트맵을 attendance_daily 스캔 없이 비트 연산으로 계산하기 위한 요약.
+-- days: 1월 1일부터 하루 1비트 (java.util.BitSet.toByteArray 형식, 최대 46바이트)
+-- 비트 값 백필은 SQL로 만들지 않는다: 애플리케이션 시작 시 AttendanceYearReconciler가
+-- 행이 없거나 출석일 수가 다른 (사용자, 연도)를 attendance_daily 기준으로 채운다.
+
+CREATE TABLE IF NOT EXISTS attendance_year (
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    attend_year INT NOT NULL COMMENT '연도',
+    days VARBINARY(46) NOT NULL COMMENT '출석 비트셋 (bit i = 1월 1일 + i일)',
+    day_count INT NOT NULL DEFAULT 0 COMMENT '출석일 수',
+    last_attend_date DATE COMMENT '마지막 출석일',
+    current_streak INT NOT NULL DEFAULT 0 COMMENT 'last_attend_date에서 끝나는 연속 출석일 (전년도 포함)',
+    updated_at DATETIME,
+    PRIMARY KEY (user_id, attend_year)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='사용자 연도별 출석 비트셋';
@@ -0,0 +1,24 @@
+-- ================================================
+-- V009: 학습 이벤트 outbox
+-- ================================================
+-- 레슨 완료/강좌 완료/퀴즈 합격/수강 상태 변경 이벤트를 발행 트랜잭션과 함께 기록한다.
+-- 후속 처리(재수강 완료, 수료증 발급, 학습 요약 갱신)는 커밋 후 LearningEventDispatcher가
+-- 전용 스레드 풀에서 수행하고, 실패 시 next_attempt_at 이후 재시도한다.
+-- DONE 행은 app.events.outbox.retention-days 이후 정리된다.
+
+CREATE TABLE IF NOT EXISTS learning_event_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(30) NOT NULL COMMENT 'LESSON_COMPLETED, COURSE_COMPLETED, QUIZ_PASSED, ENROLLMENT_CHANGED',
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    course_id BIGINT COMMENT '강좌 ID',
+    ref_id BIGINT COMMENT '레슨/퀴즈 ID',
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT 'PENDING, PROCESSING, DONE, FAILED',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '처리 실패 횟수',
+    next_attempt_at DATETIME NOT NULL COMMENT '다음 처리 가능 시각',
+    locked_until DATETIME COMMENT 'PROCESSING 잠금 만료 시각',
+    last_error VARCHAR(500) COMMENT '마지막 실패 사유',
+    created_at DATETIME NOT NULL,
+    processed_at DATETIME COMMENT '완료/실패 확정 시각',
+    INDEX idx_event_outbox_due (status, next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='학습 이벤트 outbox';
@@ -0,0 +1,13 @@
+-- ================================================
+-- V010: 수강 신청 대기열 키셋 조회 인덱스
+-- ================================================
+-- 관리자 승인 화면은 (status[, course_id]) 조건에서 (requested_at, id) 커서 이후 행만 순서대로 읽는다.
+-- 기존 idx_enrollment_status(status)는 정렬을 위해 대상 행 전체를 읽어야 하므로 정렬 순서까지 포함한 인덱스로 대체.
+-- 승인 대기 건수 배지(COUNT(*) WHERE status = 'REQUESTED')도 idx_enrollment_status_requested만으로 처리된다.
+-- idx_enrollment_course(course_id)는 course_id로 시작하는 idx_enrollment_course_status_requested와 겹치므로 제거
+-- (course_id 외래 키도 새 인덱스를 사용).
+
+CREATE INDEX IF NOT EXISTS idx_enrollment_status_requested ON course_enrollment (status, requested_at, id);
+CREATE INDEX IF NOT EXISTS idx_enrollment_course_status_requested ON course_enrollment (course_id, status, requested_at, id);
+DROP INDEX IF EXISTS idx_enrollment_status ON course_enrollment;
+DROP INDEX IF EXISTS idx_enrollment_course ON course_enrollment;
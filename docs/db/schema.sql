@@ -122,6 +122,8 @@ CREATE TABLE IF NOT EXISTS course_enrollment (
     note TEXT COMMENT '메모',
     last_lesson_id BIGINT COMMENT '마지막 학습 레슨 ID',
     last_accessed_at DATETIME COMMENT '마지막 접근 일시',
+    completed_lesson_count INT NOT NULL DEFAULT 0 COMMENT '완료한 레슨 수',
+    total_lesson_count INT NOT NULL DEFAULT 0 COMMENT '강좌 전체 레슨 수',
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at DATETIME ON UPDATE CURRENT_TIMESTAMP,
     UNIQUE KEY uk_enrollment (user_id, course_id),
@@ -130,8 +132,8 @@ CREATE TABLE IF NOT EXISTS course_enrollment (
     FOREIGN KEY (assigned_by_admin_id) REFERENCES users(id) ON DELETE SET NULL,
     FOREIGN KEY (last_lesson_id) REFERENCES lesson(id) ON DELETE SET NULL,
     INDEX idx_enrollment_user (user_id),
-    INDEX idx_enrollment_course (course_id),
-    INDEX idx_enrollment_status (status)
+    INDEX idx_enrollment_status_requested (status, requested_at, id),
+    INDEX idx_enrollment_course_status_requested (course_id, status, requested_at, id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
 COMMENT='수강 등록';
 
@@ -139,12 +141,13 @@ COMMENT='수강 등록';
 -- 6. 레슨 진도 테이블 (lesson_progress)
 -- ================================================
 CREATE TABLE IF NOT EXISTS lesson_progress (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY COMMENT 'id_generator(pooled-lo) 할당',
     user_id BIGINT NOT NULL COMMENT '사용자 ID',
     course_id BIGINT NOT NULL COMMENT '강좌 ID',
     lesson_id BIGINT NOT NULL COMMENT '레슨 ID',
     last_position_sec INT DEFAULT 0 COMMENT '마지막 재생 위치(초) - 이어보기용',
-    watched_sec INT DEFAULT 0 COMMENT '누적 시청 시간(초) - 완료 판정용',
+    watched_sec INT DEFAULT 0 COMMENT '누적 시청 시간(초) - 학습 시간 통계용',
+    watched_coverage VARBINARY(1024) COMMENT '시청 구간 비트맵(5초당 1비트) - 완료 판정용',
     completed BOOLEAN NOT NULL DEFAULT FALSE COMMENT '완료 여부',
     completed_at DATETIME COMMENT '완료 일시',
     started_at DATETIME COMMENT '학습 시작 일시',
@@ -163,7 +166,7 @@ COMMENT='레슨 진도';
 -- 7. 학습 세션 테이블 (learning_session)
 -- ================================================
 CREATE TABLE IF NOT EXISTS learning_session (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY COMMENT 'id_generator(pooled-lo) 할당',
     user_id BIGINT NOT NULL COMMENT '사용자 ID',
     course_id BIGINT COMMENT '강좌 ID',
     lesson_id BIGINT COMMENT '레슨 ID',
@@ -174,7 +177,8 @@ CREATE TABLE IF NOT EXISTS learning_session (
     FOREIGN KEY (course_id) REFERENCES course(id) ON DELETE SET NULL,
     FOREIGN KEY (lesson_id) REFERENCES lesson(id) ON DELETE SET NULL,
     INDEX idx_session_user (user_id),
-    INDEX idx_session_course (course_id)
+    INDEX idx_session_course (course_id),
+    INDEX idx_session_user_started (user_id, started_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
 COMMENT='학습 세션';
 
@@ -182,7 +186,7 @@ COMMENT='학습 세션';
 -- 8. 일일 출석 테이블 (attendance_daily)
 -- ================================================
 CREATE TABLE IF NOT EXISTS attendance_daily (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY COMMENT 'id_generator(pooled-lo) 할당',
     user_id BIGINT NOT NULL COMMENT '사용자 ID',
     attend_date DATE NOT NULL COMMENT '출석 날짜',
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
@@ -193,6 +197,108 @@ CREATE TABLE IF NOT EXISTS attendance_daily (
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
 COMMENT='일일 출석';
 
+-- ================================================
+-- 9. ID 생성기 테이블 (id_generator)
+-- ================================================
+-- 쓰기 많은 테이블의 ID 블록(50개 단위) 할당 (Hibernate @TableGenerator, pooled-lo)
+-- sequence_name = 대상 테이블, next_val = 다음 블록의 첫 ID
+CREATE TABLE IF NOT EXISTS id_generator (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='ID 생성기';
+
+INSERT IGNORE INTO id_generator (sequence_name, next_val) VALUES
+    ('lesson_progress', 1),
+    ('attendance_daily', 1),
+    ('learning_session', 1),
+    ('quiz_answer', 1),
+    ('planner_itinerary', 1);
+
+-- ================================================
+-- 10. 퀴즈 응답 통계 롤업 (quiz_question_stat, quiz_option_stat)
+-- ================================================
+-- 채점 시 증분 집계 (QuizItemStatsAggregator), 관리자 퀴즈 상세의 정답률/변별도/선택지 분포
+CREATE TABLE IF NOT EXISTS quiz_question_stat (
+    question_id BIGINT NOT NULL PRIMARY KEY COMMENT '문제 ID',
+    quiz_id BIGINT NOT NULL COMMENT '퀴즈 ID',
+    answered_count BIGINT NOT NULL DEFAULT 0 COMMENT '응답 수',
+    correct_count BIGINT NOT NULL DEFAULT 0 COMMENT '정답 수',
+    passed_answered_count BIGINT NOT NULL DEFAULT 0 COMMENT '합격 시도의 응답 수',
+    passed_correct_count BIGINT NOT NULL DEFAULT 0 COMMENT '합격 시도의 정답 수',
+    updated_at DATETIME,
+    INDEX idx_question_stat_quiz (quiz_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='퀴즈 문제별 응답 통계';
+
+CREATE TABLE IF NOT EXISTS quiz_option_stat (
+    option_id BIGINT NOT NULL PRIMARY KEY COMMENT '선택지 ID',
+    question_id BIGINT NOT NULL COMMENT '문제 ID',
+    quiz_id BIGINT NOT NULL COMMENT '퀴즈 ID',
+    selected_count BIGINT NOT NULL DEFAULT 0 COMMENT '선택 수',
+    passed_selected_count BIGINT NOT NULL DEFAULT 0 COMMENT '합격 시도의 선택 수',
+    updated_at DATETIME,
+    INDEX idx_option_stat_quiz (quiz_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='퀴즈 선택지별 선택 통계';
+
+-- ================================================
+-- 11. 사용자 학습 요약 (user_learning_summary)
+-- ================================================
+-- 메인/마이페이지 학습 요약 읽기 모델 (LearningSummaryService가 증분 반영, 매일 재계산)
+CREATE TABLE IF NOT EXISTS user_learning_summary (
+    user_id BIGINT NOT NULL PRIMARY KEY COMMENT '사용자 ID',
+    in_progress_count INT NOT NULL DEFAULT 0 COMMENT '진행 중 수강 수',
+    completed_count INT NOT NULL DEFAULT 0 COMMENT '완료 수강 수',
+    in_progress_percent_sum BIGINT NOT NULL DEFAULT 0 COMMENT '진행 중 수강 진도율 합계',
+    total_watched_sec BIGINT NOT NULL DEFAULT 0 COMMENT '누적 시청 시간 (초)',
+    total_attendance_days INT NOT NULL DEFAULT 0 COMMENT '총 출석일',
+    current_streak INT NOT NULL DEFAULT 0 COMMENT 'last_attend_date에서 끝나는 연속 출석일',
+    last_attend_date DATE COMMENT '마지막 출석일',
+    attendance_month INT COMMENT 'month_attendance_days 기준 월 (yyyyMM)',
+    month_attendance_days INT NOT NULL DEFAULT 0 COMMENT '기준 월 출석일',
+    rebuilt_at DATETIME COMMENT '마지막 재계산 시각',
+    updated_at DATETIME
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='사용자 학습 요약';
+
+-- ================================================
+-- 12. 연도별 출석 비트셋 (attendance_year)
+-- ================================================
+-- 연속 출석/월별 출석/연간 히트맵 (출석 체크 시 비트 갱신, AttendanceYearReconciler가 보정)
+CREATE TABLE IF NOT EXISTS attendance_year (
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    attend_year INT NOT NULL COMMENT '연도',
+    days VARBINARY(46) NOT NULL COMMENT '출석 비트셋 (bit i = 1월 1일 + i일)',
+    day_count INT NOT NULL DEFAULT 0 COMMENT '출석일 수',
+    last_attend_date DATE COMMENT '마지막 출석일',
+    current_streak INT NOT NULL DEFAULT 0 COMMENT 'last_attend_date에서 끝나는 연속 출석일 (전년도 포함)',
+    updated_at DATETIME,
+    PRIMARY KEY (user_id, attend_year)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='사용자 연도별 출석 비트셋';
+
+-- ================================================
+-- 13. 학습 이벤트 outbox (learning_event_outbox)
+-- ================================================
+-- 커밋 후 비동기 후속 처리 (재수강 완료, 수료증 발급, 학습 요약), 실패 시 재시도
+CREATE TABLE IF NOT EXISTS learning_event_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(30) NOT NULL COMMENT 'LESSON_COMPLETED, COURSE_COMPLETED, QUIZ_PASSED, ENROLLMENT_CHANGED',
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    course_id BIGINT COMMENT '강좌 ID',
+    ref_id BIGINT COMMENT '레슨/퀴즈 ID',
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT 'PENDING, PROCESSING, DONE, FAILED',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '처리 실패 횟수',
+    next_attempt_at DATETIME NOT NULL COMMENT '다음 처리 가능 시각',
+    locked_until DATETIME COMMENT 'PROCESSING 잠금 만료 시각',
+    last_error VARCHAR(500) COMMENT '마지막 실패 사유',
+    created_at DATETIME NOT NULL,
+    processed_at DATETIME COMMENT '완료/실패 확정 시각',
+    INDEX idx_event_outbox_due (status, next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='학습 이벤트 outbox';
+
 -- ================================================
 -- 스키마 생성 완료!
 -- 다음 단계: seed.sql 실행하여 초기 데이터 추가
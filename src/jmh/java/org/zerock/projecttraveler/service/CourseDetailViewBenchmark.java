@@ -0,0 +1,56 @@
+package org.zerock.projecttraveler.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.zerock.projecttraveler.dto.CourseDetailDto;
+import org.zerock.projecttraveler.dto.CurriculumSnapshot;
+import org.zerock.projecttraveler.dto.ProgressVector;
+import org.zerock.projecttraveler.entity.Course;
+import org.zerock.projecttraveler.entity.CourseEnrollment;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 강좌 상세(학습 페이지) DTO 조립 비용
+ * - assembleCourseDetailView: 요청마다 실행되는 진도 덧씌우기 (LearningService.getCourseDetailView의 DB 이후 구간)
+ * - snapshotToDto: 캐시된 스냅샷 → CourseDetailDto 기본 정보
+ * - buildSnapshot: 캐시 미스 시 엔티티 → 스냅샷 변환
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CourseDetailViewBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int lessonCount;
+
+    @Param({"SPARSE", "DENSE"})
+    private LearningFixtures.Density density;
+
+    private Course course;
+    private CurriculumSnapshot curriculum;
+    private ProgressVector progress;
+    private CourseEnrollment enrollment;
+
+    @Setup
+    public void setUp() {
+        course = LearningFixtures.course(lessonCount);
+        curriculum = LearningFixtures.snapshot(course);
+        progress = LearningFixtures.progress(curriculum, density);
+        enrollment = LearningFixtures.enrollment(course);
+    }
+
+    @Benchmark
+    public CourseDetailDto assembleCourseDetailView() {
+        return LearningService.assembleCourseDetailView(curriculum, enrollment, progress);
+    }
+
+    @Benchmark
+    public CourseDetailDto snapshotToDto() {
+        return curriculum.toCourseDetailDto();
+    }
+
+    @Benchmark
+    public CurriculumSnapshot buildSnapshot() {
+        return LearningFixtures.snapshot(course);
+    }
+}
@@ -0,0 +1,47 @@
+package org.zerock.projecttraveler.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.zerock.projecttraveler.dto.QuizDto;
+import org.zerock.projecttraveler.entity.Quiz;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 퀴즈 DTO 변환 / 시간 포맷 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FormatBenchmark {
+
+    @Param({"10", "50"})
+    private int questionCount;
+
+    private Quiz quiz;
+
+    // 분 / 시간 / 시간+분 분기를 모두 거치도록 섞은 입력
+    private final long[] seconds = {45, 1_800, 3_600, 5_430, 86_399};
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        quiz = LearningFixtures.quiz(LearningFixtures.course(10), questionCount, 4);
+    }
+
+    @Benchmark
+    public QuizDto.QuizInfo quizInfoWithoutAnswers() {
+        return QuizDto.QuizInfo.from(quiz, false);
+    }
+
+    @Benchmark
+    public QuizDto.QuizInfo quizInfoWithAnswers() {
+        return QuizDto.QuizInfo.from(quiz, true);
+    }
+
+    @Benchmark
+    public String formatTime() {
+        long value = seconds[cursor];
+        cursor = (cursor + 1) % seconds.length;
+        return LearningService.formatTime(value);
+    }
+}
@@ -0,0 +1,130 @@
+package org.zerock.projecttraveler.service;
+
+import org.zerock.projecttraveler.dto.CurriculumSnapshot;
+import org.zerock.projecttraveler.dto.ProgressVector;
+import org.zerock.projecttraveler.entity.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 인메모리 픽스처 (DB/Spring 없이 엔티티·스냅샷 생성)
+ * 같은 인자면 항상 같은 데이터를 만든다 (고정 시드).
+ */
+public final class LearningFixtures {
+
+    // 유닛당 레슨 수
+    private static final int LESSONS_PER_UNIT = 10;
+
+    /**
+     * 진도 분포
+     * - SPARSE: 앞쪽 10% 레슨만 시청 (막 시작한 수강생)
+     * - DENSE: 모든 레슨에 진도, 80% 완료 (거의 끝난 수강생)
+     */
+    public enum Density {
+        SPARSE, DENSE
+    }
+
+    private LearningFixtures() {
+    }
+
+    public static Course course(int lessonCount) {
+        Course course = Course.builder()
+                .id(1L)
+                .title("벤치마크 강좌")
+                .shortDesc("짧은 설명")
+                .fullDesc("긴 설명")
+                .category(Course.Category.LANGUAGE)
+                .level(Course.Level.BEGINNER)
+                .totalDurationSec(lessonCount * 600)
+                .build();
+
+        List<Lesson> lessons = new ArrayList<>(lessonCount);
+        CourseUnit unit = null;
+        for (int i = 0; i < lessonCount; i++) {
+            if (i % LESSONS_PER_UNIT == 0) {
+                unit = CourseUnit.builder()
+                        .id((long) (i / LESSONS_PER_UNIT + 1))
+                        .course(course)
+                        .title("유닛 " + (i / LESSONS_PER_UNIT + 1))
+                        .sortOrder(i / LESSONS_PER_UNIT)
+                        .durationSec(LESSONS_PER_UNIT * 600)
+                        .build();
+                course.getUnits().add(unit);
+            }
+            Lesson lesson = Lesson.builder()
+                    .id((long) (i + 1))
+                    .course(course)
+                    .unit(unit)
+                    .title("레슨 " + (i + 1))
+                    .sortOrder(i)
+                    .durationSec(600)
+                    .videoType(Lesson.VideoType.MP4)
+                    .videoUrl("/videos/lesson-" + (i + 1) + ".mp4")
+                    .build();
+            unit.getLessons().add(lesson);
+            lessons.add(lesson);
+        }
+        course.getLessons().addAll(lessons);
+        return course;
+    }
+
+    public static CurriculumSnapshot snapshot(Course course) {
+        return CurriculumSnapshot.of(course, course.getUnits(), course.getLessons(), 1L);
+    }
+
+    public static ProgressVector progress(CurriculumSnapshot curriculum, Density density) {
+        ProgressVector progress = new ProgressVector(curriculum);
+        SplittableRandom random = new SplittableRandom(42);
+        List<CurriculumSnapshot.LessonSnapshot> lessons = curriculum.lessons();
+
+        int watchedCount = density == Density.DENSE ? lessons.size() : Math.max(1, lessons.size() / 10);
+        for (int i = 0; i < watchedCount; i++) {
+            CurriculumSnapshot.LessonSnapshot lesson = lessons.get(i);
+            boolean completed = density == Density.DENSE && random.nextInt(10) < 8;
+            int watched = completed ? lesson.durationSec() : random.nextInt(lesson.durationSec());
+            progress.put(lesson.id(), watched, watched, completed);
+        }
+        return progress;
+    }
+
+    public static CourseEnrollment enrollment(Course course) {
+        return CourseEnrollment.builder()
+                .id(1L)
+                .course(course)
+                .status(CourseEnrollment.Status.APPROVED)
+                .build();
+    }
+
+    public static Quiz quiz(Course course, int questionCount, int optionsPerQuestion) {
+        Quiz quiz = Quiz.builder()
+                .id(1L)
+                .course(course)
+                .title("벤치마크 퀴즈")
+                .description("설명")
+                .timeLimitSec(600)
+                .build();
+
+        long optionId = 1;
+        for (int q = 0; q < questionCount; q++) {
+            QuizQuestion question = QuizQuestion.builder()
+                    .id((long) (q + 1))
+                    .quiz(quiz)
+                    .question("문제 " + (q + 1))
+                    .sortOrder(q)
+                    .build();
+            for (int o = 0; o < optionsPerQuestion; o++) {
+                question.getOptions().add(QuizOption.builder()
+                        .id(optionId++)
+                        .question(question)
+                        .content("보기 " + (o + 1))
+                        .isCorrect(o == 0)
+                        .sortOrder(o)
+                        .build());
+            }
+            quiz.getQuestions().add(question);
+        }
+        return quiz;
+    }
+}
@@ -0,0 +1,61 @@
+package org.zerock.projecttraveler.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.zerock.projecttraveler.dto.CurriculumSnapshot;
+import org.zerock.projecttraveler.dto.ProgressVector;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 진도 행 → ProgressVector 적재 비용 (ProgressProjectionService.load의 DB 이후 구간)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProgressVectorBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int lessonCount;
+
+    @Param({"SPARSE", "DENSE"})
+    private LearningFixtures.Density density;
+
+    private CurriculumSnapshot curriculum;
+
+    // 조회 결과 행 (lessonId, watchedSec, lastPositionSec, completed)
+    private long[] lessonIds;
+    private int[] watchedSec;
+    private boolean[] completed;
+
+    @Setup
+    public void setUp() {
+        curriculum = LearningFixtures.snapshot(LearningFixtures.course(lessonCount));
+        ProgressVector source = LearningFixtures.progress(curriculum, density);
+
+        int rows = 0;
+        for (int i = 0; i < source.lessonCount(); i++) {
+            if (source.hasProgress(i)) rows++;
+        }
+        lessonIds = new long[rows];
+        watchedSec = new int[rows];
+        completed = new boolean[rows];
+
+        int row = 0;
+        for (int i = 0; i < source.lessonCount(); i++) {
+            if (!source.hasProgress(i)) continue;
+            lessonIds[row] = curriculum.lessons().get(i).id();
+            watchedSec[row] = source.watchedSec(i);
+            completed[row] = source.completed(i);
+            row++;
+        }
+    }
+
+    @Benchmark
+    public ProgressVector load() {
+        ProgressVector progress = new ProgressVector(curriculum);
+        for (int i = 0; i < lessonIds.length; i++) {
+            progress.put(lessonIds[i], watchedSec[i], watchedSec[i], completed[i]);
+        }
+        return progress;
+    }
+}
@@ -0,0 +1,14 @@
+package org.zerock.projecttraveler.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ *
+ * 학습 heartbeat 집계 버퍼 flush 등 주기 작업(@Scheduled)을 활성화한다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
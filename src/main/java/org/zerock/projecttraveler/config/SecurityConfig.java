@@ -53,7 +53,7 @@ public class SecurityConfig {
             // CSRF 설정
             .csrf(csrf -> csrf
                 .ignoringRequestMatchers("/api/**", "/admin/courses/api/**", "/admin/enrollments/api/**",
-                    "/admin/quiz/api/**", "/admin/course-resources/api/**", "/admin/course-qna/api/**", "/api/user/**", "/api/auth/**") // API는 CSRF 비활성화
+                    "/admin/quiz/api/**", "/admin/course-resources/api/**", "/admin/course-qna/api/**", "/admin/users/api/**", "/api/user/**", "/api/auth/**") // API는 CSRF 비활성화
             )
             // 인증/인가 규칙
             .authorizeHttpRequests(auth -> auth
@@ -70,6 +70,9 @@ public class SecurityConfig {
                 // 관리자 전용
                 .requestMatchers("/admin/**").hasRole("ADMIN")
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                // 모니터링 - 헬스체크만 공개, 메트릭은 관리자 전용
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 // 학습 API는 로그인 필요
                 .requestMatchers("/api/learning/**").authenticated()
                 .requestMatchers("/api/enrollments/**").authenticated()
@@ -0,0 +1,33 @@
+package org.zerock.projecttraveler.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.zerock.projecttraveler.controller.ws.LearningWebSocketHandler;
+import org.zerock.projecttraveler.controller.ws.UserIdHandshakeInterceptor;
+
+/**
+ * WebSocket 설정
+ *
+ * 레슨 페이지(웹/유니티)의 heartbeat 전용 채널.
+ * - 인증은 핸드셰이크(HTTP Upgrade) 시 Security 필터 체인에서 1회만 수행
+ * - 이후 heartbeat 프레임은 필터 체인을 거치지 않음
+ * - Origin은 기본값(동일 출처)만 허용 (쿠키 기반 인증이므로 교차 출처 허용 금지)
+ * - REST(/api/learning/heartbeat)는 폴백으로 유지
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final LearningWebSocketHandler learningWebSocketHandler;
+    private final UserIdHandshakeInterceptor userIdHandshakeInterceptor;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(learningWebSocketHandler, "/ws/learning")
+                .addInterceptors(userIdHandshakeInterceptor);
+    }
+}
@@ -5,6 +5,9 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.zerock.projecttraveler.dto.AttendanceDto;
+import org.zerock.projecttraveler.dto.CertificateDto;
+import org.zerock.projecttraveler.dto.CourseCatalogRow;
 import org.zerock.projecttraveler.dto.CourseDetailDto;
 import org.zerock.projecttraveler.dto.EnrollmentDto;
 import org.zerock.projecttraveler.dto.MyLearningSummaryDto;
@@ -16,7 +19,9 @@ import org.zerock.projecttraveler.security.CustomUserDetails;
 import org.zerock.projecttraveler.security.SecurityUtils;
 import org.zerock.projecttraveler.service.*;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Controller
@@ -31,6 +36,7 @@ public class MainPageController {
     private final CertificateService certificateService;
     private final PlannerService plannerService;
     private final QuizService quizService;
+    private final PageAssembler pageAssembler;
 
 
     /**
@@ -60,17 +66,8 @@ public class MainPageController {
         Long userId = SecurityUtils.getCurrentUserIdOrThrow();
         CustomUserDetails user = SecurityUtils.getCurrentUserDetails().orElse(null);
 
-        // 모든 강좌 조회
-        List<Course> courses = courseService.findAllActiveCourses();
-
-        // 각 강좌별 진도율 계산
-        List<CourseWithProgress> coursesWithProgress = courses.stream()
-                .map(course -> {
-                    int progress = enrollmentService.calculateProgressPercent(userId, course.getId());
-                    CourseEnrollment enrollment = enrollmentService.findEnrollment(userId, course.getId()).orElse(null);
-                    return new CourseWithProgress(course, progress, enrollment);
-                })
-                .collect(Collectors.toList());
+        // 모든 강좌 + 강좌별 진도율 (강좌 수와 무관하게 쿼리 2회)
+        List<CourseWithProgress> coursesWithProgress = buildCourseCatalog(userId);
 
         model.addAttribute("activePage", "learning");
         model.addAttribute("username", user != null ? user.getFullName() : "사용자");
@@ -92,17 +89,8 @@ public class MainPageController {
         Long userId = SecurityUtils.getCurrentUserIdOrThrow();
         CustomUserDetails user = SecurityUtils.getCurrentUserDetails().orElse(null);
 
-        // 모든 강좌 조회
-        List<Course> courses = courseService.findAllActiveCourses();
-
-        // 각 강좌별 진도율 계산
-        List<CourseWithProgress> coursesWithProgress = courses.stream()
-                .map(course -> {
-                    int progress = enrollmentService.calculateProgressPercent(userId, course.getId());
-                    CourseEnrollment enrollment = enrollmentService.findEnrollment(userId, course.getId()).orElse(null);
-                    return new CourseWithProgress(course, progress, enrollment);
-                })
-                .collect(Collectors.toList());
+        // 모든 강좌 + 강좌별 진도율 (강좌 수와 무관하게 쿼리 2회)
+        List<CourseWithProgress> coursesWithProgress = buildCourseCatalog(userId);
 
         model.addAttribute("activePage", "learning");
         model.addAttribute("username", user != null ? user.getFullName() : "사용자");
@@ -165,59 +153,86 @@ public class MainPageController {
         Long userId = SecurityUtils.getCurrentUserIdOrThrow();
         CustomUserDetails user = SecurityUtils.getCurrentUserDetails().orElse(null);
 
+        LocalDate today = LocalDate.now();
+
+        // 서로 독립적인 조회 구간을 동시에 실행 (구간별 읽기 전용 트랜잭션, 실패/시간 초과 시 대체값)
+        PageAssembler.Assembly page = pageAssembler.begin("mypage");
+
         // === 온라인학습 데이터 ===
         // 수강 중인 강좌 (진도 정보 포함)
-        List<CourseEnrollment> inProgressEnrollments = enrollmentService.findInProgressEnrollments(userId);
-        List<EnrollmentDto> inProgress = inProgressEnrollments.stream()
-                .map(enrollmentService::toEnrollmentDtoWithProgress)
-                .collect(Collectors.toList());
+        var inProgress = page.section("inProgressCourses",
+                () -> toEnrollmentDtosWithProgress(enrollmentService.findInProgressEnrollments(userId)),
+                List.<EnrollmentDto>of());
 
         // 완료된 강좌
-        List<CourseEnrollment> completedEnrollments = enrollmentService.findCompletedEnrollments(userId);
-        List<EnrollmentDto> completed = completedEnrollments.stream()
-                .map(enrollmentService::toEnrollmentDtoWithProgress)
-                .collect(Collectors.toList());
+        var completed = page.section("completedCourses",
+                () -> toEnrollmentDtosWithProgress(enrollmentService.findCompletedEnrollments(userId)),
+                List.<EnrollmentDto>of());
 
         // 학습 요약 정보
-        MyLearningSummaryDto summary = dashboardService.getMyLearningSummary(userId);
+        var summary = page.section("summary",
+                () -> dashboardService.getMyLearningSummary(userId),
+                emptySummary());
 
         // === 출석 데이터 ===
-        var stats = attendanceService.getStats(userId);
-        var monthlyView = attendanceService.getMonthlyView(userId,
-                java.time.LocalDate.now().getYear(),
-                java.time.LocalDate.now().getMonthValue());
-        var recentHistory = attendanceService.getRecentHistory(userId, 30);
+        var stats = page.section("attendanceStats",
+                () -> attendanceService.getStats(userId),
+                AttendanceDto.Stats.builder().build());
+        var monthlyView = page.section("monthlyView",
+                () -> attendanceService.getMonthlyView(userId, today.getYear(), today.getMonthValue()),
+                AttendanceDto.MonthlyView.builder()
+                        .year(today.getYear()).month(today.getMonthValue()).days(List.of()).build());
+        var recentHistory = page.section("recentHistory",
+                () -> attendanceService.getRecentHistory(userId, 30),
+                List.<AttendanceDto>of());
 
         // === 나의 강의실 데이터 ===
         // 승인 대기 중인 강좌
-        List<CourseEnrollment> pendingEnrollments = enrollmentService.findPendingEnrollments(userId);
-        List<EnrollmentDto> pending = pendingEnrollments.stream()
-                .map(EnrollmentDto::from)
-                .collect(Collectors.toList());
+        var pending = page.section("pendingCourses",
+                () -> enrollmentService.findPendingEnrollments(userId).stream()
+                        .map(EnrollmentDto::from)
+                        .collect(Collectors.toList()),
+                List.<EnrollmentDto>of());
 
         // 수료증 목록
-        var certificates = certificateService.getMyCertificates(userId);
-        int certificateCount = certificateService.getCertificateCount(userId);
+        var certificates = page.section("certificates",
+                () -> certificateService.getMyCertificates(userId),
+                List.<CertificateDto.CertificateInfo>of());
 
         model.addAttribute("activePage", "mypage");
         model.addAttribute("username", user != null ? user.getFullName() : "사용자");
         model.addAttribute("isAdmin", SecurityUtils.isAdmin());
         // 온라인학습
-        model.addAttribute("inProgressCourses", inProgress);
-        model.addAttribute("completedCourses", completed);
-        model.addAttribute("summary", summary);
+        model.addAttribute("inProgressCourses", inProgress.get());
+        model.addAttribute("completedCourses", completed.get());
+        model.addAttribute("summary", summary.get());
         // 출석
-        model.addAttribute("stats", stats);
-        model.addAttribute("monthlyView", monthlyView);
-        model.addAttribute("recentHistory", recentHistory);
+        model.addAttribute("stats", stats.get());
+        model.addAttribute("monthlyView", monthlyView.get());
+        model.addAttribute("recentHistory", recentHistory.get());
         // 나의 강의실
-        model.addAttribute("pendingCourses", pending);
-        model.addAttribute("certificates", certificates);
-        model.addAttribute("certificateCount", certificateCount);
+        model.addAttribute("pendingCourses", pending.get());
+        model.addAttribute("certificates", certificates.get());
+        model.addAttribute("certificateCount", certificates.get().size());
+        // 대체값으로 표시된 구간
+        model.addAttribute("degradedSections", page.degradedSections());
 
         return "mypage/dashboard";
     }
 
+    private List<EnrollmentDto> toEnrollmentDtosWithProgress(List<CourseEnrollment> enrollments) {
+        return enrollments.stream()
+                .map(enrollmentService::toEnrollmentDtoWithProgress)
+                .collect(Collectors.toList());
+    }
+
+    private static MyLearningSummaryDto emptySummary() {
+        return MyLearningSummaryDto.builder()
+                .totalLearningTimeFormatted(MyLearningSummaryDto.formatLearningTime(0))
+                .thisWeekLearningTimeFormatted(MyLearningSummaryDto.formatLearningTime(0))
+                .build();
+    }
+
     /**
      * 선택 페이지
      */
@@ -664,8 +679,25 @@ public class MainPageController {
         return url;
     }
 
+    /**
+     * 강좌 목록 화면 모델 (활성 강좌 조회 1회 + 레슨 수/수강 상태 집계 1회)
+     */
+    private List<CourseWithProgress> buildCourseCatalog(Long userId) {
+        Map<Long, CourseCatalogRow> rows = enrollmentService.findCatalogRows(userId);
+        return courseService.findAllActiveCourses().stream()
+                .map(course -> {
+                    CourseCatalogRow row = rows.get(course.getId());
+                    if (row == null) {
+                        return new CourseWithProgress(course, 0, null, 0);
+                    }
+                    return new CourseWithProgress(course, row.progressPercent(),
+                            row.isEnrolled() ? row : null, row.lessonCount());
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * 강좌 + 진도 정보를 담는 내부 클래스
      */
-    public record CourseWithProgress(Course course, int progressPercent, CourseEnrollment enrollment) {}
+    public record CourseWithProgress(Course course, int progressPercent, CourseCatalogRow enrollment, long totalLessonCount) {}
 }
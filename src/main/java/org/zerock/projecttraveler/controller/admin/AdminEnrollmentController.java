@@ -5,21 +5,24 @@ import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.zerock.projecttraveler.dto.ApiResponse;
+import org.zerock.projecttraveler.dto.BulkAssignDto;
 import org.zerock.projecttraveler.dto.EnrollmentDto;
-import org.zerock.projecttraveler.entity.Course;
+import org.zerock.projecttraveler.dto.EnrollmentRequestPage;
+import org.zerock.projecttraveler.dto.UserOption;
 import org.zerock.projecttraveler.entity.CourseEnrollment;
-import org.zerock.projecttraveler.entity.User;
 import org.zerock.projecttraveler.security.SecurityUtils;
 import org.zerock.projecttraveler.service.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Controller
 @RequestMapping("/admin/enrollments")
@@ -28,21 +31,34 @@ import java.util.stream.Collectors;
 public class AdminEnrollmentController {
 
     private final EnrollmentAdminService enrollmentAdminService;
+    private final BulkAssignmentService bulkAssignmentService;
     private final EnrollmentService enrollmentService;
     private final CourseService courseService;
     private final UserService userService;
+    private final LearningSummaryService learningSummaryService;
 
     /**
      * 수강 승인 대기 목록 페이지
      */
     @GetMapping("/requests")
-    public String requestsPage(Model model) {
-        List<CourseEnrollment> requests = enrollmentAdminService.findAllRequested();
-        List<EnrollmentDto> enrollments = requests.stream()
-                .map(EnrollmentDto::from)
-                .collect(Collectors.toList());
-
-        model.addAttribute("enrollments", enrollments);
+    public String requestsPage(
+            @RequestParam(defaultValue = "REQUESTED") CourseEnrollment.Status status,
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterAt,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "50") int size,
+            Model model) {
+        EnrollmentRequestPage page = enrollmentAdminService.findRequestPage(status, courseId, afterAt, afterId, size);
+
+        model.addAttribute("enrollments", page.items());
+        model.addAttribute("page", page);
+        model.addAttribute("status", status);
+        model.addAttribute("courseId", courseId);
+        model.addAttribute("size", size);
+        model.addAttribute("firstPage", afterAt == null);
+        model.addAttribute("statuses", CourseEnrollment.Status.values());
+        model.addAttribute("courses", courseService.findActiveCourseOptions());
+        model.addAttribute("pendingCount", enrollmentAdminService.countPendingRequests());
         model.addAttribute("activePage", "admin-requests");
         model.addAttribute("username", SecurityUtils.getCurrentUserDetails()
                 .map(u -> u.getFullName()).orElse("관리자"));
@@ -56,11 +72,9 @@ public class AdminEnrollmentController {
      */
     @GetMapping("/assign")
     public String assignPage(Model model) {
-        List<Course> courses = courseService.findAllActiveCourses();
-        List<User> users = userService.findAllUsers();
-
-        model.addAttribute("courses", courses);
-        model.addAttribute("users", users);
+        // 사용자는 화면에서 검색 API로 필요한 만큼만 조회
+        model.addAttribute("courses", courseService.findActiveCourseOptions());
+        model.addAttribute("pendingCount", enrollmentAdminService.countPendingRequests());
         model.addAttribute("activePage", "admin-assign");
         model.addAttribute("username", SecurityUtils.getCurrentUserDetails()
                 .map(u -> u.getFullName()).orElse("관리자"));
@@ -102,25 +116,112 @@ public class AdminEnrollmentController {
     }
 
     /**
-     * 수강 배정 API
+     * 선택한 수강 신청 일괄 승인 API
+     */
+    @PostMapping("/api/requests/approve")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<Integer>> approveAll(@Valid @RequestBody DecisionRequest request) {
+        try {
+            int count = enrollmentAdminService.decideRequests(request.getEnrollmentIds(), true, request.getNote());
+            return ResponseEntity.ok(ApiResponse.success(String.format("%d건이 승인되었습니다.", count), count));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * 선택한 수강 신청 일괄 반려 API
+     */
+    @PostMapping("/api/requests/reject")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<Integer>> rejectAll(@Valid @RequestBody DecisionRequest request) {
+        try {
+            int count = enrollmentAdminService.decideRequests(request.getEnrollmentIds(), false, request.getNote());
+            return ResponseEntity.ok(ApiResponse.success(String.format("%d건이 반려되었습니다.", count), count));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * 승인 대기 신청 수 API (메뉴 배지)
+     */
+    @GetMapping("/api/requests/pending-count")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<Long>> pendingCount() {
+        return ResponseEntity.ok(ApiResponse.success(enrollmentAdminService.countPendingRequests()));
+    }
+
+    /**
+     * 배정 대상 사용자 검색 API (아이디/이름 앞부분 일치, afterId 이후 ID 순)
+     */
+    @GetMapping("/api/users")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<List<UserOption>>> searchUsers(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "30") int size) {
+        return ResponseEntity.ok(ApiResponse.success(userService.searchUserOptions(q, afterId, size)));
+    }
+
+    /**
+     * 수강 배정 API (대상이 많으면 작업으로 실행 → 작업 조회 API로 진행 상황 확인)
      */
     @PostMapping("/api/assign")
     @ResponseBody
-    public ResponseEntity<ApiResponse<Integer>> assign(@Valid @RequestBody AssignRequest request) {
+    public ResponseEntity<ApiResponse<BulkAssignDto.JobStatus>> assign(@Valid @RequestBody AssignRequest request) {
         Long adminId = SecurityUtils.getCurrentUserIdOrThrow();
 
         try {
-            int count = enrollmentAdminService.assignToMultipleUsers(
+            BulkAssignDto.JobStatus job = bulkAssignmentService.start(
                     adminId,
                     request.getUserIds(),
                     request.getCourseId(),
                     request.getNote()
             );
-            return ResponseEntity.ok(ApiResponse.success(
-                    String.format("%d명에게 강좌가 배정되었습니다.", count), count));
+            return ResponseEntity.ok(ApiResponse.success(assignMessage(job), job));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * 일괄 배정 작업 진행 상황 API
+     */
+    @GetMapping("/api/assign/jobs/{jobId}")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<BulkAssignDto.JobStatus>> assignJob(@PathVariable String jobId) {
+        return bulkAssignmentService.findJob(jobId)
+                .map(job -> ResponseEntity.ok(ApiResponse.success(assignMessage(job), job)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("배정 작업을 찾을 수 없습니다.")));
+    }
+
+    private static String assignMessage(BulkAssignDto.JobStatus job) {
+        return switch (job.getState()) {
+            case RUNNING -> String.format("배정 진행 중입니다. (%d/%d명)", job.getProcessed(), job.getTotal());
+            case DONE -> String.format("%d명에게 강좌가 배정되었습니다. (이미 수강 중 %d명, 없는 사용자 %d명)",
+                    job.getChangedCount(), job.getAlreadyEnrolled(), job.getUserNotFound());
+            case FAILED -> String.format("배정 중 오류가 발생했습니다. %d명 배정 후 중단되었습니다. (반영 실패 %d명, 미처리 %d명)",
+                    job.getChangedCount(), job.getFailed(), job.getTotal() - job.getProcessed());
+        };
+    }
+
+    /**
+     * 학습 요약 재계산 API (원본 테이블 기준, userId 생략 시 전체 사용자)
+     */
+    @PostMapping("/api/learning-summary/rebuild")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<Integer>> rebuildLearningSummary(@RequestParam(required = false) Long userId) {
+        if (userId != null) {
+            learningSummaryService.rebuild(userId);
+            return ResponseEntity.ok(ApiResponse.success("학습 요약을 재계산했습니다.", 1));
         }
+        int count = learningSummaryService.rebuildAll();
+        return ResponseEntity.ok(ApiResponse.success(
+                String.format("%d명의 학습 요약을 재계산했습니다.", count), count));
     }
 
     @Data
@@ -128,6 +229,14 @@ public class AdminEnrollmentController {
         private String note;
     }
 
+    @Data
+    public static class DecisionRequest {
+        @NotEmpty(message = "처리할 신청을 선택해주세요.")
+        private List<Long> enrollmentIds;
+
+        private String note;
+    }
+
     @Data
     public static class AssignRequest {
         @NotNull(message = "강좌 ID는 필수입니다.")
@@ -16,12 +16,16 @@ import org.zerock.projecttraveler.entity.*;
 import org.zerock.projecttraveler.repository.*;
 import org.zerock.projecttraveler.security.SecurityUtils;
 import org.zerock.projecttraveler.service.CourseService;
+import org.zerock.projecttraveler.service.QuizAnswerKeyCache;
+import org.zerock.projecttraveler.service.QuizCatalogCache;
+import org.zerock.projecttraveler.service.QuizService;
 
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Controller
 @RequestMapping("/admin/quiz")
@@ -35,6 +39,9 @@ public class AdminQuizController {
     private final QuizOptionRepository optionRepository;
     private final CourseService courseService;
     private final LessonRepository lessonRepository;
+    private final QuizAnswerKeyCache quizAnswerKeyCache;
+    private final QuizCatalogCache quizCatalogCache;
+    private final QuizService quizService;
 
     /**
      * 강좌의 퀴즈 관리 페이지
@@ -71,6 +78,7 @@ public class AdminQuizController {
         quiz.getQuestions().forEach(q -> q.getOptions().size());
 
         model.addAttribute("quiz", quiz);
+        model.addAttribute("itemStats", quizService.getItemAnalysis(quizId));
         model.addAttribute("course", quiz.getCourse());
         model.addAttribute("activePage", "admin-courses");
         model.addAttribute("username", SecurityUtils.getCurrentUserDetails()
@@ -109,6 +117,7 @@ public class AdminQuizController {
                     .build();
 
             Quiz saved = quizRepository.save(quiz);
+            quizCatalogCache.evict(course.getId());
             log.info("Quiz created: id={}, title={}, courseId={}, lessonId={}",
                     saved.getId(), saved.getTitle(), course.getId(), request.getLessonId());
 
@@ -149,6 +158,7 @@ public class AdminQuizController {
             quiz.setTimeLimitSec(request.getTimeLimitSec());
 
             Quiz saved = quizRepository.save(quiz);
+            evictQuizContent(quizId);
 
             Map<String, Object> data = new LinkedHashMap<>();
             data.put("id", saved.getId());
@@ -171,6 +181,7 @@ public class AdminQuizController {
 
             quiz.setActive(false);
             quizRepository.save(quiz);
+            evictQuizContent(quizId);
 
             log.info("Quiz deactivated: id={}", quizId);
             return ResponseEntity.ok(ApiResponse.success("퀴즈가 삭제되었습니다.", null));
@@ -218,6 +229,7 @@ public class AdminQuizController {
                 }
             }
 
+            evictQuizContent(quizId);
             log.info("Question added: quizId={}, questionId={}", quizId, saved.getId());
 
             Map<String, Object> data = new LinkedHashMap<>();
@@ -273,6 +285,7 @@ public class AdminQuizController {
                     optionRepository.save(option);
                 }
             }
+            evictQuizContent(question.getQuiz().getId());
 
             Map<String, Object> data = new LinkedHashMap<>();
             data.put("id", saved.getId());
@@ -299,6 +312,7 @@ public class AdminQuizController {
 
             // 문제 삭제
             questionRepository.delete(question);
+            evictQuizContent(question.getQuiz().getId());
 
             log.info("Question deleted: id={}", questionId);
             return ResponseEntity.ok(ApiResponse.success("문제가 삭제되었습니다.", null));
@@ -330,6 +344,7 @@ public class AdminQuizController {
                     .build();
 
             QuizOption saved = optionRepository.save(option);
+            evictQuizContent(question.getQuiz().getId());
 
             Map<String, Object> data = new LinkedHashMap<>();
             data.put("id", saved.getId());
@@ -361,6 +376,7 @@ public class AdminQuizController {
             }
 
             QuizOption saved = optionRepository.save(option);
+            optionRepository.findQuizIdByOptionId(optionId).ifPresent(this::evictQuizContent);
 
             Map<String, Object> data = new LinkedHashMap<>();
             data.put("id", saved.getId());
@@ -381,13 +397,24 @@ public class AdminQuizController {
             QuizOption option = optionRepository.findById(optionId)
                     .orElseThrow(() -> new IllegalArgumentException("선택지를 찾을 수 없습니다."));
 
+            // 삭제 후에는 퀴즈를 찾을 수 없으므로 먼저 조회
+            Optional<Long> quizId = optionRepository.findQuizIdByOptionId(optionId);
             optionRepository.delete(option);
+            quizId.ifPresent(this::evictQuizContent);
             return ResponseEntity.ok(ApiResponse.success("선택지가 삭제되었습니다.", null));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
         }
     }
 
+    /**
+     * 퀴즈 내용 변경 후 캐시 무효화 (정답표 + 강좌 퀴즈 목록)
+     */
+    private void evictQuizContent(Long quizId) {
+        quizAnswerKeyCache.evict(quizId);
+        quizRepository.findCourseIdById(quizId).ifPresent(quizCatalogCache::evict);
+    }
+
     // ===== Request DTOs =====
 
     @Data
@@ -0,0 +1,89 @@
+package org.zerock.projecttraveler.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.zerock.projecttraveler.dto.ApiResponse;
+import org.zerock.projecttraveler.dto.UserImportDto;
+import org.zerock.projecttraveler.security.SecurityUtils;
+import org.zerock.projecttraveler.service.CourseService;
+import org.zerock.projecttraveler.service.UserImportService;
+
+import java.io.IOException;
+
+@Controller
+@RequestMapping("/admin/users")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminUserController {
+
+    private final UserImportService userImportService;
+    private final CourseService courseService;
+
+    /**
+     * 사용자 일괄 등록 페이지
+     */
+    @GetMapping("/import")
+    public String importPage(Model model) {
+        model.addAttribute("courses", courseService.findAllActiveCourses());
+        model.addAttribute("activePage", "admin-user-import");
+        model.addAttribute("username", SecurityUtils.getCurrentUserDetails()
+                .map(u -> u.getFullName()).orElse("관리자"));
+        model.addAttribute("isAdmin", true);
+
+        return "admin/user-import";
+    }
+
+    /**
+     * 사용자 일괄 등록 API (CSV, 백그라운드 작업으로 실행)
+     */
+    @PostMapping("/api/import")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<UserImportDto.JobStatus>> importUsers(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "courseId", required = false) Long courseId,
+            @RequestParam(value = "note", required = false) String note) {
+        Long adminId = SecurityUtils.getCurrentUserIdOrThrow();
+
+        try {
+            UserImportDto.JobStatus job = userImportService.start(adminId, file, courseId, note);
+            return ResponseEntity.ok(ApiResponse.success("사용자 등록을 시작했습니다.", job));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.error(e.getMessage()));
+        } catch (IOException e) {
+            log.error("사용자 등록 파일 저장 오류", e);
+            return ResponseEntity.internalServerError().body(ApiResponse.error("파일을 읽지 못했습니다."));
+        }
+    }
+
+    /**
+     * 사용자 일괄 등록 작업 진행 상황 API
+     */
+    @GetMapping("/api/import/jobs/{jobId}")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<UserImportDto.JobStatus>> importJob(@PathVariable String jobId) {
+        return userImportService.findJob(jobId)
+                .map(job -> ResponseEntity.ok(ApiResponse.success(importMessage(job), job)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("등록 작업을 찾을 수 없습니다.")));
+    }
+
+    private static String importMessage(UserImportDto.JobStatus job) {
+        return switch (job.getState()) {
+            case RUNNING -> String.format("등록 진행 중입니다. (%,d행 처리)", job.getProcessedRows());
+            case DONE -> String.format("%,d명을 등록했습니다. (중복 %,d행, 오류 %,d행, 강좌 배정 %,d명)",
+                    job.getCreated(), job.getDuplicates(), job.getInvalid(), job.getAssigned());
+            case FAILED -> String.format("등록 중 오류가 발생했습니다. %,d행 처리 후 중단되었습니다. (%s)",
+                    job.getProcessedRows(), job.getError());
+        };
+    }
+}
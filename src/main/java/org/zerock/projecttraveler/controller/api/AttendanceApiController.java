@@ -76,4 +76,18 @@ public class AttendanceApiController {
         AttendanceDto.MonthlyView view = attendanceService.getMonthlyView(userId, y, m);
         return ResponseEntity.ok(ApiResponse.success(view));
     }
+
+    /**
+     * 연간 출석 히트맵 조회
+     * GET /api/attendance/heatmap?year=2026
+     */
+    @GetMapping("/heatmap")
+    public ResponseEntity<ApiResponse<AttendanceDto.YearHeatmap>> getYearHeatmap(
+            @RequestParam(required = false) Integer year) {
+        Long userId = SecurityUtils.getCurrentUserIdOrThrow();
+
+        int y = year != null ? year : LocalDate.now().getYear();
+        AttendanceDto.YearHeatmap heatmap = attendanceService.getYearHeatmap(userId, y);
+        return ResponseEntity.ok(ApiResponse.success(heatmap));
+    }
 }
@@ -10,9 +10,7 @@ import org.zerock.projecttraveler.dto.LearningCompleteRequest;
 import org.zerock.projecttraveler.dto.LearningHeartbeatRequest;
 import org.zerock.projecttraveler.entity.LessonProgress;
 import org.zerock.projecttraveler.security.SecurityUtils;
-import org.zerock.projecttraveler.service.CertificateService;
 import org.zerock.projecttraveler.service.LearningService;
-import org.zerock.projecttraveler.service.QuizService;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -24,8 +22,6 @@ import java.util.Map;
 public class LearningApiController {
 
     private final LearningService learningService;
-    private final CertificateService certificateService;
-    private final QuizService quizService;
 
     /**
      * Heartbeat - 영상 학습 추적 (10~15초마다 호출)
@@ -66,9 +62,8 @@ public class LearningApiController {
             Map<String, Object> data = new HashMap<>();
             data.put("completed", completed);
 
+            // 재수강 완료/수료증 발급은 LessonCompleted 이벤트로 커밋 후 비동기 처리
             if (completed) {
-                quizService.tryCompleteRetake(userId, request.getCourseId());
-                certificateService.tryIssueCertificate(userId, request.getCourseId());
                 return ResponseEntity.ok(ApiResponse.success("레슨을 완료했습니다.", data));
             } else {
                 return ResponseEntity.ok(ApiResponse.success("아직 완료 조건을 충족하지 못했습니다.", data));
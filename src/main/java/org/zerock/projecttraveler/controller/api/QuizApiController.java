@@ -6,7 +6,7 @@ import org.springframework.web.bind.annotation.*;
 import org.zerock.projecttraveler.dto.ApiResponse;
 import org.zerock.projecttraveler.dto.QuizDto;
 import org.zerock.projecttraveler.security.SecurityUtils;
-import org.zerock.projecttraveler.service.CertificateService;
+import org.zerock.projecttraveler.service.QuizAttemptAdmission;
 import org.zerock.projecttraveler.service.QuizService;
 
 import java.util.List;
@@ -18,7 +18,7 @@ import java.util.Map;
 public class QuizApiController {
 
     private final QuizService quizService;
-    private final CertificateService certificateService;
+    private final QuizAttemptAdmission quizAttemptAdmission;
 
     /**
      * 강좌의 퀴즈 조회 (문제 포함, 정답 미포함)
@@ -93,12 +93,11 @@ public class QuizApiController {
         Long userId = SecurityUtils.getCurrentUserIdOrThrow();
 
         try {
-            QuizDto.SubmitResult result = quizService.submitQuiz(userId, request);
-            quizService.getCourseIdByQuizId(request.getQuizId())
-                    .ifPresent(courseId -> certificateService.tryIssueCertificate(userId, courseId));
+            // 합격 시 수료증 발급은 QuizPassed 이벤트로 커밋 후 비동기 처리
+            QuizDto.SubmitResult result = quizAttemptAdmission.submit(userId, request);
             return ResponseEntity.ok(ApiResponse.success(result));
         } catch (IllegalStateException e) {
-            // 응시 불가 상태 (RETAKE_REQUIRED, 이미 합격, 횟수 초과)
+            // 응시 불가 상태 (RETAKE_REQUIRED, 이미 합격, 횟수 초과, 동시 제출 처리 중)
             return ResponseEntity.status(409).body(ApiResponse.error(e.getMessage()));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
@@ -153,6 +152,17 @@ public class QuizApiController {
                 .orElse(ResponseEntity.ok(ApiResponse.error("이 강좌에는 퀴즈가 없습니다.")));
     }
 
+    /**
+     * 강좌의 전체 활성 퀴즈 상태 조회 (퀴즈별 상태 목록, 시도 집계 쿼리 1회)
+     * GET /api/quiz/status/{courseId}/all
+     */
+    @GetMapping("/status/{courseId}/all")
+    public ResponseEntity<?> getQuizStatuses(@PathVariable Long courseId) {
+        Long userId = SecurityUtils.getCurrentUserIdOrThrow();
+        List<QuizDto.QuizStatus> statuses = quizService.getQuizStatusesForCourse(userId, courseId);
+        return ResponseEntity.ok(ApiResponse.success(statuses));
+    }
+
     /**
      * 퀴즈 시도 기록 조회
      * GET /api/quiz/{quizId}/history
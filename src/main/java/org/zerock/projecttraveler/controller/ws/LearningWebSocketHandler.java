@@ -0,0 +1,88 @@
+package org.zerock.projecttraveler.controller.ws;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.zerock.projecttraveler.dto.ApiResponse;
+import org.zerock.projecttraveler.dto.LearningHeartbeatRequest;
+import org.zerock.projecttraveler.service.LearningService;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 학습 heartbeat WebSocket 핸들러 (/ws/learning)
+ *
+ * 프레임 형식 (POST /api/learning/heartbeat 요청 본문과 동일):
+ * {"courseId": 1, "lessonId": 5, "positionSec": 120, "deltaWatchedSec": 10}
+ *
+ * 정상 처리 시 응답 프레임 없음, 실패 시에만 ApiResponse 형식의 에러 프레임 전송
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LearningWebSocketHandler extends TextWebSocketHandler {
+
+    private final LearningService learningService;
+    private final JsonMapper jsonMapper;
+    private final Validator validator;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        log.debug("Learning WebSocket 연결: userId={}, sessionId={}", userId(session), session.getId());
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
+        Long userId = userId(session);
+
+        LearningHeartbeatRequest request;
+        try {
+            request = jsonMapper.readValue(message.getPayload(), LearningHeartbeatRequest.class);
+        } catch (JacksonException e) {
+            sendError(session, "잘못된 요청 형식입니다.");
+            return;
+        }
+
+        Set<ConstraintViolation<LearningHeartbeatRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            sendError(session, violations.iterator().next().getMessage());
+            return;
+        }
+
+        try {
+            learningService.heartbeat(
+                    userId,
+                    request.getCourseId(),
+                    request.getLessonId(),
+                    request.getPositionSec(),
+                    request.getDeltaWatchedSec()
+            );
+        } catch (IllegalArgumentException e) {
+            sendError(session, e.getMessage());
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        log.debug("Learning WebSocket 종료: userId={}, sessionId={}, status={}", userId(session), session.getId(), status);
+    }
+
+    private Long userId(WebSocketSession session) {
+        return (Long) session.getAttributes().get(UserIdHandshakeInterceptor.USER_ID_ATTR);
+    }
+
+    private void sendError(WebSocketSession session, String message) throws IOException {
+        if (session.isOpen()) {
+            session.sendMessage(new TextMessage(jsonMapper.writeValueAsString(ApiResponse.error(message))));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.zerock.projecttraveler.controller.ws;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.zerock.projecttraveler.security.SecurityUtils;
+
+import java.util.Map;
+
+/**
+ * 핸드셰이크 시 SecurityContext의 사용자 ID를 세션 속성에 고정
+ * 중요: userId는 클라이언트 프레임이 아닌 핸드셰이크 인증 정보로만 결정
+ */
+@Component
+public class UserIdHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String USER_ID_ATTR = "userId";
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        Long userId = SecurityUtils.getCurrentUserId().orElse(null);
+        if (userId == null) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+        attributes.put(USER_ID_ATTR, userId);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+}
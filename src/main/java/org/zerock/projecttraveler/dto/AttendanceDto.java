@@ -55,6 +55,19 @@ public class AttendanceDto {
         private boolean future;
     }
 
+    // 연간 출석 히트맵
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class YearHeatmap {
+        private int year;
+        private int firstDayOfWeek;    // 1월 1일 요일 (1=월 ~ 7=일)
+        private int totalDays;
+        private int[] monthlyCounts;   // 1~12월 출석일 수
+        private boolean[] attended;    // 1월 1일부터 날짜별 출석 여부
+    }
+
     public static AttendanceDto from(AttendanceDaily attendance) {
         DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
         DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
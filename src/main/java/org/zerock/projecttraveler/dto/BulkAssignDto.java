@@ -0,0 +1,65 @@
+package org.zerock.projecttraveler.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class BulkAssignDto {
+
+    /**
+     * 사용자별 배정 결과
+     */
+    public enum Outcome {
+        ASSIGNED,          // 새로 배정
+        PROMOTED,          // 신청/반려 상태에서 배정으로 변경
+        ALREADY_ENROLLED,  // 이미 수강 중 (변경 없음)
+        USER_NOT_FOUND,    // 존재하지 않는 사용자
+        FAILED             // 청크 트랜잭션 실패로 반영되지 않음
+    }
+
+    public enum State {
+        RUNNING,
+        DONE,
+        FAILED   // 처리 중 오류 (이미 커밋된 청크는 유지)
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class UserOutcome {
+        private Long userId;
+        private Outcome outcome;
+    }
+
+    /**
+     * 배정 작업 진행 상황 (완료/실패 시 사용자별 결과 포함)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JobStatus {
+        private String jobId;
+        private Long courseId;
+        private State state;
+        private Integer total;
+        private Integer processed;
+        private Integer assigned;
+        private Integer promoted;
+        private Integer alreadyEnrolled;
+        private Integer userNotFound;
+        private Integer failed;
+        private String error;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+        private List<UserOutcome> outcomes;
+
+        /**
+         * 실제로 배정된 사용자 수 (새로 배정 + 상태 변경)
+         */
+        public int getChangedCount() {
+            return (assigned != null ? assigned : 0) + (promoted != null ? promoted : 0);
+        }
+    }
+}
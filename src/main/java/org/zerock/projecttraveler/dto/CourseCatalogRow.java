@@ -0,0 +1,39 @@
+package org.zerock.projecttraveler.dto;
+
+import org.zerock.projecttraveler.entity.CourseEnrollment;
+
+/**
+ * 강좌 목록 화면의 강좌 1건 (강좌 레슨 수 + 현재 사용자의 수강 상태/레슨 카운터)
+ *
+ * 전체 활성 강좌를 한 번의 GROUP BY 쿼리로 조회한다 (CourseEnrollmentRepository.findCatalogRows).
+ * 수강 정보가 없으면 enrollmentId/status/카운터는 null.
+ */
+public record CourseCatalogRow(
+        Long courseId,
+        long lessonCount,
+        Long enrollmentId,
+        CourseEnrollment.Status status,
+        Integer completedLessonCount,
+        Integer totalLessonCount
+) {
+
+    public boolean isEnrolled() {
+        return enrollmentId != null;
+    }
+
+    // 학습 가능한 상태인지 확인 (CourseEnrollment.isAccessible과 동일)
+    public boolean isAccessible() {
+        return status == CourseEnrollment.Status.APPROVED ||
+               status == CourseEnrollment.Status.ASSIGNED ||
+               status == CourseEnrollment.Status.COMPLETED ||
+               status == CourseEnrollment.Status.PAUSED;
+    }
+
+    public int progressPercent() {
+        if (!isEnrolled()) return 0;
+        return new LessonCounters(
+                completedLessonCount != null ? completedLessonCount : 0,
+                totalLessonCount != null ? totalLessonCount : 0
+        ).progressPercent();
+    }
+}
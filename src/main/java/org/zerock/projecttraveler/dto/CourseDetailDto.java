@@ -89,6 +89,10 @@ public class CourseDetailDto {
         private String videoUrl;
         private boolean isPreview;
 
+        // 이전/다음 레슨 (강좌 전체 순서 기준)
+        private Long prevLessonId;
+        private Long nextLessonId;
+
         // 진도 정보
         private String status; // 완료, 진행중, 미시작
         private int progressPercent;
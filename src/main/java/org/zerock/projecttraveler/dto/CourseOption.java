@@ -0,0 +1,10 @@
+package org.zerock.projecttraveler.dto;
+
+/**
+ * 관리자 화면 강좌 선택 목록 1건 (엔티티 대신 ID/제목만 조회)
+ */
+public record CourseOption(
+        Long id,
+        String title
+) {
+}
@@ -0,0 +1,183 @@
+package org.zerock.projecttraveler.dto;
+
+import org.zerock.projecttraveler.entity.Course;
+import org.zerock.projecttraveler.entity.CourseUnit;
+import org.zerock.projecttraveler.entity.Lesson;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 강좌 커리큘럼 스냅샷 (불변, CurriculumCache 캐시 값)
+ *
+ * 강좌 상세 화면에서 사용자와 무관한 부분(강좌 정보, 유닛/레슨 순서, 시간 문자열,
+ * 이전/다음 레슨)을 미리 계산해 둔다. 사용자별 진도는 요청 시 덧씌운다.
+ * - units: "기본 커리큘럼"(유닛 미지정 레슨, id 0)이 있으면 맨 앞
+ * - lessons: 강좌 전체 레슨 (sortOrder 순), position = 이 목록에서의 인덱스
+ */
+public record CurriculumSnapshot(
+        long courseId,
+        long version,
+        String title,
+        String shortDesc,
+        String fullDesc,
+        String thumbnailUrl,
+        String category,
+        String categoryDisplayName,
+        String level,
+        String levelDisplayName,
+        String formattedDuration,
+        String enrollPolicy,
+        List<UnitSnapshot> units,
+        List<LessonSnapshot> lessons,
+        Map<Long, Integer> positionByLessonId
+) {
+
+    public record UnitSnapshot(
+            long id,
+            String title,
+            int sortOrder,
+            String formattedDuration,
+            List<LessonSnapshot> lessons
+    ) {}
+
+    public record LessonSnapshot(
+            long id,
+            String title,
+            int sortOrder,
+            int durationSec,
+            String formattedDuration,
+            String videoType,
+            String videoUrl,
+            boolean preview,
+            int position,
+            Long prevLessonId,
+            Long nextLessonId
+    ) {}
+
+    /**
+     * 레슨 ID로 조회 (이 강좌의 레슨이 아니면 null)
+     */
+    public LessonSnapshot lesson(Long lessonId) {
+        Integer position = lessonId != null ? positionByLessonId.get(lessonId) : null;
+        return position != null ? lessons.get(position) : null;
+    }
+
+    public int totalLessonCount() {
+        return lessons.size();
+    }
+
+    /**
+     * 사용자별 정보가 비어 있는 상세 DTO 생성 (요청마다 새 객체)
+     */
+    public CourseDetailDto toCourseDetailDto() {
+        return CourseDetailDto.builder()
+                .id(courseId)
+                .title(title)
+                .shortDesc(shortDesc)
+                .fullDesc(fullDesc)
+                .thumbnailUrl(thumbnailUrl)
+                .category(category)
+                .categoryDisplayName(categoryDisplayName)
+                .level(level)
+                .levelDisplayName(levelDisplayName)
+                .formattedDuration(formattedDuration)
+                .totalLessonCount(lessons.size())
+                .totalUnitCount(units.size() - (hasDefaultUnit() ? 1 : 0))
+                .build();
+    }
+
+    private boolean hasDefaultUnit() {
+        return !units.isEmpty() && units.get(0).id() == 0L;
+    }
+
+    /**
+     * 엔티티로부터 스냅샷 생성
+     * @param units 유닛 목록 (레슨 fetch join, sortOrder 순)
+     * @param allLessons 강좌 전체 레슨 (sortOrder 순)
+     */
+    public static CurriculumSnapshot of(Course course, List<CourseUnit> units, List<Lesson> allLessons, long version) {
+        // 전체 레슨 (이전/다음 링크 포함)
+        List<LessonSnapshot> lessons = new ArrayList<>(allLessons.size());
+        Map<Long, Integer> positionByLessonId = new HashMap<>();
+        for (int i = 0; i < allLessons.size(); i++) {
+            Lesson lesson = allLessons.get(i);
+            lessons.add(new LessonSnapshot(
+                    lesson.getId(),
+                    lesson.getTitle(),
+                    lesson.getSortOrder() != null ? lesson.getSortOrder() : 0,
+                    lesson.getDurationSec() != null ? lesson.getDurationSec() : 0,
+                    lesson.getFormattedDuration(),
+                    lesson.getVideoType().name(),
+                    lesson.getVideoUrl(),
+                    Boolean.TRUE.equals(lesson.getIsPreview()),
+                    i,
+                    i > 0 ? allLessons.get(i - 1).getId() : null,
+                    i < allLessons.size() - 1 ? allLessons.get(i + 1).getId() : null
+            ));
+            positionByLessonId.put(lesson.getId(), i);
+        }
+
+        List<UnitSnapshot> unitSnapshots = new ArrayList<>();
+
+        // 유닛에 속하지 않은 레슨들 (unit_id가 NULL인 레슨들) → 기본 유닛
+        List<LessonSnapshot> unassigned = new ArrayList<>();
+        for (int i = 0; i < allLessons.size(); i++) {
+            if (allLessons.get(i).getUnit() == null) {
+                unassigned.add(lessons.get(i));
+            }
+        }
+        if (!unassigned.isEmpty()) {
+            unitSnapshots.add(new UnitSnapshot(0L, "기본 커리큘럼", 0,
+                    formatLessonsTotalDuration(unassigned), List.copyOf(unassigned)));
+        }
+
+        for (CourseUnit unit : units) {
+            List<LessonSnapshot> unitLessons = new ArrayList<>(unit.getLessons().size());
+            for (Lesson lesson : unit.getLessons()) {
+                Integer position = positionByLessonId.get(lesson.getId());
+                if (position != null) {
+                    unitLessons.add(lessons.get(position));
+                }
+            }
+            unitSnapshots.add(new UnitSnapshot(
+                    unit.getId(),
+                    unit.getTitle(),
+                    unit.getSortOrder() != null ? unit.getSortOrder() : 0,
+                    unit.getFormattedDuration(),
+                    List.copyOf(unitLessons)));
+        }
+
+        return new CurriculumSnapshot(
+                course.getId(),
+                version,
+                course.getTitle(),
+                course.getShortDesc(),
+                course.getFullDesc(),
+                course.getThumbnailUrl(),
+                course.getCategory() != null ? course.getCategory().name() : null,
+                course.getCategoryDisplayName(),
+                course.getLevel() != null ? course.getLevel().name() : null,
+                course.getLevelDisplayName(),
+                course.getFormattedDuration(),
+                course.getEnrollPolicy().name(),
+                List.copyOf(unitSnapshots),
+                List.copyOf(lessons),
+                Map.copyOf(positionByLessonId)
+        );
+    }
+
+    private static String formatLessonsTotalDuration(List<LessonSnapshot> lessons) {
+        int totalSec = lessons.stream().mapToInt(LessonSnapshot::durationSec).sum();
+        if (totalSec == 0) return "미정";
+        int minutes = totalSec / 60;
+        if (minutes >= 60) {
+            int hours = minutes / 60;
+            int remainingMin = minutes % 60;
+            return remainingMin > 0 ? String.format("약 %d시간 %d분", hours, remainingMin) : String.format("약 %d시간", hours);
+        }
+        return String.format("약 %d분", minutes);
+    }
+}
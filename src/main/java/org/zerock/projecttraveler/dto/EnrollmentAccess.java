@@ -0,0 +1,31 @@
+package org.zerock.projecttraveler.dto;
+
+import org.zerock.projecttraveler.entity.CourseEnrollment;
+
+/**
+ * 수강 권한 판정에 필요한 최소 정보 (EnrollmentAccessCache 캐시 값)
+ */
+public record EnrollmentAccess(
+        long enrollmentId,
+        CourseEnrollment.Status status,
+        CourseEnrollment.QuizStatus quizStatus,
+        int quizCycle
+) {
+
+    public static EnrollmentAccess from(CourseEnrollment enrollment) {
+        return new EnrollmentAccess(
+                enrollment.getId(),
+                enrollment.getStatus(),
+                enrollment.getQuizStatus(),
+                enrollment.getQuizCycle()
+        );
+    }
+
+    // 학습 가능한 상태인지 확인 (CourseEnrollment.isAccessible과 동일)
+    public boolean isAccessible() {
+        return status == CourseEnrollment.Status.APPROVED ||
+               status == CourseEnrollment.Status.ASSIGNED ||
+               status == CourseEnrollment.Status.COMPLETED ||
+               status == CourseEnrollment.Status.PAUSED;
+    }
+}
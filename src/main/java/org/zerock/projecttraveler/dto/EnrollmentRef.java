@@ -0,0 +1,11 @@
+package org.zerock.projecttraveler.dto;
+
+/**
+ * 수강 행 식별 정보 (일괄 상태 변경 후 캐시 무효화/학습 요약 갱신 대상)
+ */
+public record EnrollmentRef(
+        long enrollmentId,
+        long userId,
+        long courseId
+) {
+}
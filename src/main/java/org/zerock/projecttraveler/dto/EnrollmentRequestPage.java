@@ -0,0 +1,21 @@
+package org.zerock.projecttraveler.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 수강 신청 대기열 한 페이지 (키셋 페이지네이션)
+ *
+ * 다음 페이지는 마지막 행의 (requestedAt, id) 이후부터 조회한다.
+ * 다음 페이지가 없으면 nextAfterAt/nextAfterId는 null.
+ */
+public record EnrollmentRequestPage(
+        List<EnrollmentDto> items,
+        LocalDateTime nextAfterAt,
+        Long nextAfterId
+) {
+
+    public boolean hasNext() {
+        return nextAfterId != null;
+    }
+}
@@ -0,0 +1,36 @@
+package org.zerock.projecttraveler.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아직 DB에 반영되지 않은 heartbeat 집계 값 (userId + lessonId 단위)
+ * - positionSec: 가장 최근 heartbeat의 재생 위치
+ * - watchedDeltaSec: 마지막 flush 이후 누적된 시청 시간
+ * - coverage: 마지막 flush 이후 시청한 구간 비트맵 (WatchCoverage)
+ */
+public record LearningHeartbeatSample(
+        long userId,
+        long courseId,
+        long lessonId,
+        int positionSec,
+        int watchedDeltaSec,
+        LocalDateTime lastBeatAt,
+        byte[] coverage
+) {
+
+    /**
+     * 두 샘플 병합 - 시청 시간은 합산, 시청 구간은 OR, 위치는 더 최근 샘플 기준
+     */
+    public LearningHeartbeatSample merge(LearningHeartbeatSample other) {
+        LearningHeartbeatSample latest = other.lastBeatAt.isBefore(this.lastBeatAt) ? this : other;
+        return new LearningHeartbeatSample(
+                userId,
+                latest.courseId,
+                lessonId,
+                latest.positionSec,
+                watchedDeltaSec + other.watchedDeltaSec,
+                latest.lastBeatAt,
+                WatchCoverage.or(coverage, other.coverage)
+        );
+    }
+}
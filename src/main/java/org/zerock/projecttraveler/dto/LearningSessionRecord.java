@@ -0,0 +1,28 @@
+package org.zerock.projecttraveler.dto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * heartbeat 흐름에서 만든 학습 세션 (userId 단위, 레슨이 바뀌거나 유휴 시간이 지나면 종료)
+ * - endedAt: 마지막 heartbeat 시각
+ */
+public record LearningSessionRecord(
+        long userId,
+        long courseId,
+        long lessonId,
+        LocalDateTime startedAt,
+        LocalDateTime endedAt
+) {
+
+    /**
+     * 새 heartbeat로 세션 연장
+     */
+    public LearningSessionRecord extend(LocalDateTime beatAt) {
+        return new LearningSessionRecord(userId, courseId, lessonId, startedAt, beatAt);
+    }
+
+    public int durationSec() {
+        return (int) Math.max(0, Duration.between(startedAt, endedAt).getSeconds());
+    }
+}
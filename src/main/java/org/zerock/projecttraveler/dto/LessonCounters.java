@@ -0,0 +1,16 @@
+package org.zerock.projecttraveler.dto;
+
+/**
+ * 수강의 레슨 완료 카운터 (course_enrollment.completed_lesson_count / total_lesson_count)
+ */
+public record LessonCounters(int completedLessonCount, int totalLessonCount) {
+
+    public int progressPercent() {
+        if (totalLessonCount == 0) return 0;
+        return Math.min(100, completedLessonCount * 100 / totalLessonCount);
+    }
+
+    public boolean allCompleted() {
+        return totalLessonCount > 0 && completedLessonCount >= totalLessonCount;
+    }
+}
@@ -26,6 +26,12 @@ public class MyLearningSummaryDto {
     // 총 학습 시간 (포맷: "45시간 30분")
     private String totalLearningTimeFormatted;
 
+    // 이번 주 학습 시간 (초, 학습 세션 기준)
+    private long thisWeekLearningTimeSec;
+
+    // 이번 주 학습 시간 (포맷)
+    private String thisWeekLearningTimeFormatted;
+
     // 총 출석일
     private long totalAttendanceDays;
 
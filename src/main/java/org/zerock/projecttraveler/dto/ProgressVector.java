@@ -0,0 +1,98 @@
+package org.zerock.projecttraveler.dto;
+
+/**
+ * 사용자 1명 × 강좌 1개의 레슨 진도 (원시 배열, 커리큘럼 레슨 순서 인덱스)
+ *
+ * LessonProgress 엔티티 대신 (lessonId, watchedSec, lastPositionSec, completed)만 담는다.
+ * 인덱스는 CurriculumSnapshot.lessons()의 position과 같다.
+ * 조회 시에만 put()으로 채우고, 이후에는 읽기 전용으로 사용한다.
+ */
+public final class ProgressVector {
+
+    private final CurriculumSnapshot curriculum;
+    private final int[] watchedSec;
+    private final int[] lastPositionSec;
+    private final boolean[] completed;
+    private final boolean[] started;
+
+    private int completedCount;
+    private long totalWatchedSec;
+
+    public ProgressVector(CurriculumSnapshot curriculum) {
+        int size = curriculum.totalLessonCount();
+        this.curriculum = curriculum;
+        this.watchedSec = new int[size];
+        this.lastPositionSec = new int[size];
+        this.completed = new boolean[size];
+        this.started = new boolean[size];
+    }
+
+    /**
+     * 진도 행 1건 반영 (커리큘럼에 없는 레슨은 무시)
+     */
+    public void put(long lessonId, int watched, int lastPosition, boolean isCompleted) {
+        Integer position = curriculum.positionByLessonId().get(lessonId);
+        if (position == null) return;
+
+        int i = position;
+        if (completed[i]) completedCount--;
+        totalWatchedSec -= watchedSec[i];
+
+        watchedSec[i] = watched;
+        lastPositionSec[i] = lastPosition;
+        completed[i] = isCompleted;
+        started[i] = true;
+
+        if (isCompleted) completedCount++;
+        totalWatchedSec += watched;
+    }
+
+    public int lessonCount() {
+        return watchedSec.length;
+    }
+
+    /**
+     * 진도 행이 있는 레슨인지
+     */
+    public boolean hasProgress(int position) {
+        return started[position];
+    }
+
+    public int watchedSec(int position) {
+        return watchedSec[position];
+    }
+
+    public int lastPositionSec(int position) {
+        return lastPositionSec[position];
+    }
+
+    public boolean completed(int position) {
+        return completed[position];
+    }
+
+    /**
+     * 레슨 진도율 (LessonProgress.getProgressPercent와 동일 규칙: 완료 전 최대 99%)
+     */
+    public int progressPercent(int position) {
+        if (completed[position]) return 100;
+        int durationSec = curriculum.lessons().get(position).durationSec();
+        if (durationSec == 0) return 0;
+        int percent = (int) ((watchedSec[position] * 100.0) / durationSec);
+        return Math.min(percent, 99);
+    }
+
+    public int completedCount() {
+        return completedCount;
+    }
+
+    public long totalWatchedSec() {
+        return totalWatchedSec;
+    }
+
+    /**
+     * 강좌 진도율 (완료 레슨 수 / 전체 레슨 수)
+     */
+    public int courseProgressPercent() {
+        return lessonCount() == 0 ? 0 : completedCount * 100 / lessonCount();
+    }
+}
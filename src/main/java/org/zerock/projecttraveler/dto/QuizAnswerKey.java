@@ -0,0 +1,156 @@
+package org.zerock.projecttraveler.dto;
+
+import org.zerock.projecttraveler.entity.Quiz;
+import org.zerock.projecttraveler.entity.QuizOption;
+import org.zerock.projecttraveler.entity.QuizQuestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 퀴즈 정답표 (불변, QuizAnswerKeyCache 보관)
+ *
+ * 채점에 필요한 값만 원시 배열로 담는다.
+ * - questionIds: 문제 ID 오름차순 (이진 탐색으로 questionId → 인덱스)
+ * - correctOptionIds / points: 같은 인덱스의 정답 선택지 ID(-1 = 정답 없음) / 배점
+ * - optionIds / optionQuestionIndex: 선택지 ID 오름차순과 그 선택지가 속한 문제 인덱스
+ */
+public final class QuizAnswerKey {
+
+    public static final long NO_CORRECT_OPTION = -1L;
+
+    private final long quizId;
+    private final long courseId;
+    private final long version;
+    private final int totalQuestions;
+
+    private final long[] questionIds;
+    private final long[] correctOptionIds;
+    private final int[] points;
+
+    private final long[] optionIds;
+    private final int[] optionQuestionIndex;
+
+    private QuizAnswerKey(long quizId, long courseId, long version, int totalQuestions,
+                          long[] questionIds, long[] correctOptionIds, int[] points,
+                          long[] optionIds, int[] optionQuestionIndex) {
+        this.quizId = quizId;
+        this.courseId = courseId;
+        this.version = version;
+        this.totalQuestions = totalQuestions;
+        this.questionIds = questionIds;
+        this.correctOptionIds = correctOptionIds;
+        this.points = points;
+        this.optionIds = optionIds;
+        this.optionQuestionIndex = optionQuestionIndex;
+    }
+
+    /**
+     * 퀴즈 엔티티(문제/선택지 fetch 완료)로부터 정답표 생성
+     */
+    public static QuizAnswerKey of(Quiz quiz, long version) {
+        QuizQuestion[] questions = quiz.getQuestions().stream()
+                .distinct()
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .toArray(QuizQuestion[]::new);
+
+        int n = questions.length;
+        long[] questionIds = new long[n];
+        long[] correctOptionIds = new long[n];
+        int[] points = new int[n];
+
+        // fetch join 결과의 중복 행 제거
+        List<List<QuizOption>> optionsByQuestion = new ArrayList<>(n);
+        int optionCount = 0;
+        for (QuizQuestion q : questions) {
+            List<QuizOption> options = q.getOptions().stream().distinct().toList();
+            optionsByQuestion.add(options);
+            optionCount += options.size();
+        }
+        long[][] optionRows = new long[optionCount][];
+
+        int row = 0;
+        for (int i = 0; i < n; i++) {
+            QuizQuestion q = questions[i];
+            questionIds[i] = q.getId();
+            points[i] = q.getPoints() != null ? q.getPoints() : 1;
+            correctOptionIds[i] = NO_CORRECT_OPTION;
+
+            for (QuizOption o : optionsByQuestion.get(i)) {
+                // 정답이 여러 개면 첫 번째 정답 기준 (기존 채점 규칙과 동일)
+                if (correctOptionIds[i] == NO_CORRECT_OPTION && Boolean.TRUE.equals(o.getIsCorrect())) {
+                    correctOptionIds[i] = o.getId();
+                }
+                optionRows[row++] = new long[]{o.getId(), i};
+            }
+        }
+
+        Arrays.sort(optionRows, (a, b) -> Long.compare(a[0], b[0]));
+        long[] optionIds = new long[optionCount];
+        int[] optionQuestionIndex = new int[optionCount];
+        for (int i = 0; i < optionCount; i++) {
+            optionIds[i] = optionRows[i][0];
+            optionQuestionIndex[i] = (int) optionRows[i][1];
+        }
+
+        return new QuizAnswerKey(quiz.getId(), quiz.getCourse().getId(), version, n,
+                questionIds, correctOptionIds, points, optionIds, optionQuestionIndex);
+    }
+
+    public long quizId() {
+        return quizId;
+    }
+
+    public long courseId() {
+        return courseId;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int totalQuestions() {
+        return totalQuestions;
+    }
+
+    /**
+     * 문제 인덱스 (퀴즈에 없는 문제면 -1)
+     */
+    public int indexOf(long questionId) {
+        int i = Arrays.binarySearch(questionIds, questionId);
+        return i >= 0 ? i : -1;
+    }
+
+    /**
+     * 정답 선택지 ID (정답이 지정되지 않은 문제면 NO_CORRECT_OPTION)
+     */
+    public long correctOptionId(int index) {
+        return correctOptionIds[index];
+    }
+
+    public int points(int index) {
+        return points[index];
+    }
+
+    public boolean isCorrect(int index, Long selectedOptionId) {
+        return selectedOptionId != null
+                && correctOptionIds[index] != NO_CORRECT_OPTION
+                && correctOptionIds[index] == selectedOptionId;
+    }
+
+    /**
+     * 선택지가 이 퀴즈에 속하는지 (어느 문제든)
+     */
+    public boolean hasOption(long optionId) {
+        return Arrays.binarySearch(optionIds, optionId) >= 0;
+    }
+
+    /**
+     * 선택지가 속한 문제 인덱스 (퀴즈에 없는 선택지면 -1)
+     */
+    public int questionIndexOfOption(long optionId) {
+        int i = Arrays.binarySearch(optionIds, optionId);
+        return i >= 0 ? optionQuestionIndex[i] : -1;
+    }
+}
@@ -0,0 +1,39 @@
+package org.zerock.projecttraveler.dto;
+
+import org.zerock.projecttraveler.entity.CourseEnrollment;
+
+/**
+ * 사용자의 퀴즈별 시도 집계 (quiz_attempt GROUP BY quiz_id 한 행)
+ *
+ * 퀴즈 상태 계산에 필요한 값(최고 점수, 합격 여부, 전체/사이클 내 시도 수)을 한 번의 집계 쿼리로 얻는다.
+ * 시도 기록이 없는 퀴즈는 집계 결과에 없으므로 empty(quizId) 사용.
+ */
+public record QuizAttemptStats(
+        Long quizId,
+        Integer bestScore,
+        long attemptCount,
+        long passedCount,
+        long attemptsInCycle,
+        long passedInCycle
+) {
+
+    public static QuizAttemptStats empty(Long quizId) {
+        return new QuizAttemptStats(quizId, null, 0, 0, 0, 0);
+    }
+
+    public boolean hasPassed() {
+        return passedCount > 0;
+    }
+
+    /**
+     * 현재 사이클 기준 퀴즈별 상태 (enrollment.quizStatus 대신 사용)
+     * - 사이클 내 합격 기록 있음: PASSED
+     * - 사이클 내 시도 0회: IN_PROGRESS / 1회: RETRY_ALLOWED / 2회 이상: RETAKE_REQUIRED
+     */
+    public CourseEnrollment.QuizStatus status() {
+        if (passedInCycle > 0) return CourseEnrollment.QuizStatus.PASSED;
+        if (attemptsInCycle == 0) return CourseEnrollment.QuizStatus.IN_PROGRESS;
+        if (attemptsInCycle == 1) return CourseEnrollment.QuizStatus.RETRY_ALLOWED;
+        return CourseEnrollment.QuizStatus.RETAKE_REQUIRED;
+    }
+}
@@ -0,0 +1,52 @@
+package org.zerock.projecttraveler.dto;
+
+import org.zerock.projecttraveler.entity.Quiz;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 강좌의 활성 퀴즈 목록 스냅샷 (QuizCatalogCache 캐시 값)
+ *
+ * 문제/선택지까지 담은 QuizInfo(정답 미포함)를 퀴즈 ID 순으로 미리 만들어 둔다.
+ * 캐시된 객체를 여러 요청이 공유하므로 호출 측은 읽기만 해야 한다.
+ * - quizzes: 강좌 전체 활성 퀴즈 (ID 오름차순)
+ * - quizzesByLesson: 레슨에 연결된 퀴즈만 레슨 ID별로 (ID 오름차순)
+ */
+public record QuizCatalog(
+        long courseId,
+        long version,
+        List<QuizDto.QuizInfo> quizzes,
+        Map<Long, List<QuizDto.QuizInfo>> quizzesByLesson
+) {
+
+    /**
+     * 레슨의 퀴즈 목록 (없으면 빈 목록)
+     */
+    public List<QuizDto.QuizInfo> forLesson(Long lessonId) {
+        return quizzesByLesson.getOrDefault(lessonId, List.of());
+    }
+
+    /**
+     * 엔티티로부터 스냅샷 생성
+     * @param quizzes 활성 퀴즈 (ID 순, 문제/선택지 초기화 완료)
+     */
+    public static QuizCatalog of(long courseId, List<Quiz> quizzes, long version) {
+        List<QuizDto.QuizInfo> infos = new ArrayList<>(quizzes.size());
+        Map<Long, List<QuizDto.QuizInfo>> byLesson = new LinkedHashMap<>();
+
+        for (Quiz quiz : quizzes) {
+            QuizDto.QuizInfo info = QuizDto.QuizInfo.from(quiz, false);
+            infos.add(info);
+            if (quiz.getLesson() != null) {
+                byLesson.computeIfAbsent(quiz.getLesson().getId(), k -> new ArrayList<>()).add(info);
+            }
+        }
+
+        Map<Long, List<QuizDto.QuizInfo>> frozen = new LinkedHashMap<>();
+        byLesson.forEach((lessonId, list) -> frozen.put(lessonId, List.copyOf(list)));
+        return new QuizCatalog(courseId, version, List.copyOf(infos), Map.copyOf(frozen));
+    }
+}
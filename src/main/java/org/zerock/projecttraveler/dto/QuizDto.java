@@ -7,6 +7,7 @@ import org.zerock.projecttraveler.entity.QuizOption;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class QuizDto {
@@ -202,4 +203,31 @@ public class QuizDto {
         private Boolean isCorrect;
         private String explanation;  // 해설 (추후 확장용)
     }
+
+    /**
+     * 문제별 응답 통계 (관리자 퀴즈 상세, quiz_question_stat / quiz_option_stat 롤업 기준)
+     * - correctRate: 정답률 % (난이도 지표, 낮을수록 어려움)
+     * - discrimination: 합격자 정답률 - 불합격자 정답률 (-1.0 ~ 1.0, 한쪽 응답이 없으면 null)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class QuestionAnalysis {
+        private Long questionId;
+        private Long answeredCount;
+        private Integer correctRate;
+        private Double discrimination;
+        private Map<Long, OptionAnalysis> options; // optionId → 선택 통계
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OptionAnalysis {
+        private Long optionId;
+        private Long selectedCount;
+        private Integer selectedRate; // 문제 응답 대비 선택 비율 %
+    }
 }
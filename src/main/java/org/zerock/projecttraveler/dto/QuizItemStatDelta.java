@@ -0,0 +1,43 @@
+package org.zerock.projecttraveler.dto;
+
+/**
+ * 문제/선택지 집계 증분 (QuizItemStatsAggregator 버퍼 값, flush 시 롤업 테이블에 더함)
+ */
+public final class QuizItemStatDelta {
+
+    private QuizItemStatDelta() {
+    }
+
+    public record Question(
+            long questionId,
+            long quizId,
+            long answered,
+            long correct,
+            long passedAnswered,
+            long passedCorrect
+    ) {
+
+        public Question merge(Question other) {
+            return new Question(questionId, quizId,
+                    answered + other.answered,
+                    correct + other.correct,
+                    passedAnswered + other.passedAnswered,
+                    passedCorrect + other.passedCorrect);
+        }
+    }
+
+    public record Option(
+            long optionId,
+            long questionId,
+            long quizId,
+            long selected,
+            long passedSelected
+    ) {
+
+        public Option merge(Option other) {
+            return new Option(optionId, questionId, quizId,
+                    selected + other.selected,
+                    passedSelected + other.passedSelected);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.zerock.projecttraveler.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class UserImportDto {
+
+    public enum State {
+        RUNNING,
+        DONE,
+        FAILED   // 처리 중 오류 (이미 커밋된 청크는 유지)
+    }
+
+    public enum Problem {
+        INVALID,    // 필수 값 누락/길이 초과
+        DUPLICATE   // 이미 사용 중이거나 파일 안에서 중복된 아이디
+    }
+
+    /**
+     * 등록하지 않은 행 (파일 행 번호 기준)
+     */
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RowProblem {
+        private Long line;
+        private String username;
+        private Problem problem;
+        private String reason;
+    }
+
+    /**
+     * 사용자 일괄 등록 작업 진행 상황
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JobStatus {
+        private String jobId;
+        private String fileName;
+        private Long courseId;
+        private State state;
+        private Long processedRows;
+        private Long created;
+        private Long duplicates;
+        private Long invalid;
+        private Long assigned;
+        private List<RowProblem> problems;
+        private Boolean problemsTruncated;
+        private String error;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+    }
+}
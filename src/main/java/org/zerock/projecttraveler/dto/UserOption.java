@@ -0,0 +1,11 @@
+package org.zerock.projecttraveler.dto;
+
+/**
+ * 관리자 화면 사용자 검색 결과 1건
+ */
+public record UserOption(
+        Long id,
+        String username,
+        String fullName
+) {
+}
@@ -0,0 +1,112 @@
+package org.zerock.projecttraveler.dto;
+
+import java.util.Arrays;
+
+/**
+ * 레슨 시청 구간 비트맵 (lesson_progress.watched_coverage)
+ *
+ * 영상을 SEGMENT_SEC 단위 구간으로 나누어 구간마다 1비트를 둔다 (i번째 비트 = [i*5, i*5+5)초).
+ * 반복 시청/탐색은 같은 비트를 다시 켜므로 누적 시청 시간(watchedSec)과 달리 부풀려지지 않는다.
+ * 병합은 비트 OR, 시청 구간 수는 popcount.
+ */
+public final class WatchCoverage {
+
+    public static final int SEGMENT_SEC = 5;
+
+    // 최대 1024바이트 = 8192구간 (약 11시간). 그 이후 구간은 기록하지 않음
+    public static final int MAX_BYTES = 1024;
+
+    private WatchCoverage() {
+    }
+
+    /**
+     * [fromSec, toSec) 구간을 비트맵에 표시한 새 배열 반환 (원본은 변경하지 않음, null 허용)
+     */
+    public static byte[] mark(byte[] bits, int fromSec, int toSec) {
+        int from = Math.max(0, fromSec);
+        if (toSec <= from) return bits;
+
+        int firstSeg = from / SEGMENT_SEC;
+        int lastSeg = Math.min((toSec - 1) / SEGMENT_SEC, MAX_BYTES * 8 - 1);
+        if (firstSeg > lastSeg) return bits;
+
+        int needed = lastSeg / 8 + 1;
+        byte[] result = bits == null
+                ? new byte[needed]
+                : Arrays.copyOf(bits, Math.max(bits.length, needed));
+        for (int seg = firstSeg; seg <= lastSeg; seg++) {
+            result[seg >> 3] |= (byte) (1 << (seg & 7));
+        }
+        return result;
+    }
+
+    /**
+     * heartbeat 한 건의 시청 구간 표시 (재생 위치 기준 직전 deltaWatchedSec초)
+     */
+    public static byte[] ofHeartbeat(int positionSec, int deltaWatchedSec) {
+        return mark(null, positionSec - deltaWatchedSec, positionSec);
+    }
+
+    /**
+     * 비트맵이 없는 진도(비트맵 도입 전 행)의 초기 비트맵
+     * 누적 시청 시간만큼 앞에서부터 본 것으로 간주 → watched_sec 기준 시청 비율을 그대로 이어받음
+     */
+    public static byte[] seedIfAbsent(byte[] bits, int watchedSec) {
+        if (bits != null) return bits;
+        return mark(null, 0, watchedSec);
+    }
+
+    /**
+     * 두 비트맵 병합 (비트 OR, null 허용)
+     */
+    public static byte[] or(byte[] a, byte[] b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        byte[] longer = a.length >= b.length ? a : b;
+        byte[] shorter = longer == a ? b : a;
+        byte[] result = longer.clone();
+        for (int i = 0; i < shorter.length; i++) {
+            result[i] |= shorter[i];
+        }
+        return result;
+    }
+
+    /**
+     * 시청한 구간 수
+     */
+    public static int countSegments(byte[] bits) {
+        if (bits == null) return 0;
+        int count = 0;
+        for (byte b : bits) {
+            count += Integer.bitCount(b & 0xFF);
+        }
+        return count;
+    }
+
+    /**
+     * 영상 길이에 해당하는 전체 구간 수
+     */
+    public static int totalSegments(int durationSec) {
+        return Math.min((durationSec + SEGMENT_SEC - 1) / SEGMENT_SEC, MAX_BYTES * 8);
+    }
+
+    /**
+     * 영상 길이 대비 시청 구간 비율 (0.0 ~ 1.0)
+     * 영상 길이를 넘는 위치로 보고된 구간은 세지 않는다.
+     */
+    public static double coveredRatio(byte[] bits, int durationSec) {
+        int total = totalSegments(durationSec);
+        if (total == 0 || bits == null) return 0.0;
+
+        int fullBytes = Math.min(total / 8, bits.length);
+        int count = 0;
+        for (int i = 0; i < fullBytes; i++) {
+            count += Integer.bitCount(bits[i] & 0xFF);
+        }
+        int rest = total & 7;
+        if (rest > 0 && fullBytes < bits.length && fullBytes == total / 8) {
+            count += Integer.bitCount(bits[fullBytes] & ((1 << rest) - 1));
+        }
+        return (double) count / total;
+    }
+}
@@ -16,7 +16,10 @@ import java.time.LocalDateTime;
 public class AttendanceDaily {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "attendance_daily_id")
+    @TableGenerator(name = "attendance_daily_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.ATTENDANCE_DAILY, allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @JsonIgnore
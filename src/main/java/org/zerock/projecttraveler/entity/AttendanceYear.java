@@ -0,0 +1,139 @@
+package org.zerock.projecttraveler.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+
+/**
+ * 사용자·연도별 출석 비트셋 (attendance_daily 요약)
+ *
+ * 1월 1일부터 하루 1비트(최대 366비트, 46바이트)로 출석 여부를 저장하고, 마지막 출석일과
+ * 그 날짜에서 끝나는 연속 출석일을 함께 유지한다. 연속 출석/월별 출석 수/히트맵은
+ * 출석 행을 읽지 않고 이 비트셋의 비트 연산으로 계산한다.
+ * - 출석 체크 시 AttendanceService가 비트를 켬 (attendance_daily 행 생성과 같은 트랜잭션)
+ * - 해가 바뀐 첫 출석은 전년도 행의 연속 출석을 이어받음
+ * - AttendanceYearReconciler가 attendance_daily 기준으로 어긋난 행을 다시 만듦
+ */
+@Entity
+@Table(name = "attendance_year")
+@IdClass(AttendanceYear.Key.class)
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceYear {
+
+    public static final int MAX_DAYS = 366;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "attend_year")
+    private Integer attendYear;
+
+    /**
+     * 출석 비트 (bit i = 1월 1일 + i일, BitSet.toByteArray 형식)
+     */
+    @Column(name = "days", nullable = false, length = (MAX_DAYS + 7) / 8)
+    @Builder.Default
+    private byte[] days = new byte[0];
+
+    @Column(name = "day_count", nullable = false)
+    @Builder.Default
+    private Integer dayCount = 0;
+
+    @Column(name = "last_attend_date")
+    private LocalDate lastAttendDate;
+
+    /**
+     * last_attend_date에서 끝나는 연속 출석일 수 (전년도에서 이어진 일수 포함)
+     */
+    @Column(name = "current_streak", nullable = false)
+    @Builder.Default
+    private Integer currentStreak = 0;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private Integer attendYear;
+    }
+
+    /**
+     * 새 연도 행 (전년도 행이 있으면 연속 출석 이어받음)
+     */
+    public static AttendanceYear start(Long userId, int year, AttendanceYear previousYear) {
+        AttendanceYear row = AttendanceYear.builder().userId(userId).attendYear(year).build();
+        if (previousYear != null) {
+            row.setLastAttendDate(previousYear.getLastAttendDate());
+            row.setCurrentStreak(previousYear.getCurrentStreak());
+        }
+        return row;
+    }
+
+    /**
+     * 출석일 기록 (이미 켜진 날이면 false)
+     * 연속 출석은 마지막 출석일 다음 날일 때만 이어짐
+     */
+    public boolean mark(LocalDate date) {
+        BitSet bits = bits();
+        int index = date.getDayOfYear() - 1;
+        if (bits.get(index)) return false;
+
+        bits.set(index);
+        days = bits.toByteArray();
+        dayCount = bits.cardinality();
+
+        if (lastAttendDate == null || date.isAfter(lastAttendDate)) {
+            currentStreak = date.minusDays(1).equals(lastAttendDate) ? currentStreak + 1 : 1;
+            lastAttendDate = date;
+        }
+        updatedAt = LocalDateTime.now();
+        return true;
+    }
+
+    public boolean attended(LocalDate date) {
+        return date.getYear() == attendYear && bits().get(date.getDayOfYear() - 1);
+    }
+
+    /**
+     * 기간 내 출석일 수 (양 끝 포함, 이 연도 밖의 날짜는 잘라냄)
+     */
+    public int countBetween(LocalDate from, LocalDate to) {
+        int fromIndex = from.getYear() < attendYear ? 0 : from.getDayOfYear() - 1;
+        int toIndex = to.getYear() > attendYear ? MAX_DAYS : to.getDayOfYear();
+        if (from.getYear() > attendYear || to.getYear() < attendYear || fromIndex >= toIndex) return 0;
+        return bits().get(fromIndex, toIndex).cardinality();
+    }
+
+    /**
+     * 기준일 현재 연속 출석일 수 (오늘이나 어제 출석이 없으면 0)
+     */
+    public int consecutiveDays(LocalDate today) {
+        if (lastAttendDate == null || lastAttendDate.isBefore(today.minusDays(1))) return 0;
+        return currentStreak;
+    }
+
+    /**
+     * 해당 날짜에서 끝나는 이 연도 안의 연속 출석 구간 길이 (비트 역방향 탐색)
+     */
+    public int runEndingAt(LocalDate date) {
+        BitSet bits = bits();
+        int index = date.getDayOfYear() - 1;
+        if (!bits.get(index)) return 0;
+        return index - bits.previousClearBit(index);
+    }
+
+    public BitSet bits() {
+        return BitSet.valueOf(days);
+    }
+}
@@ -3,6 +3,7 @@ package org.zerock.projecttraveler.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 
 @Entity
@@ -78,6 +79,23 @@ public class CourseEnrollment {
     @Builder.Default
     private Integer quizCycle = 1;
 
+    /**
+     * 완료한 레슨 수 (레슨 완료/진도 초기화 시 함께 갱신, EnrollmentCounterReconciler가 보정)
+     * 값 변경은 증감 UPDATE 쿼리로만 (엔티티 flush가 읽어 둔 옛 값으로 덮어쓰지 않도록 updatable = false)
+     */
+    @Column(name = "completed_lesson_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer completedLessonCount = 0;
+
+    /**
+     * 강좌 전체 레슨 수 (레슨 추가/삭제 시 함께 갱신, completedLessonCount와 같이 UPDATE 쿼리로만 변경)
+     */
+    @Column(name = "total_lesson_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer totalLessonCount = 0;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -138,6 +156,12 @@ public class CourseEnrollment {
                status == Status.PAUSED;
     }
 
+    // 진도율 (완료 레슨 수 / 전체 레슨 수)
+    public int getProgressPercent() {
+        if (totalLessonCount == null || totalLessonCount == 0) return 0;
+        return Math.min(100, completedLessonCount * 100 / totalLessonCount);
+    }
+
     // 상태 한글명
     public String getStatusDisplayName() {
         return switch (status) {
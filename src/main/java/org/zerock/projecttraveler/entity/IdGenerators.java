@@ -0,0 +1,33 @@
+package org.zerock.projecttraveler.entity;
+
+import java.util.List;
+
+/**
+ * 테이블 기반 ID 생성기 설정 (pooled-lo)
+ *
+ * IDENTITY는 INSERT마다 키를 돌려받아야 해서 Hibernate가 JDBC 배치를 끈다.
+ * 쓰기가 많은 테이블은 id_generator 테이블에서 ALLOCATION_SIZE 단위로 ID 블록을 받아
+ * 메모리에서 나눠 쓴다 (MariaDB / HSQLDB 공통).
+ * - 행 이름(sequence_name) = 대상 테이블 이름
+ * - next_val = 다음 블록의 첫 ID (pooled-lo)
+ * - JDBC로 직접 INSERT 하는 경로는 PooledIdAllocator로 같은 테이블에서 블록을 받는다.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generator";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String LESSON_PROGRESS = "lesson_progress";
+    public static final String ATTENDANCE_DAILY = "attendance_daily";
+    public static final String LEARNING_SESSION = "learning_session";
+    public static final String QUIZ_ANSWER = "quiz_answer";
+    public static final String PLANNER_ITINERARY = "planner_itinerary";
+
+    public static final List<String> ALL = List.of(
+            LESSON_PROGRESS, ATTENDANCE_DAILY, LEARNING_SESSION, QUIZ_ANSWER, PLANNER_ITINERARY);
+
+    private IdGenerators() {
+    }
+}
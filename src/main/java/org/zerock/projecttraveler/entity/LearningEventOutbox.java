@@ -0,0 +1,88 @@
+package org.zerock.projecttraveler.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.zerock.projecttraveler.event.LearningEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 학습 이벤트 outbox (발행 트랜잭션과 함께 기록, 처리 완료/실패까지 보관)
+ *
+ * 커밋 후 바로 처리되지 못한 이벤트(스레드 풀 포화, 서버 종료, 처리 실패)는
+ * LearningEventDispatcher의 주기 작업이 next_attempt_at 이후 다시 처리한다.
+ * PROCESSING 행은 locked_until이 지나면 다른 서버/다음 주기가 다시 가져갈 수 있다.
+ */
+@Entity
+@Table(name = "learning_event_outbox",
+       indexes = @Index(name = "idx_event_outbox_due", columnList = "status, next_attempt_at"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LearningEventOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private LearningEvent.Type eventType;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(name = "ref_id")
+    private Long refId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    public enum Status {
+        PENDING,     // 처리 대기 (재시도 대기 포함)
+        PROCESSING,  // 처리 중 (locked_until까지)
+        DONE,        // 처리 완료
+        FAILED       // 재시도 횟수 초과
+    }
+
+    public static LearningEventOutbox of(LearningEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        return LearningEventOutbox.builder()
+                .eventType(event.type())
+                .userId(event.userId())
+                .courseId(event.courseId())
+                .refId(event.refId())
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    public LearningEvent toEvent() {
+        return LearningEvent.of(eventType, userId, courseId, refId);
+    }
+}
@@ -7,7 +7,8 @@ import java.time.LocalDateTime;
 import java.time.Duration;
 
 @Entity
-@Table(name = "learning_session")
+@Table(name = "learning_session",
+       indexes = @Index(name = "idx_session_user_started", columnList = "user_id, started_at"))
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,7 +16,10 @@ import java.time.Duration;
 public class LearningSession {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "learning_session_id")
+    @TableGenerator(name = "learning_session_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.LEARNING_SESSION, allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @JsonIgnore
@@ -15,7 +15,10 @@ import java.time.LocalDateTime;
 public class LessonProgress {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "lesson_progress_id")
+    @TableGenerator(name = "lesson_progress_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.LESSON_PROGRESS, allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @JsonIgnore
@@ -41,6 +44,11 @@ public class LessonProgress {
     @Builder.Default
     private Integer watchedSec = 0;
 
+    // 시청 구간 비트맵 (5초당 1비트, WatchCoverage) - 완료 판정용
+    @JsonIgnore
+    @Column(name = "watched_coverage", length = 1024)
+    private byte[] watchedCoverage;
+
     @Column(nullable = false)
     @Builder.Default
     private Boolean completed = false;
@@ -7,7 +7,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "quiz_attempt")
+@Table(name = "quiz_attempt",
+       uniqueConstraints = @UniqueConstraint(name = "uk_attempt_no",
+               columnNames = {"user_id", "quiz_id", "cycle", "attempt_no"}))
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,39 @@
+package org.zerock.projecttraveler.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 선택지별 선택 횟수 집계 (채점 시 QuizItemStatsAggregator가 증분 반영, 오답 선택지 분석용)
+ */
+@Entity
+@Table(name = "quiz_option_stat",
+       indexes = @Index(name = "idx_option_stat_quiz", columnList = "quiz_id"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizOptionStat {
+
+    @Id
+    @Column(name = "option_id")
+    private Long optionId;
+
+    @Column(name = "question_id", nullable = false)
+    private Long questionId;
+
+    @Column(name = "quiz_id", nullable = false)
+    private Long quizId;
+
+    @Column(name = "selected_count", nullable = false)
+    @Builder.Default
+    private Long selectedCount = 0L;
+
+    @Column(name = "passed_selected_count", nullable = false)
+    @Builder.Default
+    private Long passedSelectedCount = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
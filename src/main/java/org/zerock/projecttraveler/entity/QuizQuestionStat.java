@@ -0,0 +1,47 @@
+package org.zerock.projecttraveler.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 문제별 응답 집계 (채점 시 QuizItemStatsAggregator가 증분 반영)
+ *
+ * quiz_answer를 스캔하지 않고 정답률(난이도)과 변별도를 계산하기 위한 롤업.
+ * passed_* 는 합격한 시도에서의 응답만 센 값 (변별도 = 합격자 정답률 - 불합격자 정답률)
+ */
+@Entity
+@Table(name = "quiz_question_stat",
+       indexes = @Index(name = "idx_question_stat_quiz", columnList = "quiz_id"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizQuestionStat {
+
+    @Id
+    @Column(name = "question_id")
+    private Long questionId;
+
+    @Column(name = "quiz_id", nullable = false)
+    private Long quizId;
+
+    @Column(name = "answered_count", nullable = false)
+    @Builder.Default
+    private Long answeredCount = 0L;
+
+    @Column(name = "correct_count", nullable = false)
+    @Builder.Default
+    private Long correctCount = 0L;
+
+    @Column(name = "passed_answered_count", nullable = false)
+    @Builder.Default
+    private Long passedAnsweredCount = 0L;
+
+    @Column(name = "passed_correct_count", nullable = false)
+    @Builder.Default
+    private Long passedCorrectCount = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,98 @@
+package org.zerock.projecttraveler.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 학습 요약 (메인/마이페이지 "나의 학습 요약" 읽기 모델)
+ *
+ * 요약 화면마다 수강/진도/출석/시청 시간을 원본 테이블에서 다시 세지 않도록 값을 미리 유지한다.
+ * LearningSummaryService가 레슨 완료, heartbeat flush, 수강 상태 변경, 출석 체크 시 증분 반영하고
+ * 원본 테이블 기준 재계산(rebuild)으로 보정한다.
+ * - 연속 출석/이번 달 출석은 기준 날짜(last_attend_date, attendance_month)와 함께 저장 → 조회 시 날짜가 지났으면 0
+ * - 평균 진도율 = in_progress_percent_sum / in_progress_count
+ */
+@Entity
+@Table(name = "user_learning_summary")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserLearningSummary {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "in_progress_count", nullable = false)
+    @Builder.Default
+    private Integer inProgressCount = 0;
+
+    @Column(name = "completed_count", nullable = false)
+    @Builder.Default
+    private Integer completedCount = 0;
+
+    /**
+     * 진행 중 수강들의 진도율(%) 합계
+     */
+    @Column(name = "in_progress_percent_sum", nullable = false)
+    @Builder.Default
+    private Long inProgressPercentSum = 0L;
+
+    @Column(name = "total_watched_sec", nullable = false)
+    @Builder.Default
+    private Long totalWatchedSec = 0L;
+
+    @Column(name = "total_attendance_days", nullable = false)
+    @Builder.Default
+    private Integer totalAttendanceDays = 0;
+
+    /**
+     * last_attend_date에서 끝나는 연속 출석일 수
+     */
+    @Column(name = "current_streak", nullable = false)
+    @Builder.Default
+    private Integer currentStreak = 0;
+
+    @Column(name = "last_attend_date")
+    private LocalDate lastAttendDate;
+
+    /**
+     * month_attendance_days의 기준 월 (yyyyMM)
+     */
+    @Column(name = "attendance_month")
+    private Integer attendanceMonth;
+
+    @Column(name = "month_attendance_days", nullable = false)
+    @Builder.Default
+    private Integer monthAttendanceDays = 0;
+
+    @Column(name = "rebuilt_at")
+    private LocalDateTime rebuiltAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // 평균 진도율 (진행 중 수강 기준)
+    public int getAverageProgressPercent() {
+        if (inProgressCount == null || inProgressCount == 0) return 0;
+        return (int) (inProgressPercentSum / inProgressCount);
+    }
+
+    // 연속 출석일 수 (오늘이나 어제 출석이 없으면 끊김)
+    public int getConsecutiveDays(LocalDate today) {
+        if (lastAttendDate == null || lastAttendDate.isBefore(today.minusDays(1))) return 0;
+        return currentStreak;
+    }
+
+    // 해당 월 출석일 수 (저장된 기준 월이 아니면 0)
+    public int getMonthAttendanceDays(int yearMonth) {
+        return attendanceMonth != null && attendanceMonth == yearMonth ? monthAttendanceDays : 0;
+    }
+
+    public static int monthKey(LocalDate date) {
+        return date.getYear() * 100 + date.getMonthValue();
+    }
+}
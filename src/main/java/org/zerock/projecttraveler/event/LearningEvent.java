@@ -0,0 +1,78 @@
+package org.zerock.projecttraveler.event;
+
+/**
+ * 학습 진행 도메인 이벤트
+ *
+ * 요청 트랜잭션에서 LearningEventPublisher로 발행하면 같은 트랜잭션에 outbox 행이 기록되고,
+ * 커밋 후 LearningEventDispatcher가 별도 스레드 풀에서 LearningEventHandlers로 처리한다.
+ * outbox 행은 (type, userId, courseId, refId) 컬럼만으로 이벤트를 다시 만들 수 있어야 한다.
+ */
+public sealed interface LearningEvent {
+
+    Type type();
+
+    Long userId();
+
+    Long courseId();
+
+    /**
+     * 이벤트별 참조 ID (레슨/퀴즈 ID, 없으면 null)
+     */
+    default Long refId() {
+        return null;
+    }
+
+    enum Type {
+        LESSON_COMPLETED,
+        COURSE_COMPLETED,
+        QUIZ_PASSED,
+        ENROLLMENT_CHANGED
+    }
+
+    /**
+     * 레슨 완료 (완료 전환이 실제로 일어난 경우만)
+     */
+    record LessonCompleted(Long userId, Long courseId, Long lessonId) implements LearningEvent {
+        public Type type() { return Type.LESSON_COMPLETED; }
+        public Long refId() { return lessonId; }
+    }
+
+    /**
+     * 강좌 수강 완료 (수강 상태 COMPLETED 전환)
+     */
+    record CourseCompleted(Long userId, Long courseId) implements LearningEvent {
+        public Type type() { return Type.COURSE_COMPLETED; }
+    }
+
+    /**
+     * 퀴즈 합격
+     */
+    record QuizPassed(Long userId, Long courseId, Long quizId) implements LearningEvent {
+        public Type type() { return Type.QUIZ_PASSED; }
+        public Long refId() { return quizId; }
+    }
+
+    /**
+     * 수강 신청/승인/반려/배정 등 수강 상태 변경
+     */
+    record EnrollmentChanged(Long userId, Long courseId) implements LearningEvent {
+        public Type type() { return Type.ENROLLMENT_CHANGED; }
+    }
+
+    /**
+     * outbox 컬럼으로 이벤트 복원
+     */
+    static LearningEvent of(Type type, Long userId, Long courseId, Long refId) {
+        return switch (type) {
+            case LESSON_COMPLETED -> new LessonCompleted(userId, courseId, refId);
+            case COURSE_COMPLETED -> new CourseCompleted(userId, courseId);
+            case QUIZ_PASSED -> new QuizPassed(userId, courseId, refId);
+            case ENROLLMENT_CHANGED -> new EnrollmentChanged(userId, courseId);
+        };
+    }
+
+    /**
+     * 트랜잭션 이벤트 (outbox 행 ID + 이벤트)
+     */
+    record Recorded(Long outboxId, LearningEvent event) {}
+}
@@ -9,7 +9,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
-public interface AttendanceDailyRepository extends JpaRepository<AttendanceDaily, Long> {
+public interface AttendanceDailyRepository extends JpaRepository<AttendanceDaily, Long>, AttendanceDailyRepositoryCustom {
 
     Optional<AttendanceDaily> findByUserIdAndAttendDate(Long userId, LocalDate attendDate);
 
@@ -32,4 +32,12 @@ public interface AttendanceDailyRepository extends JpaRepository<AttendanceDaily
     // 연속 출석일 계산을 위한 쿼리 (최근 출석 기록)
     @Query("SELECT a.attendDate FROM AttendanceDaily a WHERE a.user.id = :userId ORDER BY a.attendDate DESC")
     List<LocalDate> findAttendDatesByUserId(@Param("userId") Long userId);
+
+    // 기간 내 출석일 목록 (오름차순, 연도별 출석 비트셋 재구성용)
+    @Query("SELECT a.attendDate FROM AttendanceDaily a WHERE a.user.id = :userId AND a.attendDate >= :startDate AND a.attendDate <= :endDate ORDER BY a.attendDate ASC")
+    List<LocalDate> findAttendDatesByUserIdAndPeriod(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 특정 날짜 출석 사용자 ID 목록 (출석 비트맵 재구성용)
+    @Query("SELECT a.user.id FROM AttendanceDaily a WHERE a.attendDate = :date")
+    List<Long> findUserIdsByAttendDate(@Param("date") LocalDate date);
 }
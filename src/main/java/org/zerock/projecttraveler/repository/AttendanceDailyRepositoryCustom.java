@@ -0,0 +1,12 @@
+package org.zerock.projecttraveler.repository;
+
+import java.time.LocalDate;
+
+public interface AttendanceDailyRepositoryCustom {
+
+    /**
+     * 출석 행이 없을 때만 생성 (다른 서버와 동시에 생성해도 예외 없이 false)
+     * @return 새로 생성했으면 true
+     */
+    boolean insertIfAbsent(Long userId, LocalDate attendDate);
+}
@@ -0,0 +1,42 @@
+package org.zerock.projecttraveler.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.zerock.projecttraveler.entity.IdGenerators;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class AttendanceDailyRepositoryImpl implements AttendanceDailyRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PooledIdAllocator idAllocator;
+
+    // 사용자가 존재하고 아직 출석 행이 없을 때만 생성
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO attendance_daily (id, user_id, attend_date, created_at)
+            SELECT ?, u.id, ?, ?
+            FROM users u
+            WHERE u.id = ?
+              AND NOT EXISTS (SELECT 1 FROM attendance_daily a WHERE a.user_id = ? AND a.attend_date = ?)
+            """;
+
+    @Override
+    public boolean insertIfAbsent(Long userId, LocalDate attendDate) {
+        Date date = Date.valueOf(attendDate);
+        try {
+            long id = idAllocator.allocate(IdGenerators.ATTENDANCE_DAILY, 1)[0];
+            return jdbcTemplate.update(INSERT_IF_ABSENT_SQL,
+                    id, date, Timestamp.valueOf(LocalDateTime.now()), userId, userId, date) > 0;
+        } catch (DataIntegrityViolationException e) {
+            // NOT EXISTS 확인 직후 다른 요청/서버가 먼저 생성 → unique (user_id, attend_date) 위반
+            return false;
+        }
+    }
+}
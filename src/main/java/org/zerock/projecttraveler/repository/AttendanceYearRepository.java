@@ -0,0 +1,22 @@
+package org.zerock.projecttraveler.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.zerock.projecttraveler.entity.AttendanceYear;
+
+import java.util.Optional;
+
+public interface AttendanceYearRepository extends JpaRepository<AttendanceYear, AttendanceYear.Key>, AttendanceYearRepositoryCustom {
+
+    default Optional<AttendanceYear> findByUserIdAndYear(Long userId, int year) {
+        return findById(new AttendanceYear.Key(userId, year));
+    }
+
+    // 가장 최근 연도 행 (마지막 출석일/연속 출석 기준)
+    Optional<AttendanceYear> findFirstByUserIdOrderByAttendYearDesc(Long userId);
+
+    // 총 출석일 수 (연도별 출석일 합계)
+    @Query("SELECT COALESCE(SUM(y.dayCount), 0) FROM AttendanceYear y WHERE y.userId = :userId")
+    long sumDayCountByUserId(@Param("userId") Long userId);
+}
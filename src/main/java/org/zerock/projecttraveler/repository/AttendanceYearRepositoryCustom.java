@@ -0,0 +1,13 @@
+package org.zerock.projecttraveler.repository;
+
+import org.zerock.projecttraveler.entity.AttendanceYear;
+
+import java.util.List;
+
+public interface AttendanceYearRepositoryCustom {
+
+    /**
+     * attendance_daily와 출석일 수가 다르거나 행이 없는 (사용자, 연도) 목록 (사용자, 연도 오름차순)
+     */
+    List<AttendanceYear.Key> findStaleKeys();
+}
@@ -0,0 +1,31 @@
+package org.zerock.projecttraveler.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.zerock.projecttraveler.entity.AttendanceYear;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class AttendanceYearRepositoryImpl implements AttendanceYearRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String STALE_KEYS_SQL = """
+            SELECT a.user_id, EXTRACT(YEAR FROM a.attend_date) AS attend_year
+            FROM attendance_daily a
+            LEFT JOIN attendance_year y
+                   ON y.user_id = a.user_id AND y.attend_year = EXTRACT(YEAR FROM a.attend_date)
+            GROUP BY a.user_id, EXTRACT(YEAR FROM a.attend_date), y.day_count
+            HAVING y.day_count IS NULL OR y.day_count <> COUNT(*)
+            ORDER BY a.user_id, attend_year
+            """;
+
+    @Override
+    public List<AttendanceYear.Key> findStaleKeys() {
+        return jdbcTemplate.query(STALE_KEYS_SQL, (rs, rowNum) ->
+                new AttendanceYear.Key(rs.getLong(1), rs.getInt(2)));
+    }
+}
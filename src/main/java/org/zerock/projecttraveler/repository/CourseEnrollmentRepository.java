@@ -1,15 +1,22 @@
 package org.zerock.projecttraveler.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.zerock.projecttraveler.dto.CourseCatalogRow;
+import org.zerock.projecttraveler.dto.EnrollmentRef;
+import org.zerock.projecttraveler.dto.LessonCounters;
 import org.zerock.projecttraveler.entity.CourseEnrollment;
 import org.zerock.projecttraveler.entity.CourseEnrollment.Status;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface CourseEnrollmentRepository extends JpaRepository<CourseEnrollment, Long> {
+public interface CourseEnrollmentRepository extends JpaRepository<CourseEnrollment, Long>, CourseEnrollmentRepositoryCustom {
 
     Optional<CourseEnrollment> findByUserIdAndCourseId(Long userId, Long courseId);
 
@@ -32,9 +39,44 @@ public interface CourseEnrollmentRepository extends JpaRepository<CourseEnrollme
     @Query("SELECT e FROM CourseEnrollment e JOIN FETCH e.course WHERE e.user.id = :userId AND e.status = 'COMPLETED' ORDER BY e.updatedAt DESC")
     List<CourseEnrollment> findCompletedByUserId(@Param("userId") Long userId);
 
-    // 승인 대기 목록 (관리자용)
-    @Query("SELECT e FROM CourseEnrollment e JOIN FETCH e.user JOIN FETCH e.course WHERE e.status = 'REQUESTED' ORDER BY e.requestedAt ASC")
-    List<CourseEnrollment> findAllRequestedWithUserAndCourse();
+    // 신청 대기열 키셋 페이지 ((requested_at, id) 순, 커서 이후 행만 → 인덱스 범위 조회)
+    @Query("SELECT e FROM CourseEnrollment e JOIN FETCH e.user JOIN FETCH e.course " +
+           "WHERE e.status = :status AND e.requestedAt IS NOT NULL " +
+           "  AND (e.requestedAt > :afterAt OR (e.requestedAt = :afterAt AND e.id > :afterId)) " +
+           "ORDER BY e.requestedAt ASC, e.id ASC")
+    List<CourseEnrollment> findRequestPage(@Param("status") Status status,
+                                           @Param("afterAt") LocalDateTime afterAt,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
+
+    // 신청 대기열 키셋 페이지 (강좌 필터)
+    @Query("SELECT e FROM CourseEnrollment e JOIN FETCH e.user JOIN FETCH e.course " +
+           "WHERE e.course.id = :courseId AND e.status = :status AND e.requestedAt IS NOT NULL " +
+           "  AND (e.requestedAt > :afterAt OR (e.requestedAt = :afterAt AND e.id > :afterId)) " +
+           "ORDER BY e.requestedAt ASC, e.id ASC")
+    List<CourseEnrollment> findRequestPageByCourse(@Param("courseId") Long courseId,
+                                                   @Param("status") Status status,
+                                                   @Param("afterAt") LocalDateTime afterAt,
+                                                   @Param("afterId") Long afterId,
+                                                   Pageable pageable);
+
+    long countByStatus(Status status);
+
+    // 일괄 승인/반려 대상 중 아직 승인 대기인 행
+    @Query("SELECT new org.zerock.projecttraveler.dto.EnrollmentRef(e.id, e.user.id, e.course.id) " +
+           "FROM CourseEnrollment e WHERE e.id IN :ids AND e.status = 'REQUESTED'")
+    List<EnrollmentRef> findRequestedRefs(@Param("ids") Collection<Long> ids);
+
+    // 승인 대기 신청 일괄 승인/반려 (UPDATE 1회, 이미 처리된 행은 제외, note/approvedAt이 null이면 기존 값 유지)
+    @Modifying
+    @Query("UPDATE CourseEnrollment e SET e.status = :status, e.approvedAt = COALESCE(:approvedAt, e.approvedAt), " +
+           "e.note = COALESCE(:note, e.note), e.updatedAt = :now " +
+           "WHERE e.id IN :ids AND e.status = 'REQUESTED'")
+    int decideRequested(@Param("ids") Collection<Long> ids,
+                        @Param("status") Status status,
+                        @Param("approvedAt") LocalDateTime approvedAt,
+                        @Param("note") String note,
+                        @Param("now") LocalDateTime now);
 
     // 사용자의 수강 중인 강좌 수
     @Query("SELECT COUNT(e) FROM CourseEnrollment e WHERE e.user.id = :userId AND e.status IN ('APPROVED', 'ASSIGNED', 'PAUSED')")
@@ -47,4 +89,42 @@ public interface CourseEnrollmentRepository extends JpaRepository<CourseEnrollme
     // 사용자의 승인 대기 목록
     @Query("SELECT e FROM CourseEnrollment e JOIN FETCH e.course WHERE e.user.id = :userId AND e.status = 'REQUESTED' ORDER BY e.requestedAt DESC")
     List<CourseEnrollment> findPendingByUserId(@Param("userId") Long userId);
+
+    // 레슨 완료 카운터 조회 (영속성 컨텍스트가 아닌 DB 값)
+    @Query("SELECT new org.zerock.projecttraveler.dto.LessonCounters(e.completedLessonCount, e.totalLessonCount) " +
+           "FROM CourseEnrollment e WHERE e.user.id = :userId AND e.course.id = :courseId")
+    Optional<LessonCounters> findLessonCounters(@Param("userId") Long userId, @Param("courseId") Long courseId);
+
+    // 강좌 목록 화면: 전체 활성 강좌의 레슨 수 + 사용자 수강 상태/카운터 (강좌당 한 행)
+    @Query("SELECT new org.zerock.projecttraveler.dto.CourseCatalogRow(" +
+           "c.id, COUNT(l), e.id, e.status, e.completedLessonCount, e.totalLessonCount) " +
+           "FROM Course c " +
+           "LEFT JOIN c.lessons l " +
+           "LEFT JOIN CourseEnrollment e ON e.course = c AND e.user.id = :userId " +
+           "WHERE c.active = true " +
+           "GROUP BY c.id, e.id, e.status, e.completedLessonCount, e.totalLessonCount")
+    List<CourseCatalogRow> findCatalogRows(@Param("userId") Long userId);
+
+    // 레슨 완료 시 완료 카운터 +1
+    @Modifying
+    @Query("UPDATE CourseEnrollment e SET e.completedLessonCount = e.completedLessonCount + 1 " +
+           "WHERE e.user.id = :userId AND e.course.id = :courseId")
+    int incrementCompletedLessons(@Param("userId") Long userId, @Param("courseId") Long courseId);
+
+    // 진도 초기화 시 완료 카운터 0
+    @Modifying
+    @Query("UPDATE CourseEnrollment e SET e.completedLessonCount = 0 WHERE e.user.id = :userId AND e.course.id = :courseId")
+    int resetCompletedLessons(@Param("userId") Long userId, @Param("courseId") Long courseId);
+
+    // 레슨 추가/삭제 시 강좌의 모든 수강 전체 레슨 수 조정
+    @Modifying
+    @Query("UPDATE CourseEnrollment e SET e.totalLessonCount = e.totalLessonCount + :delta WHERE e.course.id = :courseId")
+    int adjustTotalLessons(@Param("courseId") Long courseId, @Param("delta") int delta);
+
+    // 레슨 삭제 전, 그 레슨을 완료한 사용자들의 완료 카운터 -1
+    @Modifying
+    @Query("UPDATE CourseEnrollment e SET e.completedLessonCount = e.completedLessonCount - 1 " +
+           "WHERE e.course.id = :courseId AND e.completedLessonCount > 0 AND e.user.id IN " +
+           "(SELECT lp.user.id FROM LessonProgress lp WHERE lp.lesson.id = :lessonId AND lp.completed = true)")
+    int decrementCompletedForLesson(@Param("courseId") Long courseId, @Param("lessonId") Long lessonId);
 }
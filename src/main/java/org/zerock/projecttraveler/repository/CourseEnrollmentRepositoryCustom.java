@@ -0,0 +1,42 @@
+package org.zerock.projecttraveler.repository;
+
+import org.zerock.projecttraveler.dto.LearningHeartbeatSample;
+import org.zerock.projecttraveler.entity.CourseEnrollment;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface CourseEnrollmentRepositoryCustom {
+
+    /**
+     * heartbeat 집계 값으로 마지막 접근 시간/마지막 레슨을 JDBC 배치로 갱신
+     */
+    void touchLastAccessed(List<LearningHeartbeatSample> samples);
+
+    /**
+     * 레슨 완료/전체 카운터를 lesson / lesson_progress 기준으로 재계산 (값이 어긋난 행만)
+     * @return 보정된 행 수
+     */
+    int reconcileLessonCounters();
+
+    /**
+     * 강좌의 대상 사용자별 수강 상태 (쿼리 1회, 수강 정보가 없는 사용자는 결과에 없음)
+     */
+    Map<Long, CourseEnrollment.Status> findStatusByCourseIdAndUserIds(Long courseId, Collection<Long> userIds);
+
+    /**
+     * 관리자 배정 수강 행 일괄 생성 (JDBC 배치, 이미 수강 정보가 있는 사용자는 건너뜀)
+     * 완료 레슨 수는 기존 lesson_progress 기준으로 채운다.
+     * @return 사용자별 생성 행 수 (0 = 그 사이 다른 요청이 먼저 생성)
+     */
+    int[] insertAssigned(Long courseId, List<Long> userIds, Long adminId, String note,
+                         int totalLessonCount, LocalDateTime now);
+
+    /**
+     * 신청/반려 상태 수강을 관리자 배정으로 일괄 변경 (JDBC 배치, note가 null이면 기존 메모 유지)
+     * @return 사용자별 변경 행 수 (0 = 그 사이 상태가 바뀜)
+     */
+    int[] promoteToAssigned(Long courseId, List<Long> userIds, Long adminId, String note, LocalDateTime now);
+}
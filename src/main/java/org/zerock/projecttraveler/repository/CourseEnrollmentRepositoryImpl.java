@@ -0,0 +1,154 @@
+package org.zerock.projecttraveler.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.zerock.projecttraveler.dto.LearningHeartbeatSample;
+import org.zerock.projecttraveler.entity.CourseEnrollment;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class CourseEnrollmentRepositoryImpl implements CourseEnrollmentRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 레슨이 해당 강좌에 속하지 않으면 last_lesson_id는 기존 값 유지
+    private static final String TOUCH_SQL = """
+            UPDATE course_enrollment
+            SET last_accessed_at = ?,
+                last_lesson_id = COALESCE((SELECT l.id FROM lesson l WHERE l.id = ? AND l.course_id = ?), last_lesson_id),
+                updated_at = ?
+            WHERE user_id = ? AND course_id = ?
+            """;
+
+    private static final String RECONCILE_COUNTERS_SQL = """
+            UPDATE course_enrollment
+            SET total_lesson_count = (SELECT COUNT(*) FROM lesson l WHERE l.course_id = course_enrollment.course_id),
+                completed_lesson_count = (SELECT COUNT(*) FROM lesson_progress p
+                                          WHERE p.user_id = course_enrollment.user_id
+                                            AND p.course_id = course_enrollment.course_id
+                                            AND p.completed = TRUE)
+            WHERE total_lesson_count <> (SELECT COUNT(*) FROM lesson l WHERE l.course_id = course_enrollment.course_id)
+               OR completed_lesson_count <> (SELECT COUNT(*) FROM lesson_progress p
+                                             WHERE p.user_id = course_enrollment.user_id
+                                               AND p.course_id = course_enrollment.course_id
+                                               AND p.completed = TRUE)
+            """;
+
+    // 사용자가 존재하고 아직 수강 정보가 없을 때만 생성 (완료 레슨 수는 기존 진도 기준)
+    private static final String INSERT_ASSIGNED_SQL = """
+            INSERT INTO course_enrollment
+                (user_id, course_id, status, source, assigned_at, assigned_by_admin_id, note,
+                 quiz_status, quiz_cycle, completed_lesson_count, total_lesson_count, created_at, updated_at)
+            SELECT u.id, ?, 'ASSIGNED', 'ADMIN_ASSIGN', ?, ?, ?, 'NOT_STARTED', 1,
+                   (SELECT COUNT(*) FROM lesson_progress p
+                    WHERE p.user_id = ? AND p.course_id = ? AND p.completed = TRUE),
+                   ?, ?, ?
+            FROM users u
+            WHERE u.id = ?
+              AND NOT EXISTS (SELECT 1 FROM course_enrollment e WHERE e.user_id = ? AND e.course_id = ?)
+            """;
+
+    // 신청/반려 상태일 때만 배정으로 변경 (note가 null이면 기존 메모 유지)
+    private static final String PROMOTE_ASSIGNED_SQL = """
+            UPDATE course_enrollment
+            SET status = 'ASSIGNED', source = 'ADMIN_ASSIGN', assigned_at = ?, assigned_by_admin_id = ?,
+                note = COALESCE(?, note), updated_at = ?
+            WHERE user_id = ? AND course_id = ? AND status IN ('REQUESTED', 'REJECTED')
+            """;
+
+    @Override
+    public void touchLastAccessed(List<LearningHeartbeatSample> samples) {
+        // (userId, courseId)별 가장 최근 샘플만 반영
+        Map<String, LearningHeartbeatSample> latest = new LinkedHashMap<>();
+        for (LearningHeartbeatSample s : samples) {
+            latest.merge(s.userId() + ":" + s.courseId(), s,
+                    (a, b) -> b.lastBeatAt().isBefore(a.lastBeatAt()) ? a : b);
+        }
+        if (latest.isEmpty()) return;
+
+        List<LearningHeartbeatSample> rows = new ArrayList<>(latest.values());
+        jdbcTemplate.batchUpdate(TOUCH_SQL, rows, rows.size(), (ps, s) -> {
+            Timestamp at = Timestamp.valueOf(s.lastBeatAt());
+            ps.setTimestamp(1, at);
+            ps.setLong(2, s.lessonId());
+            ps.setLong(3, s.courseId());
+            ps.setTimestamp(4, at);
+            ps.setLong(5, s.userId());
+            ps.setLong(6, s.courseId());
+        });
+    }
+
+    @Override
+    public int reconcileLessonCounters() {
+        return jdbcTemplate.update(RECONCILE_COUNTERS_SQL);
+    }
+
+    @Override
+    public Map<Long, CourseEnrollment.Status> findStatusByCourseIdAndUserIds(Long courseId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) return Map.of();
+
+        String placeholders = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+        List<Object> args = new ArrayList<>(userIds.size() + 1);
+        args.add(courseId);
+        args.addAll(userIds);
+
+        Map<Long, CourseEnrollment.Status> result = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT user_id, status FROM course_enrollment WHERE course_id = ? AND user_id IN (" + placeholders + ")",
+                rs -> {
+                    result.put(rs.getLong("user_id"), CourseEnrollment.Status.valueOf(rs.getString("status")));
+                },
+                args.toArray());
+        return result;
+    }
+
+    @Override
+    public int[] insertAssigned(Long courseId, List<Long> userIds, Long adminId, String note,
+                                int totalLessonCount, LocalDateTime now) {
+        if (userIds.isEmpty()) return new int[0];
+
+        Timestamp at = Timestamp.valueOf(now);
+        // 배치 크기 = 전체 건수 → 결과는 단일 배치 (int[1][n])
+        return jdbcTemplate.batchUpdate(INSERT_ASSIGNED_SQL, userIds, userIds.size(), (ps, userId) -> {
+            ps.setLong(1, courseId);
+            ps.setTimestamp(2, at);
+            ps.setLong(3, adminId);
+            ps.setObject(4, note, Types.VARCHAR);
+            ps.setLong(5, userId);
+            ps.setLong(6, courseId);
+            ps.setInt(7, totalLessonCount);
+            ps.setTimestamp(8, at);
+            ps.setTimestamp(9, at);
+            ps.setLong(10, userId);
+            ps.setLong(11, userId);
+            ps.setLong(12, courseId);
+        })[0];
+    }
+
+    @Override
+    public int[] promoteToAssigned(Long courseId, List<Long> userIds, Long adminId, String note, LocalDateTime now) {
+        if (userIds.isEmpty()) return new int[0];
+
+        Timestamp at = Timestamp.valueOf(now);
+        return jdbcTemplate.batchUpdate(PROMOTE_ASSIGNED_SQL, userIds, userIds.size(), (ps, userId) -> {
+            ps.setTimestamp(1, at);
+            ps.setLong(2, adminId);
+            ps.setObject(3, note, Types.VARCHAR);
+            ps.setTimestamp(4, at);
+            ps.setLong(5, userId);
+            ps.setLong(6, courseId);
+        })[0];
+    }
+}
@@ -3,6 +3,7 @@ package org.zerock.projecttraveler.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.zerock.projecttraveler.dto.CourseOption;
 import org.zerock.projecttraveler.entity.Course;
 
 import java.util.List;
@@ -12,6 +13,11 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
 
     List<Course> findByActiveTrueOrderByCreatedAtDesc();
 
+    // 관리자 화면 강좌 선택 목록 (ID/제목만)
+    @Query("SELECT new org.zerock.projecttraveler.dto.CourseOption(c.id, c.title) FROM Course c " +
+           "WHERE c.active = true ORDER BY c.createdAt DESC")
+    List<CourseOption> findActiveCourseOptions();
+
     List<Course> findByCategoryAndActiveTrueOrderByCreatedAtDesc(Course.Category category);
 
     @Query("SELECT DISTINCT c FROM Course c LEFT JOIN FETCH c.units LEFT JOIN FETCH c.lessons WHERE c.id = :id")
@@ -0,0 +1,52 @@
+package org.zerock.projecttraveler.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.zerock.projecttraveler.entity.LearningEventOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface LearningEventOutboxRepository extends JpaRepository<LearningEventOutbox, Long> {
+
+    // 처리할 차례인 이벤트 (재시도 시각 도래 또는 처리 중 잠금 만료)
+    @Query("SELECT o.id FROM LearningEventOutbox o " +
+           "WHERE (o.status = 'PENDING' AND o.nextAttemptAt <= :now) " +
+           "   OR (o.status = 'PROCESSING' AND o.lockedUntil < :now) " +
+           "ORDER BY o.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 처리 권한 획득 (조건부 UPDATE → 같은 이벤트를 두 스레드/서버가 동시에 처리하지 않음)
+    @Modifying
+    @Query("UPDATE LearningEventOutbox o SET o.status = 'PROCESSING', o.lockedUntil = :lockedUntil " +
+           "WHERE o.id = :id " +
+           "  AND ((o.status = 'PENDING' AND o.nextAttemptAt <= :now) " +
+           "    OR (o.status = 'PROCESSING' AND o.lockedUntil < :now))")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    // 처리 완료 (규칙상 처리할 것이 없던 경우 note에 사유)
+    @Modifying
+    @Query("UPDATE LearningEventOutbox o SET o.status = 'DONE', o.attempts = o.attempts + 1, " +
+           "o.processedAt = :now, o.lockedUntil = null, o.lastError = :note WHERE o.id = :id")
+    int markDone(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("note") String note);
+
+    // 처리 실패 → 재시도 예약
+    @Modifying
+    @Query("UPDATE LearningEventOutbox o SET o.status = 'PENDING', o.attempts = o.attempts + 1, " +
+           "o.nextAttemptAt = :nextAttemptAt, o.lockedUntil = null, o.lastError = :error WHERE o.id = :id")
+    int markRetry(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    // 재시도 횟수 초과
+    @Modifying
+    @Query("UPDATE LearningEventOutbox o SET o.status = 'FAILED', o.attempts = o.attempts + 1, " +
+           "o.processedAt = :now, o.lockedUntil = null, o.lastError = :error WHERE o.id = :id")
+    int markFailed(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("error") String error);
+
+    // 보관 기간이 지난 완료 이벤트 삭제
+    @Modifying
+    @Query("DELETE FROM LearningEventOutbox o WHERE o.status = 'DONE' AND o.processedAt < :before")
+    int deleteDoneBefore(@Param("before") LocalDateTime before);
+}
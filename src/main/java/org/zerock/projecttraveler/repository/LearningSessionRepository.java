@@ -9,7 +9,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface LearningSessionRepository extends JpaRepository<LearningSession, Long> {
+public interface LearningSessionRepository extends JpaRepository<LearningSession, Long>, LearningSessionRepositoryCustom {
 
     // 활성 세션 찾기
     @Query("SELECT ls FROM LearningSession ls WHERE ls.user.id = :userId AND ls.endedAt IS NULL ORDER BY ls.startedAt DESC")
@@ -0,0 +1,13 @@
+package org.zerock.projecttraveler.repository;
+
+import org.zerock.projecttraveler.dto.LearningSessionRecord;
+
+import java.util.List;
+
+public interface LearningSessionRepositoryCustom {
+
+    /**
+     * 종료된 학습 세션을 JDBC 배치로 저장 (강좌에 속하지 않은 레슨의 세션은 건너뜀)
+     */
+    void insertClosedSessions(List<LearningSessionRecord> sessions);
+}
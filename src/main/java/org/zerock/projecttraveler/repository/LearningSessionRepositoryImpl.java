@@ -0,0 +1,55 @@
+package org.zerock.projecttraveler.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.zerock.projecttraveler.dto.LearningSessionRecord;
+import org.zerock.projecttraveler.entity.IdGenerators;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class LearningSessionRepositoryImpl implements LearningSessionRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PooledIdAllocator idAllocator;
+
+    // 레슨이 해당 강좌에 속할 때만 저장
+    private static final String INSERT_SESSION_SQL = """
+            INSERT INTO learning_session (id, user_id, course_id, lesson_id, started_at, ended_at, duration_sec)
+            SELECT ?, ?, l.course_id, l.id, ?, ?, ?
+            FROM lesson l
+            WHERE l.id = ? AND l.course_id = ?
+            """;
+
+    @Override
+    public void insertClosedSessions(List<LearningSessionRecord> sessions) {
+        if (sessions.isEmpty()) return;
+
+        long[] ids = idAllocator.allocate(IdGenerators.LEARNING_SESSION, sessions.size());
+
+        jdbcTemplate.batchUpdate(INSERT_SESSION_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                LearningSessionRecord s = sessions.get(i);
+                ps.setLong(1, ids[i]);
+                ps.setLong(2, s.userId());
+                ps.setTimestamp(3, Timestamp.valueOf(s.startedAt()));
+                ps.setTimestamp(4, Timestamp.valueOf(s.endedAt()));
+                ps.setInt(5, s.durationSec());
+                ps.setLong(6, s.lessonId());
+                ps.setLong(7, s.courseId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return sessions.size();
+            }
+        });
+    }
+}
@@ -1,20 +1,28 @@
 package org.zerock.projecttraveler.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.zerock.projecttraveler.entity.LessonProgress;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface LessonProgressRepository extends JpaRepository<LessonProgress, Long> {
+public interface LessonProgressRepository extends JpaRepository<LessonProgress, Long>, LessonProgressRepositoryCustom {
 
     Optional<LessonProgress> findByUserIdAndLessonId(Long userId, Long lessonId);
 
     List<LessonProgress> findByUserIdAndCourseId(Long userId, Long courseId);
 
+    // 레슨 완료 판정용 (heartbeat flush와 같은 행 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT lp FROM LessonProgress lp WHERE lp.user.id = :userId AND lp.lesson.id = :lessonId")
+    Optional<LessonProgress> findForUpdateByUserIdAndLessonId(@Param("userId") Long userId, @Param("lessonId") Long lessonId);
+
     @Query("SELECT lp FROM LessonProgress lp JOIN FETCH lp.lesson WHERE lp.user.id = :userId AND lp.course.id = :courseId")
     List<LessonProgress> findByUserIdAndCourseIdWithLesson(@Param("userId") Long userId, @Param("courseId") Long courseId);
 
@@ -38,15 +46,22 @@ public interface LessonProgressRepository extends JpaRepository<LessonProgress,
     @Query("SELECT COUNT(lp) FROM LessonProgress lp WHERE lp.user.id = :userId AND lp.completed = true")
     long countCompletedByUserId(@Param("userId") Long userId);
 
-    // 강좌의 모든 레슨 진도 초기화 (2차 시험 실패 시 사용)
+    // 미완료 → 완료 전환 (동시 요청 중 한 건만 1 반환 → 완료 카운터 중복 증가 방지)
+    @Modifying
+    @Query("UPDATE LessonProgress lp SET lp.completed = true, lp.completedAt = :completedAt WHERE lp.id = :id AND lp.completed = false")
+    int markCompleted(@Param("id") Long id, @Param("completedAt") LocalDateTime completedAt);
+
+    // 강좌의 모든 레슨 진도 초기화 (2차 시험 실패 시 사용, 시청 구간 비트맵 포함)
     @Modifying
-    @Query("UPDATE LessonProgress lp SET lp.watchedSec = 0, lp.lastPositionSec = 0, lp.completed = false, lp.completedAt = null " +
+    @Query("UPDATE LessonProgress lp SET lp.watchedSec = 0, lp.lastPositionSec = 0, lp.watchedCoverage = null, " +
+           "lp.completed = false, lp.completedAt = null " +
            "WHERE lp.user.id = :userId AND lp.course.id = :courseId")
     int resetProgressByUserIdAndCourseId(@Param("userId") Long userId, @Param("courseId") Long courseId);
 
     // 특정 레슨 진도 초기화
     @Modifying
-    @Query("UPDATE LessonProgress lp SET lp.watchedSec = 0, lp.lastPositionSec = 0, lp.completed = false, lp.completedAt = null " +
+    @Query("UPDATE LessonProgress lp SET lp.watchedSec = 0, lp.lastPositionSec = 0, lp.watchedCoverage = null, " +
+           "lp.completed = false, lp.completedAt = null " +
            "WHERE lp.user.id = :userId AND lp.lesson.id = :lessonId")
     int resetProgressByUserIdAndLessonId(@Param("userId") Long userId, @Param("lessonId") Long lessonId);
 
@@ -0,0 +1,34 @@
+package org.zerock.projecttraveler.repository;
+
+import org.zerock.projecttraveler.dto.LearningHeartbeatSample;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+public interface LessonProgressRepositoryCustom {
+
+    /**
+     * heartbeat 집계 값을 JDBC 배치로 반영 (없는 진도 행은 생성, 시청 구간 비트맵은 OR 병합)
+     */
+    default void applyHeartbeats(List<LearningHeartbeatSample> samples) {
+        applyHeartbeats(samples, sample -> true);
+    }
+
+    /**
+     * 대상 진도 행을 잠근 뒤 stillValid를 통과한 샘플만 반영
+     * (잠금 대기 중 커밋된 진도 초기화 이전 샘플을 걸러내기 위해 잠금 이후에 판정)
+     * @return 반영한 샘플
+     */
+    List<LearningHeartbeatSample> applyHeartbeats(List<LearningHeartbeatSample> samples,
+                                                  Predicate<LearningHeartbeatSample> stillValid);
+
+    /**
+     * 사용자 × 강좌 진도를 엔티티 없이 한 행씩 전달 (lessonId, watchedSec, lastPositionSec, completed)
+     */
+    void scanProgress(Long userId, Long courseId, ProgressRowHandler handler);
+
+    @FunctionalInterface
+    interface ProgressRowHandler {
+        void accept(long lessonId, int watchedSec, int lastPositionSec, boolean completed);
+    }
+}
@@ -0,0 +1,158 @@
+package org.zerock.projecttraveler.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.zerock.projecttraveler.dto.LearningHeartbeatSample;
+import org.zerock.projecttraveler.dto.WatchCoverage;
+import org.zerock.projecttraveler.entity.IdGenerators;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.function.Predicate;
+
+@Repository
+@RequiredArgsConstructor
+public class LessonProgressRepositoryImpl implements LessonProgressRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PooledIdAllocator idAllocator;
+
+    private static final String UPDATE_PROGRESS_SQL = """
+            UPDATE lesson_progress
+            SET last_position_sec = ?, watched_sec = watched_sec + ?, watched_coverage = ?, updated_at = ?
+            WHERE user_id = ? AND lesson_id = ?
+            """;
+
+    // 비트 OR는 DB마다 지원이 달라 기존 비트맵을 잠금 조회 후 메모리에서 병합
+    // (user_id, lesson_id) 쌍 조건만 나열 → 배치에 포함된 행만 잠금 (uk 인덱스 동등 조회)
+    private static final String SELECT_COVERAGE_SQL = """
+            SELECT user_id, lesson_id, watched_coverage, watched_sec
+            FROM lesson_progress
+            WHERE %s
+            FOR UPDATE
+            """;
+
+    private static final String COVERAGE_PAIR_PREDICATE = "(user_id = ? AND lesson_id = ?)";
+
+    // 레슨이 해당 강좌에 속할 때만, 아직 진도 행이 없을 때만 생성
+    private static final String INSERT_PROGRESS_SQL = """
+            INSERT INTO lesson_progress
+                (id, user_id, course_id, lesson_id, last_position_sec, watched_sec, watched_coverage,
+                 completed, started_at, updated_at)
+            SELECT ?, ?, l.course_id, l.id, ?, ?, ?, ?, ?, ?
+            FROM lesson l
+            WHERE l.id = ? AND l.course_id = ?
+              AND NOT EXISTS (SELECT 1 FROM lesson_progress p WHERE p.user_id = ? AND p.lesson_id = ?)
+            """;
+
+    private static final String SCAN_PROGRESS_SQL = """
+            SELECT lesson_id, watched_sec, last_position_sec, completed
+            FROM lesson_progress
+            WHERE user_id = ? AND course_id = ?
+            """;
+
+    @Override
+    public List<LearningHeartbeatSample> applyHeartbeats(List<LearningHeartbeatSample> candidates,
+                                                         Predicate<LearningHeartbeatSample> stillValid) {
+        if (candidates.isEmpty()) return List.of();
+
+        Map<String, byte[]> storedCoverage = lockCoverage(candidates);
+        List<LearningHeartbeatSample> samples = candidates.stream().filter(stillValid).toList();
+        if (samples.isEmpty()) return samples;
+
+        // 배치 크기 = 전체 건수 → 결과는 단일 배치 (int[1][n])
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_PROGRESS_SQL, samples, samples.size(), (ps, s) -> {
+            ps.setInt(1, s.positionSec());
+            ps.setInt(2, s.watchedDeltaSec());
+            ps.setBytes(3, WatchCoverage.or(storedCoverage.get(key(s.userId(), s.lessonId())), s.coverage()));
+            ps.setTimestamp(4, Timestamp.valueOf(s.lastBeatAt()));
+            ps.setLong(5, s.userId());
+            ps.setLong(6, s.lessonId());
+        })[0];
+
+        // 갱신되지 않은(또는 드라이버가 건수를 알려주지 않은) 샘플만 INSERT 대상
+        List<LearningHeartbeatSample> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0 || updated[i] == Statement.SUCCESS_NO_INFO) {
+                missing.add(samples.get(i));
+            }
+        }
+        if (missing.isEmpty()) return samples;
+
+        // 조건 불충족으로 INSERT되지 않은 행의 ID는 버려짐 (빈 번호 허용)
+        long[] ids = idAllocator.allocate(IdGenerators.LESSON_PROGRESS, missing.size());
+
+        jdbcTemplate.batchUpdate(INSERT_PROGRESS_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                LearningHeartbeatSample s = missing.get(i);
+                Timestamp at = Timestamp.valueOf(s.lastBeatAt());
+                ps.setLong(1, ids[i]);
+                ps.setLong(2, s.userId());
+                ps.setInt(3, s.positionSec());
+                ps.setInt(4, s.watchedDeltaSec());
+                ps.setBytes(5, s.coverage());
+                ps.setBoolean(6, false);
+                ps.setTimestamp(7, at);
+                ps.setTimestamp(8, at);
+                ps.setLong(9, s.lessonId());
+                ps.setLong(10, s.courseId());
+                ps.setLong(11, s.userId());
+                ps.setLong(12, s.lessonId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return missing.size();
+            }
+        });
+        return samples;
+    }
+
+    /**
+     * 대상 진도 행의 시청 구간 비트맵 조회 (행 잠금, 트랜잭션 종료까지 유지)
+     * 비트맵이 없는 기존 행은 누적 시청 시간으로 초기 비트맵을 만들어 반환
+     */
+    private Map<String, byte[]> lockCoverage(List<LearningHeartbeatSample> samples) {
+        Set<String> requested = new LinkedHashSet<>();
+        List<Object> args = new ArrayList<>(samples.size() * 2);
+        for (LearningHeartbeatSample s : samples) {
+            if (requested.add(key(s.userId(), s.lessonId()))) {
+                args.add(s.userId());
+                args.add(s.lessonId());
+            }
+        }
+        String sql = SELECT_COVERAGE_SQL.formatted(
+                String.join(" OR ", Collections.nCopies(requested.size(), COVERAGE_PAIR_PREDICATE)));
+
+        Map<String, byte[]> coverage = new HashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            String key = key(rs.getLong(1), rs.getLong(2));
+            byte[] bits = WatchCoverage.seedIfAbsent(rs.getBytes(3), rs.getInt(4));
+            if (bits != null && requested.contains(key)) {
+                coverage.put(key, bits);
+            }
+        }, args.toArray());
+        return coverage;
+    }
+
+    private static String key(long userId, long lessonId) {
+        return userId + ":" + lessonId;
+    }
+
+    @Override
+    public void scanProgress(Long userId, Long courseId, ProgressRowHandler handler) {
+        RowCallbackHandler rowHandler = rs -> handler.accept(
+                rs.getLong(1),
+                rs.getInt(2),
+                rs.getInt(3),
+                rs.getBoolean(4));
+        jdbcTemplate.query(SCAN_PROGRESS_SQL, rowHandler, userId, courseId);
+    }
+}
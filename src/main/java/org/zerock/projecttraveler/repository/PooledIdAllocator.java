@@ -0,0 +1,117 @@
+package org.zerock.projecttraveler.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.zerock.projecttraveler.entity.IdGenerators;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JDBC 직접 INSERT 경로용 ID 할당기 (Hibernate @TableGenerator와 같은 id_generator 행 사용)
+ *
+ * Hibernate pooled-lo 옵티마이저와 같은 규칙으로 블록을 예약한다:
+ * next_val = v 를 읽고 v + ALLOCATION_SIZE 로 바꾼 쪽이 [v, v + ALLOCATION_SIZE) 를 사용.
+ * 블록 예약은 별도 트랜잭션에서 즉시 커밋되므로 호출 트랜잭션이 롤백되어도 ID가 재사용되지 않는다.
+ *
+ * 시작 시(요청/초기 데이터 생성 전) 각 행의 next_val을 대상 테이블 MAX(id) + 1 이상으로 맞춘다.
+ * (IDENTITY로 쌓인 기존 ID 유지, ddl-auto=update 환경에서 새로 생긴 id_generator 테이블 채우기)
+ */
+@Repository
+@Slf4j
+public class PooledIdAllocator implements SmartInitializingSingleton {
+
+    // 행 잠금 조회 → 다른 서버/Hibernate 예약은 커밋까지 대기 후 최신 값을 읽음
+    // (조건부 UPDATE 재시도는 REPEATABLE READ 스냅숏에서 같은 옛 값만 다시 읽어 끝나지 않음)
+    private static final String SELECT_FOR_UPDATE_SQL =
+            "SELECT " + IdGenerators.VALUE_COLUMN + " FROM " + IdGenerators.TABLE +
+            " WHERE " + IdGenerators.PK_COLUMN + " = ? FOR UPDATE";
+
+    private static final String RESERVE_SQL =
+            "UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = ?" +
+            " WHERE " + IdGenerators.PK_COLUMN + " = ?";
+
+    // 행이 없으면 대상 테이블 MAX(id) + 1 로 생성 (%s = 대상 테이블)
+    private static final String SEED_SQL =
+            "INSERT INTO " + IdGenerators.TABLE + " (" + IdGenerators.PK_COLUMN + ", " + IdGenerators.VALUE_COLUMN + ")" +
+            " SELECT ?, COALESCE(MAX(t.id), 0) + 1 FROM %s t" +
+            " WHERE NOT EXISTS (SELECT 1 FROM " + IdGenerators.TABLE + " g WHERE g." + IdGenerators.PK_COLUMN + " = ?)";
+
+    // 기존 행이 이미 쓰인 ID를 가리키면 MAX(id) + 1 로 올림
+    private static final String RAISE_SQL =
+            "UPDATE " + IdGenerators.TABLE +
+            " SET " + IdGenerators.VALUE_COLUMN + " = (SELECT COALESCE(MAX(t.id), 0) + 1 FROM %1$s t)" +
+            " WHERE " + IdGenerators.PK_COLUMN + " = ?" +
+            " AND " + IdGenerators.VALUE_COLUMN + " <= (SELECT COALESCE(MAX(t.id), 0) FROM %1$s t)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    private final ConcurrentHashMap<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public PooledIdAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String sequenceName : IdGenerators.ALL) {
+            requiresNew.executeWithoutResult(status -> {
+                int created = jdbcTemplate.update(SEED_SQL.formatted(sequenceName), sequenceName, sequenceName);
+                int raised = jdbcTemplate.update(RAISE_SQL.formatted(sequenceName), sequenceName);
+                if (created + raised > 0) {
+                    log.info("ID 생성기 초기화: {} (created={}, raised={})", sequenceName, created, raised);
+                }
+            });
+        }
+    }
+
+    /**
+     * ID count개 할당 (sequenceName = IdGenerators 상수)
+     */
+    public long[] allocate(String sequenceName, int count) {
+        long[] ids = new long[count];
+        if (count == 0) return ids;
+
+        Block block = blocks.computeIfAbsent(sequenceName, k -> new Block());
+        synchronized (block) {
+            for (int i = 0; i < count; i++) {
+                if (block.next >= block.limit) {
+                    long lo = reserve(sequenceName);
+                    block.next = lo;
+                    block.limit = lo + IdGenerators.ALLOCATION_SIZE;
+                }
+                ids[i] = block.next++;
+            }
+        }
+        return ids;
+    }
+
+    private long reserve(String sequenceName) {
+        Long lo = requiresNew.execute(status -> {
+            List<Long> current = jdbcTemplate.queryForList(SELECT_FOR_UPDATE_SQL, Long.class, sequenceName);
+            if (current.isEmpty()) {
+                throw new IllegalStateException("ID 생성기 행이 없습니다: " + sequenceName);
+            }
+            long value = current.get(0);
+            jdbcTemplate.update(RESERVE_SQL, value + IdGenerators.ALLOCATION_SIZE, sequenceName);
+            return value;
+        });
+        return lo;
+    }
+
+    /**
+     * 메모리에 남은 블록 [next, limit)
+     */
+    private static final class Block {
+        private long next;
+        private long limit;
+    }
+}
@@ -3,6 +3,7 @@ package org.zerock.projecttraveler.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.zerock.projecttraveler.dto.QuizAttemptStats;
 import org.zerock.projecttraveler.entity.QuizAttempt;
 
 import java.util.List;
@@ -51,4 +52,36 @@ public interface QuizAttemptRepository extends JpaRepository<QuizAttempt, Long>
      * 특정 사이클에서 합격 여부 확인
      */
     boolean existsByUserIdAndQuizIdAndCycleAndPassedTrue(Long userId, Long quizId, Integer cycle);
+
+    /**
+     * 강좌 퀴즈별 시도 집계 (시도 기록이 있는 퀴즈만, 퀴즈당 한 행)
+     */
+    @Query("SELECT new org.zerock.projecttraveler.dto.QuizAttemptStats(" +
+           "a.quiz.id, " +
+           "MAX(CASE WHEN a.completedAt IS NOT NULL THEN a.scorePercent END), " +
+           "COUNT(a), " +
+           "SUM(CASE WHEN a.passed = true THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN a.cycle = :cycle THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN a.cycle = :cycle AND a.passed = true THEN 1 ELSE 0 END)) " +
+           "FROM QuizAttempt a WHERE a.user.id = :userId AND a.quiz.course.id = :courseId " +
+           "GROUP BY a.quiz.id")
+    List<QuizAttemptStats> findStatsByUserIdAndCourseId(@Param("userId") Long userId,
+                                                        @Param("courseId") Long courseId,
+                                                        @Param("cycle") Integer cycle);
+
+    /**
+     * 단일 퀴즈 시도 집계 (시도 기록이 없으면 empty)
+     */
+    @Query("SELECT new org.zerock.projecttraveler.dto.QuizAttemptStats(" +
+           "a.quiz.id, " +
+           "MAX(CASE WHEN a.completedAt IS NOT NULL THEN a.scorePercent END), " +
+           "COUNT(a), " +
+           "SUM(CASE WHEN a.passed = true THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN a.cycle = :cycle THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN a.cycle = :cycle AND a.passed = true THEN 1 ELSE 0 END)) " +
+           "FROM QuizAttempt a WHERE a.user.id = :userId AND a.quiz.id = :quizId " +
+           "GROUP BY a.quiz.id")
+    Optional<QuizAttemptStats> findStatsByUserIdAndQuizId(@Param("userId") Long userId,
+                                                          @Param("quizId") Long quizId,
+                                                          @Param("cycle") Integer cycle);
 }
@@ -1,13 +1,19 @@
 package org.zerock.projecttraveler.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.zerock.projecttraveler.entity.QuizOption;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface QuizOptionRepository extends JpaRepository<QuizOption, Long> {
 
     List<QuizOption> findByQuestionIdOrderBySortOrderAsc(Long questionId);
 
     List<QuizOption> findByQuestionIdAndIsCorrectTrue(Long questionId);
+
+    @Query("SELECT o.question.quiz.id FROM QuizOption o WHERE o.id = :optionId")
+    Optional<Long> findQuizIdByOptionId(@Param("optionId") Long optionId);
 }
@@ -0,0 +1,11 @@
+package org.zerock.projecttraveler.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.zerock.projecttraveler.entity.QuizOptionStat;
+
+import java.util.List;
+
+public interface QuizOptionStatRepository extends JpaRepository<QuizOptionStat, Long> {
+
+    List<QuizOptionStat> findByQuizId(Long quizId);
+}
@@ -15,4 +15,9 @@ public interface QuizQuestionRepository extends JpaRepository<QuizQuestion, Long
     List<QuizQuestion> findByQuizIdWithOptions(@Param("quizId") Long quizId);
 
     int countByQuizId(Long quizId);
+
+    // 강좌 활성 퀴즈의 전체 문제 + 선택지 (QuizCatalogCache, 퀴즈 fetch join 조회 직후 같은 컨텍스트에서 사용)
+    @Query("SELECT DISTINCT q FROM QuizQuestion q LEFT JOIN FETCH q.options " +
+           "WHERE q.quiz.course.id = :courseId AND q.quiz.active = true")
+    List<QuizQuestion> findActiveByCourseIdWithOptions(@Param("courseId") Long courseId);
 }
@@ -0,0 +1,11 @@
+package org.zerock.projecttraveler.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.zerock.projecttraveler.entity.QuizQuestionStat;
+
+import java.util.List;
+
+public interface QuizQuestionStatRepository extends JpaRepository<QuizQuestionStat, Long>, QuizQuestionStatRepositoryCustom {
+
+    List<QuizQuestionStat> findByQuizId(Long quizId);
+}
@@ -0,0 +1,18 @@
+package org.zerock.projecttraveler.repository;
+
+import org.zerock.projecttraveler.dto.QuizItemStatDelta;
+
+import java.util.List;
+
+public interface QuizQuestionStatRepositoryCustom {
+
+    /**
+     * 문제별 집계 증분을 JDBC 배치로 더함 (없는 집계 행은 생성)
+     */
+    void applyQuestionDeltas(List<QuizItemStatDelta.Question> deltas);
+
+    /**
+     * 선택지별 집계 증분을 JDBC 배치로 더함 (없는 집계 행은 생성)
+     */
+    void applyOptionDeltas(List<QuizItemStatDelta.Option> deltas);
+}
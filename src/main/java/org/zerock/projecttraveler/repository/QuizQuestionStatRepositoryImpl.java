@@ -0,0 +1,119 @@
+package org.zerock.projecttraveler.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.zerock.projecttraveler.dto.QuizItemStatDelta;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class QuizQuestionStatRepositoryImpl implements QuizQuestionStatRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String UPDATE_QUESTION_SQL = """
+            UPDATE quiz_question_stat
+            SET answered_count = answered_count + ?, correct_count = correct_count + ?,
+                passed_answered_count = passed_answered_count + ?, passed_correct_count = passed_correct_count + ?,
+                updated_at = ?
+            WHERE question_id = ?
+            """;
+
+    // 문제가 남아 있을 때만, 아직 집계 행이 없을 때만 생성
+    private static final String INSERT_QUESTION_SQL = """
+            INSERT INTO quiz_question_stat
+                (question_id, quiz_id, answered_count, correct_count, passed_answered_count, passed_correct_count, updated_at)
+            SELECT q.id, ?, ?, ?, ?, ?, ?
+            FROM quiz_question q
+            WHERE q.id = ?
+              AND NOT EXISTS (SELECT 1 FROM quiz_question_stat s WHERE s.question_id = ?)
+            """;
+
+    private static final String UPDATE_OPTION_SQL = """
+            UPDATE quiz_option_stat
+            SET selected_count = selected_count + ?, passed_selected_count = passed_selected_count + ?, updated_at = ?
+            WHERE option_id = ?
+            """;
+
+    // 선택지가 남아 있을 때만, 아직 집계 행이 없을 때만 생성
+    private static final String INSERT_OPTION_SQL = """
+            INSERT INTO quiz_option_stat
+                (option_id, question_id, quiz_id, selected_count, passed_selected_count, updated_at)
+            SELECT o.id, ?, ?, ?, ?, ?
+            FROM quiz_option o
+            WHERE o.id = ?
+              AND NOT EXISTS (SELECT 1 FROM quiz_option_stat s WHERE s.option_id = ?)
+            """;
+
+    @Override
+    public void applyQuestionDeltas(List<QuizItemStatDelta.Question> deltas) {
+        if (deltas.isEmpty()) return;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_QUESTION_SQL, deltas, deltas.size(), (ps, d) -> {
+            ps.setLong(1, d.answered());
+            ps.setLong(2, d.correct());
+            ps.setLong(3, d.passedAnswered());
+            ps.setLong(4, d.passedCorrect());
+            ps.setTimestamp(5, now);
+            ps.setLong(6, d.questionId());
+        })[0];
+
+        List<QuizItemStatDelta.Question> missing = missing(deltas, updated);
+        if (missing.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_QUESTION_SQL, missing, missing.size(), (ps, d) -> {
+            ps.setLong(1, d.quizId());
+            ps.setLong(2, d.answered());
+            ps.setLong(3, d.correct());
+            ps.setLong(4, d.passedAnswered());
+            ps.setLong(5, d.passedCorrect());
+            ps.setTimestamp(6, now);
+            ps.setLong(7, d.questionId());
+            ps.setLong(8, d.questionId());
+        });
+    }
+
+    @Override
+    public void applyOptionDeltas(List<QuizItemStatDelta.Option> deltas) {
+        if (deltas.isEmpty()) return;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_OPTION_SQL, deltas, deltas.size(), (ps, d) -> {
+            ps.setLong(1, d.selected());
+            ps.setLong(2, d.passedSelected());
+            ps.setTimestamp(3, now);
+            ps.setLong(4, d.optionId());
+        })[0];
+
+        List<QuizItemStatDelta.Option> missing = missing(deltas, updated);
+        if (missing.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_OPTION_SQL, missing, missing.size(), (ps, d) -> {
+            ps.setLong(1, d.questionId());
+            ps.setLong(2, d.quizId());
+            ps.setLong(3, d.selected());
+            ps.setLong(4, d.passedSelected());
+            ps.setTimestamp(5, now);
+            ps.setLong(6, d.optionId());
+            ps.setLong(7, d.optionId());
+        });
+    }
+
+    // 갱신되지 않은 증분만 INSERT 대상 (배치 크기 = 전체 건수 → 결과는 단일 배치)
+    private static <T> List<T> missing(List<T> deltas, int[] updated) {
+        List<T> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0 || updated[i] == Statement.SUCCESS_NO_INFO) {
+                missing.add(deltas.get(i));
+            }
+        }
+        return missing;
+    }
+}
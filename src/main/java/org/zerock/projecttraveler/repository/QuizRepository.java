@@ -26,11 +26,23 @@ public interface QuizRepository extends JpaRepository<Quiz, Long> {
     // 코스별 퀴즈 리스트 조회 (ID 오름차순)
     List<Quiz> findByCourseIdAndActiveTrueOrderByIdAsc(Long courseId);
 
+    // 코스별 활성 퀴즈 + 문제 (ID 오름차순, 선택지는 QuizQuestionRepository.findActiveByCourseIdWithOptions로 채움)
+    @Query("SELECT DISTINCT q FROM Quiz q LEFT JOIN FETCH q.questions " +
+           "WHERE q.course.id = :courseId AND q.active = true ORDER BY q.id ASC")
+    List<Quiz> findActiveByCourseIdWithQuestions(@Param("courseId") Long courseId);
+
+    @Query("SELECT q.course.id FROM Quiz q WHERE q.id = :quizId")
+    Optional<Long> findCourseIdById(@Param("quizId") Long quizId);
+
     // 레슨별 퀴즈 조회
     Optional<Quiz> findFirstByLessonIdAndActiveTrue(Long lessonId);
 
     List<Quiz> findByLessonIdAndActiveTrue(Long lessonId);
 
+    // 레슨에 활성 퀴즈가 있는 강좌 ID (보통 레슨의 강좌 하나)
+    @Query("SELECT DISTINCT q.course.id FROM Quiz q WHERE q.lesson.id = :lessonId AND q.active = true")
+    List<Long> findActiveCourseIdsByLessonId(@Param("lessonId") Long lessonId);
+
     // 레슨별 퀴즈 리스트 조회 (ID 오름차순)
     List<Quiz> findByLessonIdAndActiveTrueOrderByIdAsc(Long lessonId);
 
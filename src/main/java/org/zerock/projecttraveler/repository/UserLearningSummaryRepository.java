@@ -0,0 +1,7 @@
+package org.zerock.projecttraveler.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.zerock.projecttraveler.entity.UserLearningSummary;
+
+public interface UserLearningSummaryRepository extends JpaRepository<UserLearningSummary, Long>, UserLearningSummaryRepositoryCustom {
+}
@@ -0,0 +1,37 @@
+package org.zerock.projecttraveler.repository;
+
+import org.zerock.projecttraveler.entity.UserLearningSummary;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+
+public interface UserLearningSummaryRepositoryCustom {
+
+    /**
+     * 사용자별 시청 시간 증분을 JDBC 배치로 더함 (요약 행이 없는 사용자는 건너뜀)
+     */
+    void addWatchedSec(Map<Long, Long> deltaByUserId);
+
+    /**
+     * 출석 1일 반영 (연속 출석/이번 달 출석 포함, 같은 날짜는 한 번만)
+     * @return 갱신된 행 수
+     */
+    int recordAttendance(Long userId, LocalDate attendDate);
+
+    /**
+     * 수강 수/진도율 합계를 course_enrollment 기준으로 다시 계산 (사용자 단위)
+     */
+    void refreshEnrollments(Collection<Long> userIds);
+
+    /**
+     * 강좌 수강자 전원의 수강 수/진도율 합계 재계산 (레슨 추가/삭제로 전체 레슨 수가 바뀐 경우)
+     * @return 갱신된 행 수
+     */
+    int refreshEnrollmentsByCourse(Long courseId);
+
+    /**
+     * 요약 행 전체를 주어진 값으로 교체 (없으면 생성, 사용자가 없으면 무시)
+     */
+    void replace(UserLearningSummary summary);
+}
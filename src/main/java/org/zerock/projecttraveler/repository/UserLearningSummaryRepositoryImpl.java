@@ -0,0 +1,153 @@
+package org.zerock.projecttraveler.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.zerock.projecttraveler.entity.UserLearningSummary;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class UserLearningSummaryRepositoryImpl implements UserLearningSummaryRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String ADD_WATCHED_SQL = """
+            UPDATE user_learning_summary
+            SET total_watched_sec = total_watched_sec + ?, updated_at = ?
+            WHERE user_id = ?
+            """;
+
+    // MariaDB는 SET을 왼쪽부터 적용 → 기준 날짜/월은 CASE 계산 뒤에 갱신
+    private static final String RECORD_ATTENDANCE_SQL = """
+            UPDATE user_learning_summary
+            SET total_attendance_days = total_attendance_days + 1,
+                current_streak = CASE WHEN last_attend_date = ? THEN current_streak + 1 ELSE 1 END,
+                month_attendance_days = CASE WHEN attendance_month = ? THEN month_attendance_days + 1 ELSE 1 END,
+                attendance_month = ?,
+                last_attend_date = ?,
+                updated_at = ?
+            WHERE user_id = ?
+              AND (last_attend_date IS NULL OR last_attend_date < ?)
+            """;
+
+    // 진행 중 = APPROVED, ASSIGNED, PAUSED (CourseEnrollment.isInProgress와 동일)
+    private static final String SET_ENROLLMENTS = """
+            UPDATE user_learning_summary
+            SET in_progress_count = (SELECT COUNT(*) FROM course_enrollment e
+                                     WHERE e.user_id = user_learning_summary.user_id
+                                       AND e.status IN ('APPROVED', 'ASSIGNED', 'PAUSED')),
+                completed_count = (SELECT COUNT(*) FROM course_enrollment e
+                                   WHERE e.user_id = user_learning_summary.user_id
+                                     AND e.status = 'COMPLETED'),
+                in_progress_percent_sum = (SELECT COALESCE(SUM(CASE WHEN e.total_lesson_count > 0
+                                                   THEN LEAST(100, FLOOR(e.completed_lesson_count * 100 / e.total_lesson_count))
+                                                   ELSE 0 END), 0)
+                                           FROM course_enrollment e
+                                           WHERE e.user_id = user_learning_summary.user_id
+                                             AND e.status IN ('APPROVED', 'ASSIGNED', 'PAUSED')),
+                updated_at = ?
+            """;
+
+    private static final String REFRESH_ENROLLMENTS_SQL = SET_ENROLLMENTS + "WHERE user_id = ?";
+
+    private static final String REFRESH_ENROLLMENTS_BY_COURSE_SQL = SET_ENROLLMENTS
+            + "WHERE user_id IN (SELECT c.user_id FROM course_enrollment c WHERE c.course_id = ?)";
+
+    private static final String REPLACE_UPDATE_SQL = """
+            UPDATE user_learning_summary
+            SET in_progress_count = ?, completed_count = ?, in_progress_percent_sum = ?, total_watched_sec = ?,
+                total_attendance_days = ?, current_streak = ?, last_attend_date = ?,
+                attendance_month = ?, month_attendance_days = ?, rebuilt_at = ?, updated_at = ?
+            WHERE user_id = ?
+            """;
+
+    // 사용자가 존재하고 아직 요약 행이 없을 때만 생성
+    private static final String REPLACE_INSERT_SQL = """
+            INSERT INTO user_learning_summary
+                (user_id, in_progress_count, completed_count, in_progress_percent_sum, total_watched_sec,
+                 total_attendance_days, current_streak, last_attend_date,
+                 attendance_month, month_attendance_days, rebuilt_at, updated_at)
+            SELECT u.id, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?
+            FROM users u
+            WHERE u.id = ?
+              AND NOT EXISTS (SELECT 1 FROM user_learning_summary s WHERE s.user_id = ?)
+            """;
+
+    @Override
+    public void addWatchedSec(Map<Long, Long> deltaByUserId) {
+        List<Map.Entry<Long, Long>> rows = new ArrayList<>(deltaByUserId.size());
+        for (Map.Entry<Long, Long> entry : deltaByUserId.entrySet()) {
+            if (entry.getValue() != 0) {
+                rows.add(entry);
+            }
+        }
+        if (rows.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(ADD_WATCHED_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.getValue());
+            ps.setTimestamp(2, now);
+            ps.setLong(3, row.getKey());
+        });
+    }
+
+    @Override
+    public int recordAttendance(Long userId, LocalDate attendDate) {
+        int month = UserLearningSummary.monthKey(attendDate);
+        Date date = Date.valueOf(attendDate);
+        return jdbcTemplate.update(RECORD_ATTENDANCE_SQL,
+                Date.valueOf(attendDate.minusDays(1)), month, month, date,
+                Timestamp.valueOf(LocalDateTime.now()), userId, date);
+    }
+
+    @Override
+    public void refreshEnrollments(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+
+        List<Long> rows = new ArrayList<>(userIds);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(REFRESH_ENROLLMENTS_SQL, rows, rows.size(), (ps, userId) -> {
+            ps.setTimestamp(1, now);
+            ps.setLong(2, userId);
+        });
+    }
+
+    @Override
+    public int refreshEnrollmentsByCourse(Long courseId) {
+        return jdbcTemplate.update(REFRESH_ENROLLMENTS_BY_COURSE_SQL,
+                Timestamp.valueOf(LocalDateTime.now()), courseId);
+    }
+
+    @Override
+    public void replace(UserLearningSummary s) {
+        Timestamp rebuiltAt = Timestamp.valueOf(s.getRebuiltAt());
+        Date lastAttendDate = s.getLastAttendDate() != null ? Date.valueOf(s.getLastAttendDate()) : null;
+
+        int updated = jdbcTemplate.update(REPLACE_UPDATE_SQL,
+                s.getInProgressCount(), s.getCompletedCount(), s.getInProgressPercentSum(), s.getTotalWatchedSec(),
+                s.getTotalAttendanceDays(), s.getCurrentStreak(), lastAttendDate,
+                s.getAttendanceMonth(), s.getMonthAttendanceDays(), rebuiltAt, rebuiltAt,
+                s.getUserId());
+        if (updated > 0) return;
+
+        try {
+            jdbcTemplate.update(REPLACE_INSERT_SQL,
+                    s.getInProgressCount(), s.getCompletedCount(), s.getInProgressPercentSum(), s.getTotalWatchedSec(),
+                    s.getTotalAttendanceDays(), s.getCurrentStreak(), lastAttendDate,
+                    s.getAttendanceMonth(), s.getMonthAttendanceDays(), rebuiltAt, rebuiltAt,
+                    s.getUserId(), s.getUserId());
+        } catch (DataIntegrityViolationException e) {
+            // NOT EXISTS 확인 직후 다른 요청이 먼저 생성 → 같은 원본 기준 값이므로 무시
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package org.zerock.projecttraveler.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.zerock.projecttraveler.dto.UserOption;
 import org.zerock.projecttraveler.entity.User;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
     Optional<User> findByUsername(String username);
 
@@ -17,4 +22,26 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findByRole(User.Role role);
 
     List<User> findByEnabledTrue();
+
+    // 전체 사용자 ID (학습 요약 전체 재계산용)
+    @Query("SELECT u.id FROM User u ORDER BY u.id")
+    List<Long> findAllIds();
+
+    // 주어진 ID 중 존재하는 사용자 ID (일괄 처리용)
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 주어진 아이디 중 이미 사용 중인 아이디 (일괄 등록 중복 확인용)
+    @Query("SELECT u.username FROM User u WHERE u.username IN :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    // 관리자 사용자 검색 (id 키셋, 아이디/이름 앞부분 일치)
+    @Query("SELECT new org.zerock.projecttraveler.dto.UserOption(u.id, u.username, u.fullName) FROM User u " +
+           "WHERE u.role = 'USER' AND u.id > :afterId " +
+           "  AND (:prefix IS NULL OR u.username LIKE :prefix OR u.fullName LIKE :prefix) " +
+           "ORDER BY u.id")
+    List<UserOption> searchUserOptions(@Param("prefix") String prefix, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT u.id FROM User u WHERE u.username IN :usernames")
+    List<Long> findIdsByUsernames(@Param("usernames") Collection<String> usernames);
 }
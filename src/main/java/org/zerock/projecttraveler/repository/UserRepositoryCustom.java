@@ -0,0 +1,15 @@
+package org.zerock.projecttraveler.repository;
+
+import org.zerock.projecttraveler.entity.User;
+
+import java.util.List;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * 사용자 일괄 생성 (JDBC 배치, IDENTITY 키라 JPA saveAll은 행마다 INSERT)
+     * 아이디 중복은 호출 측에서 미리 걸러야 하며, 그 사이 다른 요청이 같은 아이디를 만들면
+     * 유니크 제약 위반(DataIntegrityViolationException)으로 배치 전체가 실패한다.
+     */
+    void insertAll(List<User> users);
+}
@@ -0,0 +1,40 @@
+package org.zerock.projecttraveler.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.zerock.projecttraveler.entity.User;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO users (username, password, email, full_name, role, enabled, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    @Override
+    public void insertAll(List<User> users) {
+        if (users.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, users, users.size(), (ps, u) -> {
+            ps.setString(1, u.getUsername());
+            ps.setString(2, u.getPassword());
+            ps.setObject(3, u.getEmail(), Types.VARCHAR);
+            ps.setObject(4, u.getFullName(), Types.VARCHAR);
+            ps.setString(5, u.getRole().name());
+            ps.setBoolean(6, u.getEnabled());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+}
@@ -0,0 +1,137 @@
+package org.zerock.projecttraveler.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.zerock.projecttraveler.repository.AttendanceDailyRepository;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 오늘 출석한 사용자 ID 비트맵
+ *
+ * 출석 여부는 사용자당 하루 한 번만 바뀌므로, heartbeat마다 DB에서 확인하지 않고
+ * 비트가 켜진 사용자는 바로 건너뛴다. (하루 첫 출석만 DB 접근)
+ * - 시작 시 attendance_daily에서 오늘 출석자로 재구성
+ * - 자정에 새 날짜의 빈 비트맵으로 교체 (요청 시 날짜가 바뀌었으면 즉시 교체)
+ * - 비트는 "출석 행이 DB에 있음"이 확인된 뒤에만 켬 → 다른 서버가 먼저 기록해도 DB가 기준
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AttendanceBitmap {
+
+    private final AttendanceDailyRepository attendanceRepository;
+
+    private volatile Day current = new Day(LocalDate.now());
+
+    private static final class Day {
+        private final LocalDate date;
+        private final BitSet bits = new BitSet();
+
+        private Day(LocalDate date) {
+            this.date = date;
+        }
+
+        private synchronized boolean get(int userId) {
+            return bits.get(userId);
+        }
+
+        private synchronized void set(int userId) {
+            bits.set(userId);
+        }
+
+        private synchronized int cardinality() {
+            return bits.cardinality();
+        }
+    }
+
+    /**
+     * 오늘 출석이 확인된 사용자인지 (false면 DB 확인 필요)
+     */
+    public boolean isMarked(Long userId, LocalDate date) {
+        if (!fitsInBitmap(userId)) return false;
+        Day day = dayFor(date);
+        return day != null && day.get(userId.intValue());
+    }
+
+    /**
+     * 출석 행 존재가 확인된 사용자 기록
+     * 트랜잭션 안에서 호출되면 커밋 후에 기록 (롤백된 출석이 비트맵에 남지 않도록)
+     */
+    public void mark(Long userId, LocalDate date) {
+        if (!fitsInBitmap(userId)) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markNow(userId, date);
+                }
+            });
+        } else {
+            markNow(userId, date);
+        }
+    }
+
+    private void markNow(Long userId, LocalDate date) {
+        Day day = dayFor(date);
+        if (day != null) {
+            day.set(userId.intValue());
+        }
+    }
+
+    /**
+     * 시작 시 오늘 출석자로 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        List<Long> userIds = attendanceRepository.findUserIdsByAttendDate(today);
+        for (Long userId : userIds) {
+            if (fitsInBitmap(userId)) markNow(userId, today);
+        }
+        log.info("출석 비트맵 재구성: date={}, users={}", today, userIds.size());
+    }
+
+    /**
+     * 자정 교체
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void rollover() {
+        Day previous = current;
+        dayFor(LocalDate.now());
+        log.info("출석 비트맵 교체: {} ({}명) → {}", previous.date, previous.cardinality(), current.date);
+    }
+
+    /**
+     * 해당 날짜의 비트맵 (오늘이 아니면 null)
+     */
+    private Day dayFor(LocalDate date) {
+        LocalDate today = LocalDate.now();
+        if (!date.equals(today)) return null;
+
+        Day day = current;
+        if (!day.date.equals(today)) {
+            synchronized (this) {
+                day = current;
+                if (!day.date.equals(today)) {
+                    day = new Day(today);
+                    current = day;
+                }
+            }
+        }
+        return day;
+    }
+
+    private boolean fitsInBitmap(Long userId) {
+        return userId != null && userId >= 0 && userId <= Integer.MAX_VALUE;
+    }
+}
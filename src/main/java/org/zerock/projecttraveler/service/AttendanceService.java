@@ -5,17 +5,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.zerock.projecttraveler.dto.AttendanceDto;
-import org.zerock.projecttraveler.entity.AttendanceDaily;
-import org.zerock.projecttraveler.entity.User;
+import org.zerock.projecttraveler.entity.AttendanceYear;
 import org.zerock.projecttraveler.repository.AttendanceDailyRepository;
-import org.zerock.projecttraveler.repository.UserRepository;
+import org.zerock.projecttraveler.repository.AttendanceYearRepository;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,32 +24,51 @@ import java.util.stream.Collectors;
 public class AttendanceService {
 
     private final AttendanceDailyRepository attendanceRepository;
-    private final UserRepository userRepository;
+    private final AttendanceYearRepository attendanceYearRepository;
+    private final AttendanceBitmap attendanceBitmap;
+    private final LearningSummaryService learningSummaryService;
 
     /**
      * 출석 체크 (오늘 출석 안 했으면 기록)
+     * 오늘 이미 출석이 확인된 사용자는 DB 접근 없이 false
      */
     @Transactional
     public boolean checkIn(Long userId) {
         LocalDate today = LocalDate.now();
 
-        if (attendanceRepository.existsByUserIdAndAttendDate(userId, today)) {
-            log.debug("이미 출석함: userId={}, date={}", userId, today);
+        if (attendanceBitmap.isMarked(userId, today)) {
             return false;
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 동시 요청/다른 서버와 경합해도 unique (user_id, attend_date) 기준으로 한 번만 생성
+        if (attendanceRepository.insertIfAbsent(userId, today)) {
+            markYear(userId, today);
+            attendanceBitmap.mark(userId, today);
+            learningSummaryService.onAttendance(userId, today);
+            log.info("출석 체크: userId={}, date={}", userId, today);
+            return true;
+        }
 
-        AttendanceDaily attendance = AttendanceDaily.builder()
-                .user(user)
-                .attendDate(today)
-                .build();
+        if (!attendanceRepository.existsByUserIdAndAttendDate(userId, today)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
 
-        attendanceRepository.save(attendance);
-        log.info("출석 체크: userId={}, date={}", userId, today);
+        attendanceBitmap.mark(userId, today);
+        log.debug("이미 출석함: userId={}, date={}", userId, today);
+        return false;
+    }
 
-        return true;
+    /**
+     * 연도별 출석 비트셋에 출석일 기록 (출석 행을 새로 만든 요청만 호출 → 사용자·날짜당 1회)
+     */
+    private void markYear(Long userId, LocalDate date) {
+        int year = date.getYear();
+        AttendanceYear row = attendanceYearRepository.findByUserIdAndYear(userId, year)
+                .orElseGet(() -> AttendanceYear.start(userId, year,
+                        attendanceYearRepository.findByUserIdAndYear(userId, year - 1).orElse(null)));
+        if (row.mark(date)) {
+            attendanceYearRepository.save(row);
+        }
     }
 
     /**
@@ -65,85 +83,66 @@ public class AttendanceService {
      * 오늘 출석 여부
      */
     public boolean hasCheckedInToday(Long userId) {
-        return attendanceRepository.existsByUserIdAndAttendDate(userId, LocalDate.now());
+        LocalDate today = LocalDate.now();
+        if (attendanceBitmap.isMarked(userId, today)) {
+            return true;
+        }
+        return attendanceRepository.existsByUserIdAndAttendDate(userId, today);
     }
 
     /**
-     * 총 출석일 수
+     * 총 출석일 수 (연도별 출석일 합계)
      */
     public long getTotalAttendanceDays(Long userId) {
-        return attendanceRepository.countByUserId(userId);
+        return attendanceYearRepository.sumDayCountByUserId(userId);
     }
 
     /**
-     * 연속 출석일 수 계산
+     * 연속 출석일 수 (가장 최근 연도 행에 저장된 값, 오늘이나 어제 출석이 없으면 0)
      */
     public int getConsecutiveAttendanceDays(Long userId) {
-        List<LocalDate> dates = attendanceRepository.findAttendDatesByUserId(userId);
-
-        if (dates.isEmpty()) {
-            return 0;
-        }
-
-        LocalDate today = LocalDate.now();
-        LocalDate yesterday = today.minusDays(1);
-
-        // 오늘이나 어제 출석 기록이 없으면 연속 출석이 끊긴 것
-        if (!dates.contains(today) && !dates.contains(yesterday)) {
-            return 0;
-        }
-
-        // 연속 출석일 계산
-        int consecutive = 0;
-        LocalDate checkDate = dates.contains(today) ? today : yesterday;
-
-        for (LocalDate date : dates) {
-            if (date.equals(checkDate)) {
-                consecutive++;
-                checkDate = checkDate.minusDays(1);
-            } else if (date.isBefore(checkDate)) {
-                break;
-            }
-        }
-
-        return consecutive;
+        return attendanceYearRepository.findFirstByUserIdOrderByAttendYearDesc(userId)
+                .map(row -> row.consecutiveDays(LocalDate.now()))
+                .orElse(0);
     }
 
     /**
      * 이번 달 출석일 수
      */
     public long getThisMonthAttendanceDays(Long userId) {
-        YearMonth currentMonth = YearMonth.now();
-        LocalDate startDate = currentMonth.atDay(1);
-        LocalDate endDate = currentMonth.atEndOfMonth();
-
-        return attendanceRepository.findByUserIdAndMonth(userId, startDate, endDate).size();
+        LocalDate today = LocalDate.now();
+        return findYear(userId, today.getYear())
+                .map(row -> countMonth(row, YearMonth.from(today)))
+                .orElse(0);
     }
 
     /**
      * 출석률 계산 (이번 달 기준)
      */
     public int getAttendanceRate(Long userId) {
-        YearMonth currentMonth = YearMonth.now();
-        LocalDate today = LocalDate.now();
-
-        // 이번 달 시작일부터 오늘까지의 일수
-        int totalDays = (int) ChronoUnit.DAYS.between(currentMonth.atDay(1), today) + 1;
-        long attendedDays = getThisMonthAttendanceDays(userId);
-
-        return totalDays > 0 ? (int) ((attendedDays * 100) / totalDays) : 0;
+        return attendanceRate(getThisMonthAttendanceDays(userId), LocalDate.now());
     }
 
     /**
-     * 출석 통계
+     * 출석 통계 (올해 출석 비트셋 1회 조회로 연속/이번 달/출석률 계산)
      */
     public AttendanceDto.Stats getStats(Long userId) {
+        LocalDate today = LocalDate.now();
+        AttendanceYear thisYear = findYear(userId, today.getYear()).orElse(null);
+
+        // 올해 출석이 없으면 전년도 행에서 이어진 연속 출석 확인 (1월 1일 등)
+        int consecutiveDays = thisYear != null
+                ? thisYear.consecutiveDays(today)
+                : getConsecutiveAttendanceDays(userId);
+        long thisMonthDays = thisYear != null ? countMonth(thisYear, YearMonth.from(today)) : 0;
+
         return AttendanceDto.Stats.builder()
                 .totalDays(getTotalAttendanceDays(userId))
-                .consecutiveDays(getConsecutiveAttendanceDays(userId))
-                .thisMonthDays(getThisMonthAttendanceDays(userId))
-                .attendanceRate(getAttendanceRate(userId))
-                .checkedInToday(hasCheckedInToday(userId))
+                .consecutiveDays(consecutiveDays)
+                .thisMonthDays(thisMonthDays)
+                .attendanceRate(attendanceRate(thisMonthDays, today))
+                .checkedInToday(attendanceBitmap.isMarked(userId, today)
+                        || (thisYear != null && thisYear.attended(today)))
                 .build();
     }
 
@@ -152,21 +151,17 @@ public class AttendanceService {
      */
     public AttendanceDto.MonthlyView getMonthlyView(Long userId, int year, int month) {
         YearMonth yearMonth = YearMonth.of(year, month);
-        LocalDate startDate = yearMonth.atDay(1);
-        LocalDate endDate = yearMonth.atEndOfMonth();
         LocalDate today = LocalDate.now();
 
-        List<AttendanceDaily> attendances = attendanceRepository.findByUserIdAndMonth(userId, startDate, endDate);
-        Set<Integer> attendedDays = attendances.stream()
-                .map(a -> a.getAttendDate().getDayOfMonth())
-                .collect(Collectors.toSet());
+        BitSet bits = findYear(userId, year).map(AttendanceYear::bits).orElseGet(BitSet::new);
+        int offset = yearMonth.atDay(1).getDayOfYear() - 1;
 
         List<AttendanceDto.DayInfo> days = new ArrayList<>();
         for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
             LocalDate date = yearMonth.atDay(day);
             days.add(AttendanceDto.DayInfo.builder()
                     .day(day)
-                    .attended(attendedDays.contains(day))
+                    .attended(bits.get(offset + day - 1))
                     .today(date.equals(today))
                     .future(date.isAfter(today))
                     .build());
@@ -179,6 +174,46 @@ public class AttendanceService {
                 .build();
     }
 
+    /**
+     * 연간 출석 히트맵 (1월 1일부터 하루 1칸, 월별 출석일 수 포함)
+     */
+    public AttendanceDto.YearHeatmap getYearHeatmap(Long userId, int year) {
+        LocalDate firstDay = LocalDate.of(year, 1, 1);
+        AttendanceYear row = findYear(userId, year).orElse(null);
+        BitSet bits = row != null ? row.bits() : new BitSet();
+
+        boolean[] attended = new boolean[firstDay.lengthOfYear()];
+        for (int i = bits.nextSetBit(0); i >= 0 && i < attended.length; i = bits.nextSetBit(i + 1)) {
+            attended[i] = true;
+        }
+
+        int[] monthlyCounts = new int[12];
+        for (int month = 1; month <= 12; month++) {
+            monthlyCounts[month - 1] = row != null ? countMonth(row, YearMonth.of(year, month)) : 0;
+        }
+
+        return AttendanceDto.YearHeatmap.builder()
+                .year(year)
+                .firstDayOfWeek(firstDay.getDayOfWeek().getValue())
+                .totalDays(bits.cardinality())
+                .monthlyCounts(monthlyCounts)
+                .attended(attended)
+                .build();
+    }
+
+    private Optional<AttendanceYear> findYear(Long userId, int year) {
+        return attendanceYearRepository.findByUserIdAndYear(userId, year);
+    }
+
+    private static int countMonth(AttendanceYear row, YearMonth month) {
+        return row.countBetween(month.atDay(1), month.atEndOfMonth());
+    }
+
+    // 이번 달 시작일부터 오늘까지의 일수 대비 출석일
+    private static int attendanceRate(long attendedDays, LocalDate today) {
+        return (int) ((attendedDays * 100) / today.getDayOfMonth());
+    }
+
     /**
      * 최근 출석 기록
      */
@@ -0,0 +1,60 @@
+package org.zerock.projecttraveler.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.zerock.projecttraveler.entity.AttendanceYear;
+import org.zerock.projecttraveler.repository.AttendanceDailyRepository;
+import org.zerock.projecttraveler.repository.AttendanceYearRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 연도별 출석 비트셋 보정 작업
+ *
+ * attendance_year는 출석 체크 시 비트를 켜서 유지된다. 행이 없거나(도입 전 출석 기록 포함)
+ * 출석일 수가 attendance_daily와 다른 (사용자, 연도)를 attendance_daily 기준으로 다시 만든다.
+ * - 시작 시 1회 (테이블 추가 직후 초기값 채우기 포함)
+ * - 매일 app.attendance.year-reconcile-cron 시각
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AttendanceYearReconciler {
+
+    private final AttendanceYearRepository attendanceYearRepository;
+    private final AttendanceDailyRepository attendanceRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.attendance.year-reconcile-cron:0 40 4 * * *}")
+    @Transactional
+    public void reconcile() {
+        // 사용자별 연도 오름차순 → 전년도 행을 먼저 만들어 연속 출석을 이어받음
+        List<AttendanceYear.Key> stale = attendanceYearRepository.findStaleKeys();
+        for (AttendanceYear.Key key : stale) {
+            rebuild(key.getUserId(), key.getAttendYear());
+        }
+        if (!stale.isEmpty()) {
+            log.warn("연도별 출석 비트셋 보정: {}건", stale.size());
+        } else {
+            log.debug("연도별 출석 비트셋 보정: 이상 없음");
+        }
+    }
+
+    private void rebuild(Long userId, int year) {
+        AttendanceYear previous = attendanceYearRepository.findByUserIdAndYear(userId, year - 1).orElse(null);
+        AttendanceYear row = AttendanceYear.start(userId, year, previous);
+
+        List<LocalDate> dates = attendanceRepository.findAttendDatesByUserIdAndPeriod(
+                userId, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+        for (LocalDate date : dates) {
+            row.mark(date);
+        }
+        attendanceYearRepository.save(row);
+    }
+}
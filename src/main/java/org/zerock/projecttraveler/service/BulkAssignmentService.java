@@ -0,0 +1,301 @@
+package org.zerock.projecttraveler.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.zerock.projecttraveler.dto.BulkAssignDto;
+import org.zerock.projecttraveler.entity.CourseEnrollment;
+import org.zerock.projecttraveler.entity.User;
+import org.zerock.projecttraveler.repository.CourseEnrollmentRepository;
+import org.zerock.projecttraveler.repository.CourseRepository;
+import org.zerock.projecttraveler.repository.LessonRepository;
+import org.zerock.projecttraveler.repository.UserRepository;
+
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 강좌 일괄 배정 (대규모 대상자)
+ *
+ * 대상 사용자를 app.enrollment.bulk-assign.chunk-size 단위로 나눠 청크마다 트랜잭션 1개로 처리한다.
+ * - 청크당 조회 2회(존재하는 사용자, 기존 수강 상태) + JDBC 배치 INSERT/UPDATE 각 1회
+ * - 사용자별 결과는 조회한 상태와 배치 결과 건수로 판정 (행 단위 예외 처리 없음)
+ * - 대상이 청크 1개 이하면 요청 스레드에서 바로 끝내고, 그보다 많으면 전용 스레드에서 실행하며
+ *   jobId로 진행 상황을 조회한다 (완료/실패 작업은 app.enrollment.bulk-assign.job-retention-minutes 동안 보관)
+ * 처리 도중 실패하면 이미 커밋된 청크는 유지되고 작업은 FAILED로 끝난다. 같은 요청을 다시 보내면
+ * 배정된 사용자는 ALREADY_ENROLLED로 건너뛰므로 남은 사용자만 처리된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkAssignmentService {
+
+    private final CourseEnrollmentRepository enrollmentRepository;
+    private final CourseRepository courseRepository;
+    private final UserRepository userRepository;
+    private final LessonRepository lessonRepository;
+    private final EnrollmentAccessCache enrollmentAccessCache;
+    private final LearningSummaryService learningSummaryService;
+    private final PendingRequestCountCache pendingRequestCountCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.enrollment.bulk-assign.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.enrollment.bulk-assign.max-concurrent-jobs:2}")
+    private int maxConcurrentJobs;
+
+    @Value("${app.enrollment.bulk-assign.job-retention-minutes:60}")
+    private long jobRetentionMinutes;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxConcurrentJobs),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bulk-assign-" + seq.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 일괄 배정 시작 (청크 1개 이하면 완료된 상태로 반환)
+     */
+    public BulkAssignDto.JobStatus start(Long adminId, List<Long> userIds, Long courseId, String note) {
+        Job job = prepare(adminId, userIds, courseId, note);
+        if (job.userIds.size() <= chunkSize) {
+            run(job);
+            return job.toStatus();
+        }
+
+        purgeFinishedJobs();
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw new IllegalStateException("진행 중인 일괄 배정 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        log.info("일괄 배정 작업 시작: jobId={}, courseId={}, users={}", job.id, courseId, job.userIds.size());
+        return job.toStatus();
+    }
+
+    /**
+     * 호출한 스레드에서 바로 일괄 배정 (대상 수와 무관하게 끝날 때까지 실행, 다른 일괄 작업에서 사용)
+     */
+    public BulkAssignDto.JobStatus assignNow(Long adminId, List<Long> userIds, Long courseId, String note) {
+        Job job = prepare(adminId, userIds, courseId, note);
+        run(job);
+        return job.toStatus();
+    }
+
+    /**
+     * 작업 진행 상황 조회
+     */
+    public Optional<BulkAssignDto.JobStatus> findJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::toStatus);
+    }
+
+    private Job prepare(Long adminId, List<Long> userIds, Long courseId, String note) {
+        User admin = userRepository.findById(adminId)
+                .orElseThrow(() -> new IllegalArgumentException("관리자를 찾을 수 없습니다."));
+        if (!courseRepository.existsById(courseId)) {
+            throw new IllegalArgumentException("강좌를 찾을 수 없습니다.");
+        }
+
+        List<Long> targets = new ArrayList<>(new LinkedHashSet<>(userIds));
+        targets.removeIf(Objects::isNull);
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("배정할 사용자를 선택해주세요.");
+        }
+
+        return new Job(UUID.randomUUID().toString(), admin.getId(), courseId,
+                note != null && !note.isBlank() ? note : null, targets);
+    }
+
+    private void run(Job job) {
+        try {
+            int totalLessonCount = lessonRepository.countByCourseId(job.courseId);
+            for (int from = 0; from < job.userIds.size(); from += chunkSize) {
+                List<Long> chunk = job.userIds.subList(from, Math.min(from + chunkSize, job.userIds.size()));
+                Map<Long, BulkAssignDto.Outcome> outcomes;
+                try {
+                    outcomes = transactionTemplate.execute(status -> assignChunk(job, chunk, totalLessonCount));
+                } catch (RuntimeException e) {
+                    // 커밋까지 실패한 청크는 전부 롤백됨 → 결과도 실패로 기록
+                    job.recordFailed(chunk);
+                    throw e;
+                }
+                // 커밋이 끝난 뒤에만 결과 반영
+                job.record(chunk, outcomes);
+                log.debug("일괄 배정 진행: jobId={}, {}/{}", job.id, job.processed.get(), job.userIds.size());
+            }
+            job.finish(BulkAssignDto.State.DONE, null);
+            BulkAssignDto.JobStatus result = job.toStatus();
+            log.info("일괄 배정 완료: jobId={}, adminId={}, courseId={}, total={}, assigned={}, promoted={}, skipped={}, notFound={}",
+                    job.id, job.adminId, job.courseId, result.getTotal(), result.getAssigned(),
+                    result.getPromoted(), result.getAlreadyEnrolled(), result.getUserNotFound());
+        } catch (Exception e) {
+            job.finish(BulkAssignDto.State.FAILED, e.getMessage());
+            log.error("일괄 배정 실패: jobId={}, courseId={}, processed={}/{}",
+                    job.id, job.courseId, job.processed.get(), job.userIds.size(), e);
+        }
+    }
+
+    private Map<Long, BulkAssignDto.Outcome> assignChunk(Job job, List<Long> chunk, int totalLessonCount) {
+        Set<Long> existingUsers = new HashSet<>(userRepository.findExistingIds(chunk));
+        Map<Long, CourseEnrollment.Status> statuses =
+                enrollmentRepository.findStatusByCourseIdAndUserIds(job.courseId, existingUsers);
+
+        List<Long> toInsert = new ArrayList<>();
+        List<Long> toPromote = new ArrayList<>();
+        Map<Long, BulkAssignDto.Outcome> outcomes = new LinkedHashMap<>();
+        for (Long userId : chunk) {
+            CourseEnrollment.Status status = statuses.get(userId);
+            if (!existingUsers.contains(userId)) {
+                outcomes.put(userId, BulkAssignDto.Outcome.USER_NOT_FOUND);
+            } else if (status == null) {
+                toInsert.add(userId);
+            } else if (status == CourseEnrollment.Status.REQUESTED || status == CourseEnrollment.Status.REJECTED) {
+                toPromote.add(userId);
+            } else {
+                outcomes.put(userId, BulkAssignDto.Outcome.ALREADY_ENROLLED);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int[] inserted = enrollmentRepository.insertAssigned(
+                job.courseId, toInsert, job.adminId, job.note, totalLessonCount, now);
+        int[] promoted = enrollmentRepository.promoteToAssigned(
+                job.courseId, toPromote, job.adminId, job.note, now);
+
+        // 0건 = 조회 이후 다른 요청이 먼저 수강 정보를 만들거나 상태를 바꿈
+        List<Long> changed = new ArrayList<>(toInsert.size() + toPromote.size());
+        for (int i = 0; i < toInsert.size(); i++) {
+            boolean applied = applied(inserted[i]);
+            outcomes.put(toInsert.get(i), applied ? BulkAssignDto.Outcome.ASSIGNED : BulkAssignDto.Outcome.ALREADY_ENROLLED);
+            if (applied) changed.add(toInsert.get(i));
+        }
+        for (int i = 0; i < toPromote.size(); i++) {
+            boolean applied = applied(promoted[i]);
+            outcomes.put(toPromote.get(i), applied ? BulkAssignDto.Outcome.PROMOTED : BulkAssignDto.Outcome.ALREADY_ENROLLED);
+            if (applied) changed.add(toPromote.get(i));
+        }
+        if (!toPromote.isEmpty()) {
+            // 승인 대기 신청이 배정으로 바뀌었을 수 있음
+            pendingRequestCountCache.invalidate();
+        }
+
+        for (Long userId : changed) {
+            enrollmentAccessCache.invalidate(userId, job.courseId);
+        }
+        learningSummaryService.refreshEnrollments(changed);
+
+        return outcomes;
+    }
+
+    // 드라이버가 건수를 알려주지 않으면 조회 결과 기준 판정을 따름
+    private static boolean applied(int count) {
+        return count > 0 || count == Statement.SUCCESS_NO_INFO;
+    }
+
+    private void purgeFinishedJobs() {
+        LocalDateTime before = LocalDateTime.now().minus(Duration.ofMinutes(jobRetentionMinutes));
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(before));
+    }
+
+    /**
+     * 진행 중인 일괄 배정 작업 (청크 처리 스레드가 갱신, 조회 스레드가 스냅샷으로 읽음)
+     */
+    private static final class Job {
+
+        private final String id;
+        private final Long adminId;
+        private final Long courseId;
+        private final String note;
+        private final List<Long> userIds;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicInteger processed = new AtomicInteger();
+        private final Map<BulkAssignDto.Outcome, Integer> counts = new EnumMap<>(BulkAssignDto.Outcome.class);
+        private final List<BulkAssignDto.UserOutcome> outcomes = new ArrayList<>();
+        private volatile BulkAssignDto.State state = BulkAssignDto.State.RUNNING;
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        private Job(String id, Long adminId, Long courseId, String note, List<Long> userIds) {
+            this.id = id;
+            this.adminId = adminId;
+            this.courseId = courseId;
+            this.note = note;
+            this.userIds = userIds;
+        }
+
+        private synchronized void record(List<Long> chunk, Map<Long, BulkAssignDto.Outcome> chunkOutcomes) {
+            for (Long userId : chunk) {
+                BulkAssignDto.Outcome outcome = chunkOutcomes.get(userId);
+                outcomes.add(new BulkAssignDto.UserOutcome(userId, outcome));
+                counts.merge(outcome, 1, Integer::sum);
+            }
+            processed.addAndGet(chunk.size());
+        }
+
+        private synchronized void recordFailed(List<Long> chunk) {
+            for (Long userId : chunk) {
+                outcomes.add(new BulkAssignDto.UserOutcome(userId, BulkAssignDto.Outcome.FAILED));
+            }
+            counts.merge(BulkAssignDto.Outcome.FAILED, chunk.size(), Integer::sum);
+            processed.addAndGet(chunk.size());
+        }
+
+        private void finish(BulkAssignDto.State finalState, String message) {
+            error = message;
+            finishedAt = LocalDateTime.now();
+            state = finalState;
+        }
+
+        // 사용자별 결과는 끝난 작업에만 포함 (진행 중 조회는 건수만)
+        private synchronized BulkAssignDto.JobStatus toStatus() {
+            BulkAssignDto.State current = state;
+            return BulkAssignDto.JobStatus.builder()
+                    .jobId(id)
+                    .courseId(courseId)
+                    .state(current)
+                    .total(userIds.size())
+                    .processed(processed.get())
+                    .assigned(counts.getOrDefault(BulkAssignDto.Outcome.ASSIGNED, 0))
+                    .promoted(counts.getOrDefault(BulkAssignDto.Outcome.PROMOTED, 0))
+                    .alreadyEnrolled(counts.getOrDefault(BulkAssignDto.Outcome.ALREADY_ENROLLED, 0))
+                    .userNotFound(counts.getOrDefault(BulkAssignDto.Outcome.USER_NOT_FOUND, 0))
+                    .failed(counts.getOrDefault(BulkAssignDto.Outcome.FAILED, 0))
+                    .error(error)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .outcomes(current == BulkAssignDto.State.RUNNING ? null : List.copyOf(outcomes))
+                    .build();
+        }
+    }
+}
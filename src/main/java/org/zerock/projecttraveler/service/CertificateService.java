@@ -189,18 +189,6 @@ public class CertificateService {
         return certificateRepository.countByUserId(userId);
     }
 
-    /**
-     * 자동발급용 - 조건 미충족·중복 시 조용히 리턴
-     */
-    @Transactional
-    public void tryIssueCertificate(Long userId, Long courseId) {
-        try {
-            issueCertificate(userId, courseId);
-        } catch (Exception e) {
-            log.debug("tryIssueCertificate skipped: userId={}, courseId={}, reason={}", userId, courseId, e.getMessage());
-        }
-    }
-
     /**
      * View용 수료증 조회 (User+Course JOIN FETCH)
      */
@@ -27,7 +27,7 @@ public class CourseQnaService {
     private final CourseAnswerRepository answerRepository;
     private final CourseRepository courseRepository;
     private final UserRepository userRepository;
-    private final CourseEnrollmentRepository enrollmentRepository;
+    private final EnrollmentAccessCache enrollmentAccessCache;
 
     @Value("${app.upload.image-path:C:/lms-uploads/images}")
     private String imageUploadPath;
@@ -121,7 +121,6 @@ public class CourseQnaService {
     }
 
     public boolean hasAccess(Long userId, Long courseId) {
-        Optional<CourseEnrollment> enrollment = enrollmentRepository.findByUserIdAndCourseId(userId, courseId);
-        return enrollment.isPresent() && enrollment.get().isAccessible();
+        return enrollmentAccessCache.isAccessible(userId, courseId);
     }
 }
@@ -9,8 +9,6 @@ import org.springframework.web.multipart.MultipartFile;
 import org.zerock.projecttraveler.entity.Course;
 import org.zerock.projecttraveler.entity.CourseResource;
 import org.zerock.projecttraveler.entity.CourseUnit;
-import org.zerock.projecttraveler.entity.CourseEnrollment;
-import org.zerock.projecttraveler.repository.CourseEnrollmentRepository;
 import org.zerock.projecttraveler.repository.CourseRepository;
 import org.zerock.projecttraveler.repository.CourseResourceRepository;
 import org.zerock.projecttraveler.repository.CourseUnitRepository;
@@ -31,7 +29,7 @@ public class CourseResourceService {
     private final CourseResourceRepository resourceRepository;
     private final CourseRepository courseRepository;
     private final CourseUnitRepository unitRepository;
-    private final CourseEnrollmentRepository enrollmentRepository;
+    private final EnrollmentAccessCache enrollmentAccessCache;
 
     @Value("${app.upload.image-path:C:/lms-uploads/images}")
     private String imageUploadPath;
@@ -130,8 +128,7 @@ public class CourseResourceService {
     }
 
     public boolean hasAccess(Long userId, Long courseId) {
-        Optional<CourseEnrollment> enrollment = enrollmentRepository.findByUserIdAndCourseId(userId, courseId);
-        return enrollment.isPresent() && enrollment.get().isAccessible();
+        return enrollmentAccessCache.isAccessible(userId, courseId);
     }
 
     public String getStoragePath() {
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.zerock.projecttraveler.dto.CourseOption;
 import org.zerock.projecttraveler.entity.*;
 import org.zerock.projecttraveler.repository.*;
 import org.zerock.projecttraveler.security.SecurityUtils;
@@ -21,6 +22,9 @@ public class CourseService {
     private final CourseUnitRepository courseUnitRepository;
     private final LessonRepository lessonRepository;
     private final CourseDeletionLogRepository courseDeletionLogRepository;
+    private final CurriculumCache curriculumCache;
+    private final CourseEnrollmentRepository enrollmentRepository;
+    private final LearningSummaryService learningSummaryService;
 
     /**
      * 모든 활성 강좌 조회
@@ -29,6 +33,13 @@ public class CourseService {
         return courseRepository.findByActiveTrueOrderByCreatedAtDesc();
     }
 
+    /**
+     * 활성 강좌 선택 목록 (관리자 화면용, ID/제목만)
+     */
+    public List<CourseOption> findActiveCourseOptions() {
+        return courseRepository.findActiveCourseOptions();
+    }
+
     /**
      * 카테고리별 강좌 조회
      */
@@ -73,6 +84,7 @@ public class CourseService {
         course.setCategory(updatedCourse.getCategory());
         course.setLevel(updatedCourse.getLevel());
         course.setEnrollPolicy(updatedCourse.getEnrollPolicy());
+        curriculumCache.evict(courseId);
 
         return course;
     }
@@ -91,6 +103,7 @@ public class CourseService {
                 .sortOrder(sortOrder)
                 .build();
 
+        curriculumCache.evict(courseId);
         return courseUnitRepository.save(unit);
     }
 
@@ -124,6 +137,8 @@ public class CourseService {
                 .build();
 
         Lesson saved = lessonRepository.save(lesson);
+        enrollmentRepository.adjustTotalLessons(courseId, 1);
+        learningSummaryService.onCourseLessonsChanged(courseId);
 
         // 강좌 총 시간 업데이트
         updateCourseTotalDuration(courseId);
@@ -173,6 +188,9 @@ public class CourseService {
         Lesson lesson = lessonRepository.findById(lessonId)
                 .orElseThrow(() -> new IllegalArgumentException("레슨을 찾을 수 없습니다."));
         Long courseId = lesson.getCourse().getId();
+        enrollmentRepository.decrementCompletedForLesson(courseId, lessonId);
+        enrollmentRepository.adjustTotalLessons(courseId, -1);
+        learningSummaryService.onCourseLessonsChanged(courseId);
         lessonRepository.delete(lesson);
         updateCourseTotalDuration(courseId);
         log.info("레슨 삭제: lessonId={}", lessonId);
@@ -192,6 +210,9 @@ public class CourseService {
                 .sum();
 
         course.setTotalDurationSec(totalDuration);
+
+        // 레슨 생성/수정/영상 변경/삭제 시 항상 거치므로 여기서 커리큘럼 스냅샷 무효화
+        curriculumCache.evict(courseId);
     }
 
     /**
@@ -268,6 +289,7 @@ public class CourseService {
 
         // Soft Delete: active = false
         course.setActive(false);
+        curriculumCache.evict(courseId);
     }
 
     /**
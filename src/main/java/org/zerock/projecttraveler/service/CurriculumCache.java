@@ -0,0 +1,90 @@
+package org.zerock.projecttraveler.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.zerock.projecttraveler.dto.CurriculumSnapshot;
+import org.zerock.projecttraveler.repository.CourseRepository;
+import org.zerock.projecttraveler.repository.CourseUnitRepository;
+import org.zerock.projecttraveler.repository.LessonRepository;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 강좌별 커리큘럼 스냅샷 캐시
+ *
+ * 강좌 상세 화면마다 강좌/유닛/레슨을 다시 조회하지 않고, 강좌 내용이 바뀔 때까지
+ * 같은 불변 스냅샷을 공유한다.
+ * - CourseService의 강좌/유닛/레슨 변경 메서드는 반드시 evict() 호출
+ * - evict 시 강좌 버전이 올라가며, 버전이 바뀌는 동안 만든 스냅샷은 캐시하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CurriculumCache {
+
+    private final CourseRepository courseRepository;
+    private final CourseUnitRepository unitRepository;
+    private final LessonRepository lessonRepository;
+
+    private final ConcurrentHashMap<Long, CurriculumSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 커리큘럼 스냅샷 조회 (없는 강좌면 empty)
+     */
+    public Optional<CurriculumSnapshot> get(Long courseId) {
+        CurriculumSnapshot cached = snapshots.get(courseId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long version = currentVersion(courseId);
+        Optional<CurriculumSnapshot> loaded = courseRepository.findById(courseId)
+                .map(course -> CurriculumSnapshot.of(
+                        course,
+                        unitRepository.findByCourseIdWithLessons(courseId),
+                        lessonRepository.findByCourseIdOrderBySortOrderAsc(courseId),
+                        version));
+
+        loaded.ifPresent(snapshot -> {
+            if (currentVersion(courseId) == version) {
+                snapshots.put(courseId, snapshot);
+                log.debug("커리큘럼 스냅샷 생성: courseId={}, version={}, lessons={}",
+                        courseId, version, snapshot.totalLessonCount());
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * 강좌의 현재 커리큘럼 버전
+     */
+    public long currentVersion(Long courseId) {
+        return versions.getOrDefault(courseId, 0L);
+    }
+
+    /**
+     * 강좌 내용 변경 시 호출 (즉시 + 트랜잭션 종료 후 한 번 더 제거)
+     */
+    public void evict(Long courseId) {
+        bump(courseId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bump(courseId);
+                }
+            });
+        }
+    }
+
+    private void bump(Long courseId) {
+        versions.merge(courseId, 1L, Long::sum);
+        snapshots.remove(courseId);
+    }
+}
@@ -5,10 +5,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.zerock.projecttraveler.dto.MyLearningSummaryDto;
-import org.zerock.projecttraveler.entity.CourseEnrollment;
-import org.zerock.projecttraveler.repository.*;
+import org.zerock.projecttraveler.entity.UserLearningSummary;
 
-import java.util.List;
+import java.time.LocalDate;
 
 @Service
 @RequiredArgsConstructor
@@ -16,68 +15,39 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class DashboardService {
 
-    private final CourseEnrollmentRepository enrollmentRepository;
-    private final LessonProgressRepository progressRepository;
-    private final LessonRepository lessonRepository;
-    private final AttendanceService attendanceService;
+    private final LearningSummaryService learningSummaryService;
     private final LearningService learningService;
 
     /**
      * 나의 학습 요약 정보 조회 (메인, 마이페이지에서 사용)
+     * 누적 값은 user_learning_summary 기본 키 조회 1회, 이번 주 학습 시간만 세션 기준으로 계산
      */
     public MyLearningSummaryDto getMyLearningSummary(Long userId) {
-        // 수강 중인 강좌 수
-        long inProgressCount = enrollmentRepository.countInProgressByUserId(userId);
+        UserLearningSummary summary = learningSummaryService.get(userId);
+        LocalDate today = LocalDate.now();
 
-        // 완료된 강좌 수
-        long completedCount = enrollmentRepository.countCompletedByUserId(userId);
-
-        // 평균 진도율 계산
-        int averageProgress = calculateAverageProgress(userId);
-
-        // 출석 정보
-        int consecutiveDays = attendanceService.getConsecutiveAttendanceDays(userId);
-        long totalAttendanceDays = attendanceService.getTotalAttendanceDays(userId);
-        long thisMonthAttendance = attendanceService.getThisMonthAttendanceDays(userId);
-        int attendanceRate = attendanceService.getAttendanceRate(userId);
+        // 이번 달 출석 / 출석률 (이번 달 시작일부터 오늘까지 기준)
+        int thisMonthAttendance = summary.getMonthAttendanceDays(UserLearningSummary.monthKey(today));
+        int attendanceRate = thisMonthAttendance * 100 / today.getDayOfMonth();
 
         // 총 학습 시간
-        long totalWatchedSec = learningService.getTotalWatchedSec(userId);
-        String formattedTime = MyLearningSummaryDto.formatLearningTime(totalWatchedSec);
+        long totalWatchedSec = summary.getTotalWatchedSec();
+
+        // 이번 주 학습 시간
+        long thisWeekSec = learningService.getThisWeekLearningSec(userId);
 
         return MyLearningSummaryDto.builder()
-                .inProgressCourseCount(inProgressCount)
-                .completedCourseCount(completedCount)
-                .averageProgressPercent(averageProgress)
-                .consecutiveAttendanceDays(consecutiveDays)
+                .inProgressCourseCount(summary.getInProgressCount())
+                .completedCourseCount(summary.getCompletedCount())
+                .averageProgressPercent(summary.getAverageProgressPercent())
+                .consecutiveAttendanceDays(summary.getConsecutiveDays(today))
                 .totalLearningTimeSec(totalWatchedSec)
-                .totalLearningTimeFormatted(formattedTime)
-                .totalAttendanceDays(totalAttendanceDays)
+                .totalLearningTimeFormatted(MyLearningSummaryDto.formatLearningTime(totalWatchedSec))
+                .thisWeekLearningTimeSec(thisWeekSec)
+                .thisWeekLearningTimeFormatted(MyLearningSummaryDto.formatLearningTime(thisWeekSec))
+                .totalAttendanceDays(summary.getTotalAttendanceDays())
                 .thisMonthAttendanceDays(thisMonthAttendance)
                 .attendanceRate(attendanceRate)
                 .build();
     }
-
-    /**
-     * 평균 진도율 계산
-     */
-    private int calculateAverageProgress(Long userId) {
-        List<CourseEnrollment> enrollments = enrollmentRepository.findInProgressByUserId(userId);
-
-        if (enrollments.isEmpty()) {
-            return 0;
-        }
-
-        int totalProgress = 0;
-        for (CourseEnrollment enrollment : enrollments) {
-            Long courseId = enrollment.getCourse().getId();
-            int totalLessons = lessonRepository.countByCourseId(courseId);
-            if (totalLessons == 0) continue;
-
-            long completedLessons = progressRepository.countCompletedByUserIdAndCourseId(userId, courseId);
-            totalProgress += (int) ((completedLessons * 100) / totalLessons);
-        }
-
-        return totalProgress / enrollments.size();
-    }
 }
@@ -0,0 +1,148 @@
+package org.zerock.projecttraveler.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.zerock.projecttraveler.dto.EnrollmentAccess;
+import org.zerock.projecttraveler.repository.CourseEnrollmentRepository;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 수강 권한 캐시 ((userId, courseId) → 수강 상태/퀴즈 사이클)
+ *
+ * heartbeat, 레슨 완료, 자료실/Q&A 권한 확인, 퀴즈 조회마다 반복되던
+ * findByUserIdAndCourseId 조회를 메모리에서 처리한다.
+ * - 수강 상태를 바꾸는 서비스 메서드는 반드시 invalidate() 호출
+ *   (즉시 + 트랜잭션 종료 후 한 번 더 제거하여 커밋 전 값이 남지 않도록 함)
+ * - 미수강(행 없음)도 캐시
+ * - 다른 서버 인스턴스의 변경은 TTL(app.cache.enrollment-access.ttl-seconds) 이내 반영
+ * - 적중/미적중은 lms.cache.enrollment.access 메트릭(result=hit|miss)으로 확인
+ */
+@Component
+@Slf4j
+public class EnrollmentAccessCache {
+
+    private final CourseEnrollmentRepository enrollmentRepository;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Value("${app.cache.enrollment-access.max-size:10000}")
+    private int maxSize;
+
+    @Value("${app.cache.enrollment-access.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final ConcurrentHashMap<Key, Entry> cache = new ConcurrentHashMap<>();
+
+    // 조회 중 무효화가 일어났으면 조회 결과를 캐시에 넣지 않기 위한 세대 번호
+    private final AtomicLong invalidationSeq = new AtomicLong();
+
+    private record Key(long userId, long courseId) {}
+
+    private record Entry(EnrollmentAccess access, long loadedAtNanos) {}
+
+    public EnrollmentAccessCache(CourseEnrollmentRepository enrollmentRepository, MeterRegistry meterRegistry) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.hitCounter = Counter.builder("lms.cache.enrollment.access")
+                .tag("result", "hit")
+                .description("수강 권한 캐시 적중")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("lms.cache.enrollment.access")
+                .tag("result", "miss")
+                .description("수강 권한 캐시 미적중 (DB 조회)")
+                .register(meterRegistry);
+        Gauge.builder("lms.cache.enrollment.access.size", cache, ConcurrentHashMap::size)
+                .description("수강 권한 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 수강 정보 조회 (미수강이면 empty)
+     */
+    public Optional<EnrollmentAccess> find(Long userId, Long courseId) {
+        Key key = new Key(userId, courseId);
+        Entry entry = cache.get(key);
+        if (entry != null && !isExpired(entry)) {
+            hitCounter.increment();
+            return Optional.ofNullable(entry.access());
+        }
+
+        missCounter.increment();
+        long seq = invalidationSeq.get();
+        EnrollmentAccess access = enrollmentRepository.findByUserIdAndCourseId(userId, courseId)
+                .map(EnrollmentAccess::from)
+                .orElse(null);
+
+        if (invalidationSeq.get() == seq) {
+            if (cache.size() >= maxSize) {
+                evictSome();
+            }
+            cache.put(key, new Entry(access, System.nanoTime()));
+        }
+        return Optional.ofNullable(access);
+    }
+
+    /**
+     * 학습 가능한 수강 상태인지 확인
+     */
+    public boolean isAccessible(Long userId, Long courseId) {
+        return find(userId, courseId).map(EnrollmentAccess::isAccessible).orElse(false);
+    }
+
+    /**
+     * 수강 상태 변경 시 호출
+     */
+    public void invalidate(Long userId, Long courseId) {
+        Key key = new Key(userId, courseId);
+        evict(key);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * 전체 비우기
+     */
+    public void clear() {
+        invalidationSeq.incrementAndGet();
+        cache.clear();
+    }
+
+    private void evict(Key key) {
+        invalidationSeq.incrementAndGet();
+        cache.remove(key);
+    }
+
+    private boolean isExpired(Entry entry) {
+        return System.nanoTime() - entry.loadedAtNanos() > ttlSeconds * 1_000_000_000L;
+    }
+
+    /**
+     * 용량 초과 시 만료 항목 우선 제거, 그래도 가득 차 있으면 약 10% 제거
+     */
+    private void evictSome() {
+        cache.values().removeIf(this::isExpired);
+        int toRemove = cache.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<Key> it = cache.keySet().iterator();
+        while (toRemove-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+        log.debug("수강 권한 캐시 정리: size={}", cache.size());
+    }
+}
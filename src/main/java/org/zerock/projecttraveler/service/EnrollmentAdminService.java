@@ -2,9 +2,16 @@ package org.zerock.projecttraveler.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.zerock.projecttraveler.dto.EnrollmentDto;
+import org.zerock.projecttraveler.dto.EnrollmentRef;
+import org.zerock.projecttraveler.dto.EnrollmentRequestPage;
 import org.zerock.projecttraveler.entity.*;
+import org.zerock.projecttraveler.event.LearningEvent;
 import org.zerock.projecttraveler.repository.*;
 
 import java.time.LocalDateTime;
@@ -19,12 +26,86 @@ public class EnrollmentAdminService {
     private final CourseEnrollmentRepository enrollmentRepository;
     private final CourseRepository courseRepository;
     private final UserRepository userRepository;
+    private final LessonRepository lessonRepository;
+    private final LessonProgressRepository progressRepository;
+    private final EnrollmentAccessCache enrollmentAccessCache;
+    private final LearningEventPublisher learningEventPublisher;
+    private final LearningSummaryService learningSummaryService;
+    private final PendingRequestCountCache pendingRequestCountCache;
+
+    // 첫 페이지 커서 (모든 신청 일시보다 이전)
+    private static final LocalDateTime FIRST_PAGE_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Value("${app.enrollment.requests.max-page-size:100}")
+    private int maxPageSize;
 
     /**
-     * 승인 대기 목록 조회
+     * 수강 신청 대기열 한 페이지 (키셋, (requestedAt, id) 순)
+     * @param courseId 강좌 필터 (null이면 전체)
+     * @param afterAt 이전 페이지 마지막 행의 신청 일시 (첫 페이지는 null)
+     * @param afterId 이전 페이지 마지막 행의 ID (첫 페이지는 null)
      */
-    public List<CourseEnrollment> findAllRequested() {
-        return enrollmentRepository.findAllRequestedWithUserAndCourse();
+    public EnrollmentRequestPage findRequestPage(CourseEnrollment.Status status, Long courseId,
+                                                 LocalDateTime afterAt, Long afterId, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        LocalDateTime cursorAt = afterAt != null ? afterAt : FIRST_PAGE_AT;
+        Long cursorId = afterAt != null && afterId != null ? afterId : 0L;
+
+        // 한 건 더 조회해서 다음 페이지 유무 판단
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<CourseEnrollment> rows = courseId != null
+                ? enrollmentRepository.findRequestPageByCourse(courseId, status, cursorAt, cursorId, limit)
+                : enrollmentRepository.findRequestPage(status, cursorAt, cursorId, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<CourseEnrollment> page = hasNext ? rows.subList(0, pageSize) : rows;
+        CourseEnrollment last = hasNext ? page.get(page.size() - 1) : null;
+
+        return new EnrollmentRequestPage(
+                page.stream().map(EnrollmentDto::from).toList(),
+                last != null ? last.getRequestedAt() : null,
+                last != null ? last.getId() : null);
+    }
+
+    /**
+     * 승인 대기 신청 수 (캐시)
+     */
+    public long countPendingRequests() {
+        return pendingRequestCountCache.get();
+    }
+
+    /**
+     * 승인 대기 신청 일괄 승인/반려 (UPDATE 1회, 이미 처리된 신청은 건너뜀)
+     * @return 처리된 신청 수
+     */
+    @Transactional
+    public int decideRequests(List<Long> enrollmentIds, boolean approve, String note) {
+        if (enrollmentIds == null || enrollmentIds.isEmpty()) {
+            throw new IllegalArgumentException("처리할 신청을 선택해주세요.");
+        }
+        if (enrollmentIds.size() > maxPageSize) {
+            throw new IllegalArgumentException("한 번에 " + maxPageSize + "건까지 처리할 수 있습니다.");
+        }
+
+        List<EnrollmentRef> targets = enrollmentRepository.findRequestedRefs(enrollmentIds);
+        if (targets.isEmpty()) return 0;
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = enrollmentRepository.decideRequested(
+                targets.stream().map(EnrollmentRef::enrollmentId).toList(),
+                approve ? CourseEnrollment.Status.APPROVED : CourseEnrollment.Status.REJECTED,
+                approve ? now : null,   // 반려는 단건 반려와 같이 승인 시각을 건드리지 않음
+                note != null && !note.isBlank() ? note : null,
+                now);
+
+        for (EnrollmentRef target : targets) {
+            enrollmentAccessCache.invalidate(target.userId(), target.courseId());
+        }
+        learningSummaryService.refreshEnrollments(targets.stream().map(EnrollmentRef::userId).distinct().toList());
+        pendingRequestCountCache.invalidate();
+
+        log.info("수강 신청 일괄 {}: requested={}, updated={}", approve ? "승인" : "반려", enrollmentIds.size(), updated);
+        return updated;
     }
 
     /**
@@ -41,6 +122,10 @@ public class EnrollmentAdminService {
 
         enrollment.setStatus(CourseEnrollment.Status.APPROVED);
         enrollment.setApprovedAt(LocalDateTime.now());
+        enrollmentAccessCache.invalidate(enrollment.getUser().getId(), enrollment.getCourse().getId());
+        pendingRequestCountCache.invalidate();
+        learningEventPublisher.publish(new LearningEvent.EnrollmentChanged(
+                enrollment.getUser().getId(), enrollment.getCourse().getId()));
         if (note != null && !note.isBlank()) {
             enrollment.setNote(note);
         }
@@ -64,6 +149,10 @@ public class EnrollmentAdminService {
         }
 
         enrollment.setStatus(CourseEnrollment.Status.REJECTED);
+        enrollmentAccessCache.invalidate(enrollment.getUser().getId(), enrollment.getCourse().getId());
+        pendingRequestCountCache.invalidate();
+        learningEventPublisher.publish(new LearningEvent.EnrollmentChanged(
+                enrollment.getUser().getId(), enrollment.getCourse().getId()));
         if (note != null && !note.isBlank()) {
             enrollment.setNote(note);
         }
@@ -88,6 +177,10 @@ public class EnrollmentAdminService {
         Course course = courseRepository.findById(courseId)
                 .orElseThrow(() -> new IllegalArgumentException("강좌를 찾을 수 없습니다."));
 
+        enrollmentAccessCache.invalidate(userId, courseId);
+        pendingRequestCountCache.invalidate();
+        learningEventPublisher.publish(new LearningEvent.EnrollmentChanged(userId, courseId));
+
         // 이미 수강 중인지 확인
         CourseEnrollment existing = enrollmentRepository.findByUserIdAndCourseId(userId, courseId)
                 .orElse(null);
@@ -130,27 +223,12 @@ public class EnrollmentAdminService {
                 .assignedAt(LocalDateTime.now())
                 .assignedByAdmin(admin)
                 .note(note)
+                .completedLessonCount((int) progressRepository.countCompletedByUserIdAndCourseId(userId, courseId))
+                .totalLessonCount(lessonRepository.countByCourseId(courseId))
                 .build();
 
         log.info("관리자 배정: adminId={}, userId={}, courseId={}", adminId, userId, courseId);
 
         return enrollmentRepository.save(enrollment);
     }
-
-    /**
-     * 다수 사용자에게 배정
-     */
-    @Transactional
-    public int assignToMultipleUsers(Long adminId, List<Long> userIds, Long courseId, String note) {
-        int count = 0;
-        for (Long userId : userIds) {
-            try {
-                assign(adminId, userId, courseId, note);
-                count++;
-            } catch (Exception e) {
-                log.warn("배정 실패: userId={}, courseId={}, error={}", userId, courseId, e.getMessage());
-            }
-        }
-        return count;
-    }
 }
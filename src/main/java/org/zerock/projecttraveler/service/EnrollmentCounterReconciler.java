@@ -0,0 +1,38 @@
+package org.zerock.projecttraveler.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.zerock.projecttraveler.repository.CourseEnrollmentRepository;
+
+/**
+ * 수강 레슨 카운터 보정 작업
+ *
+ * course_enrollment.completed_lesson_count / total_lesson_count는 레슨 완료·추가·삭제 시
+ * 증감으로 유지된다. 직접 SQL 수정 등으로 어긋난 값을 lesson / lesson_progress 기준으로 되돌린다.
+ * - 시작 시 1회 (컬럼 추가 직후 초기값 채우기 포함)
+ * - 매일 app.learning.counter-reconcile-cron 시각
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EnrollmentCounterReconciler {
+
+    private final CourseEnrollmentRepository enrollmentRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.learning.counter-reconcile-cron:0 30 4 * * *}")
+    @Transactional
+    public void reconcile() {
+        int fixed = enrollmentRepository.reconcileLessonCounters();
+        if (fixed > 0) {
+            log.warn("수강 레슨 카운터 보정: {}건", fixed);
+        } else {
+            log.debug("수강 레슨 카운터 보정: 이상 없음");
+        }
+    }
+}
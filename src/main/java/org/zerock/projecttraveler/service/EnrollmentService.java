@@ -4,12 +4,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.zerock.projecttraveler.dto.CourseCatalogRow;
 import org.zerock.projecttraveler.dto.EnrollmentDto;
+import org.zerock.projecttraveler.dto.LessonCounters;
 import org.zerock.projecttraveler.entity.*;
+import org.zerock.projecttraveler.event.LearningEvent;
 import org.zerock.projecttraveler.repository.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -24,6 +28,10 @@ public class EnrollmentService {
     private final UserRepository userRepository;
     private final LessonProgressRepository progressRepository;
     private final LessonRepository lessonRepository;
+    private final EnrollmentAccessCache enrollmentAccessCache;
+    private final ProgressProjectionService progressProjectionService;
+    private final LearningEventPublisher learningEventPublisher;
+    private final PendingRequestCountCache pendingRequestCountCache;
 
     /**
      * 수강 신청 (사용자)
@@ -36,6 +44,10 @@ public class EnrollmentService {
         Course course = courseRepository.findById(courseId)
                 .orElseThrow(() -> new IllegalArgumentException("강좌를 찾을 수 없습니다."));
 
+        enrollmentAccessCache.invalidate(userId, courseId);
+        pendingRequestCountCache.invalidate();
+        learningEventPublisher.publish(new LearningEvent.EnrollmentChanged(userId, courseId));
+
         // 이미 수강 신청/수강 중인지 확인
         Optional<CourseEnrollment> existing = enrollmentRepository.findByUserIdAndCourseId(userId, courseId);
         if (existing.isPresent()) {
@@ -72,6 +84,8 @@ public class EnrollmentService {
                 .status(status)
                 .source(CourseEnrollment.Source.USER_REQUEST)
                 .requestedAt(LocalDateTime.now())
+                .completedLessonCount((int) progressRepository.countCompletedByUserIdAndCourseId(userId, courseId))
+                .totalLessonCount(lessonRepository.countByCourseId(courseId))
                 .build();
 
         if (status == CourseEnrollment.Status.APPROVED) {
@@ -88,6 +102,14 @@ public class EnrollmentService {
         return enrollmentRepository.findByUserIdAndCourseId(userId, courseId);
     }
 
+    /**
+     * 강좌 목록 화면용 전체 활성 강좌의 레슨 수 + 사용자 수강 상태 (courseId → 행, 쿼리 1회)
+     */
+    public Map<Long, CourseCatalogRow> findCatalogRows(Long userId) {
+        return enrollmentRepository.findCatalogRows(userId).stream()
+                .collect(Collectors.toMap(CourseCatalogRow::courseId, row -> row, (a, b) -> a));
+    }
+
     /**
      * 사용자의 학습 가능한 수강 목록
      */
@@ -147,14 +169,12 @@ public class EnrollmentService {
     }
 
     /**
-     * 진도율 계산
+     * 진도율 계산 (수강의 레슨 완료 카운터 기준)
      */
     public int calculateProgressPercent(Long userId, Long courseId) {
-        int totalLessons = lessonRepository.countByCourseId(courseId);
-        if (totalLessons == 0) return 0;
-
-        long completedLessons = progressRepository.countCompletedByUserIdAndCourseId(userId, courseId);
-        return (int) ((completedLessons * 100) / totalLessons);
+        return enrollmentRepository.findLessonCounters(userId, courseId)
+                .map(LessonCounters::progressPercent)
+                .orElse(0);
     }
 
     /**
@@ -169,6 +189,8 @@ public class EnrollmentService {
                     .ifPresent(enrollment -> {
                         if (enrollment.getStatus() != CourseEnrollment.Status.COMPLETED) {
                             enrollment.setStatus(CourseEnrollment.Status.COMPLETED);
+                            enrollmentAccessCache.invalidate(userId, courseId);
+                            learningEventPublisher.publish(new LearningEvent.CourseCompleted(userId, courseId));
                             log.info("강좌 완료: userId={}, courseId={}", userId, courseId);
                         }
                     });
@@ -182,16 +204,14 @@ public class EnrollmentService {
         Long userId = enrollment.getUser().getId();
         Long courseId = enrollment.getCourse().getId();
 
-        int totalLessons = lessonRepository.countByCourseId(courseId);
-        long completedLessons = progressRepository.countCompletedByUserIdAndCourseId(userId, courseId);
-        long watchedSec = progressRepository.sumWatchedSecByUserIdAndCourseId(userId, courseId);
-
         EnrollmentDto dto = EnrollmentDto.from(enrollment);
-        dto.setTotalLessonCount(totalLessons);
-        dto.setCompletedLessonCount((int) completedLessons);
-        dto.setProgressPercent(totalLessons > 0 ? (int) ((completedLessons * 100) / totalLessons) : 0);
-        dto.setTotalWatchedSec(watchedSec);
-        dto.setTotalWatchedFormatted(formatTime(watchedSec));
+        progressProjectionService.load(userId, courseId).ifPresent(progress -> {
+            dto.setTotalLessonCount(progress.lessonCount());
+            dto.setCompletedLessonCount(progress.completedCount());
+            dto.setProgressPercent(progress.courseProgressPercent());
+            dto.setTotalWatchedSec(progress.totalWatchedSec());
+        });
+        dto.setTotalWatchedFormatted(formatTime(dto.getTotalWatchedSec()));
 
         return dto;
     }
@@ -0,0 +1,157 @@
+package org.zerock.projecttraveler.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.zerock.projecttraveler.dto.LearningHeartbeatSample;
+import org.zerock.projecttraveler.dto.WatchCoverage;
+import org.zerock.projecttraveler.repository.CourseEnrollmentRepository;
+import org.zerock.projecttraveler.repository.LessonProgressRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Heartbeat 집계 버퍼 (write-behind)
+ *
+ * heartbeat마다 LessonProgress/CourseEnrollment를 갱신하지 않고 (userId, lessonId) 단위로
+ * 메모리에서 병합한 뒤, flush 주기마다 JDBC 배치로 한 번에 반영한다.
+ * - 재생 위치: 가장 최근 값
+ * - 시청 시간: 누적 합
+ * - 시청 구간: 비트맵 OR
+ * DB 상태는 flush 주기(app.learning.heartbeat.flush-interval-ms) 이내로 최종 일관성을 가진다.
+ *
+ * 진도 초기화(discard) 시각을 (userId, courseId)별로 기억해, 그 이전 샘플은 flush에서 버린다.
+ * 이미 꺼내 반영 중이던 샘플도 진도 행 잠금 이후에 판정하므로 초기화된 진도를 되살리지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HeartbeatAggregator {
+
+    private final LessonProgressRepository progressRepository;
+    private final CourseEnrollmentRepository enrollmentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LearningSummaryService learningSummaryService;
+
+    @Value("${app.learning.heartbeat.batch-size:500}")
+    private int batchSize;
+
+    // 진도 초기화 시각 보관 기간 (이보다 오래 걸리는 flush/재시도는 없음)
+    private static final Duration RESET_RETENTION = Duration.ofHours(1);
+
+    private final ConcurrentHashMap<Key, LearningHeartbeatSample> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<CourseKey, LocalDateTime> resetAt = new ConcurrentHashMap<>();
+
+    private record Key(long userId, long lessonId) {}
+
+    private record CourseKey(long userId, long courseId) {}
+
+    /**
+     * heartbeat 샘플 기록 (DB 접근 없음)
+     */
+    public void record(Long userId, Long courseId, Long lessonId, int positionSec, int deltaWatchedSec) {
+        LearningHeartbeatSample sample = new LearningHeartbeatSample(
+                userId, courseId, lessonId, positionSec, deltaWatchedSec, LocalDateTime.now(),
+                WatchCoverage.ofHeartbeat(positionSec, deltaWatchedSec));
+        pending.merge(new Key(userId, lessonId), sample, LearningHeartbeatSample::merge);
+    }
+
+    /**
+     * 특정 레슨의 미반영 샘플을 꺼냄 (레슨 완료 판정 등 즉시 반영이 필요한 경우)
+     */
+    public Optional<LearningHeartbeatSample> drain(Long userId, Long lessonId) {
+        return Optional.ofNullable(pending.remove(new Key(userId, lessonId)));
+    }
+
+    /**
+     * 특정 강좌의 미반영 샘플 폐기 (진도 초기화 시, 초기화 UPDATE 전에 호출)
+     * 이미 flush가 꺼내 간 샘플은 초기화 시각 기준으로 flush에서 걸러짐
+     */
+    public void discard(Long userId, Long courseId) {
+        resetAt.put(new CourseKey(userId, courseId), LocalDateTime.now());
+        pending.entrySet().removeIf(e -> e.getKey().userId() == userId && e.getValue().courseId() == courseId);
+    }
+
+    // 진도 초기화 이전에 기록된 샘플인지
+    private boolean isBeforeReset(LearningHeartbeatSample sample) {
+        LocalDateTime reset = resetAt.get(new CourseKey(sample.userId(), sample.courseId()));
+        return reset != null && !sample.lastBeatAt().isAfter(reset);
+    }
+
+    /**
+     * 미반영 샘플 수
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 주기적 flush
+     */
+    @Scheduled(fixedDelayString = "${app.learning.heartbeat.flush-interval-ms:5000}")
+    public void flush() {
+        LocalDateTime expired = LocalDateTime.now().minus(RESET_RETENTION);
+        resetAt.values().removeIf(at -> at.isBefore(expired));
+
+        if (pending.isEmpty()) return;
+
+        List<LearningHeartbeatSample> drained = new ArrayList<>(pending.size());
+        for (Key key : pending.keySet()) {
+            LearningHeartbeatSample sample = pending.remove(key);
+            if (sample != null) {
+                drained.add(sample);
+            }
+        }
+
+        for (int from = 0; from < drained.size(); from += batchSize) {
+            List<LearningHeartbeatSample> chunk = drained.subList(from, Math.min(from + batchSize, drained.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<LearningHeartbeatSample> applied =
+                            progressRepository.applyHeartbeats(chunk, sample -> !isBeforeReset(sample));
+                    if (applied.isEmpty()) return;
+                    enrollmentRepository.touchLastAccessed(applied);
+                    learningSummaryService.onWatched(watchedByUser(applied));
+                });
+            } catch (Exception e) {
+                // 실패한 샘플은 다음 flush에서 재시도 (그 사이 들어온 샘플과 병합)
+                log.warn("Heartbeat flush 실패: {}건 재시도 예정", chunk.size(), e);
+                for (LearningHeartbeatSample s : chunk) {
+                    if (isBeforeReset(s)) continue;
+                    pending.merge(new Key(s.userId(), s.lessonId()), s, LearningHeartbeatSample::merge);
+                }
+            }
+        }
+
+        log.debug("Heartbeat flush: {}건", drained.size());
+    }
+
+    // 사용자별 시청 시간 증분 합계 (학습 요약 누적 시청 시간)
+    private static Map<Long, Long> watchedByUser(List<LearningHeartbeatSample> samples) {
+        Map<Long, Long> watched = new HashMap<>();
+        for (LearningHeartbeatSample s : samples) {
+            watched.merge(s.userId(), (long) s.watchedDeltaSec(), Long::sum);
+        }
+        return watched;
+    }
+
+    /**
+     * 종료 시 남은 샘플 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 heartbeat flush: {}건", pending.size());
+        flush();
+    }
+}
@@ -0,0 +1,187 @@
+package org.zerock.projecttraveler.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.zerock.projecttraveler.entity.LearningEventOutbox;
+import org.zerock.projecttraveler.event.LearningEvent;
+import org.zerock.projecttraveler.repository.LearningEventOutboxRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 학습 이벤트 비동기 처리 (outbox 기반)
+ *
+ * - 발행 트랜잭션 커밋 직후 전용 스레드 풀에 넘김 → 요청 응답 시간에 처리 시간이 포함되지 않음
+ * - 스레드 풀이 가득 찼거나 서버가 내려가 처리하지 못한 이벤트는 outbox에 남아 주기 작업이 다시 처리
+ * - 처리 실패 시 지수 백오프(+지터)로 app.events.outbox.max-attempts회까지 재시도 후 FAILED
+ * - 같은 이벤트는 outbox 조건부 UPDATE(claim)로 한 스레드/서버만 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LearningEventDispatcher {
+
+    private static final int ERROR_MAX_LENGTH = 500;
+
+    private final LearningEventOutboxRepository outboxRepository;
+    private final LearningEventHandlers handlers;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.events.executor.pool-size:4}")
+    private int poolSize;
+
+    @Value("${app.events.executor.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${app.events.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.events.outbox.backoff-ms:1000}")
+    private long backoffMs;
+
+    @Value("${app.events.outbox.lease-ms:60000}")
+    private long leaseMs;
+
+    @Value("${app.events.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.events.outbox.retention-days:7}")
+    private int retentionDays;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "learning-event-" + seq.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        // 남은 이벤트는 outbox에 있으므로 다음 기동 시 처리
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 발행 트랜잭션 커밋 후 처리 예약
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRecorded(LearningEvent.Recorded recorded) {
+        submit(recorded.outboxId());
+    }
+
+    /**
+     * 처리 대기 중인 outbox 이벤트 주기 처리 (즉시 처리 누락분, 재시도, 잠금 만료)
+     */
+    @Scheduled(fixedDelayString = "${app.events.outbox.poll-interval-ms:5000}")
+    public void pollDue() {
+        List<Long> due = outboxRepository.findDueIds(LocalDateTime.now(), PageRequest.of(0, batchSize));
+        for (Long id : due) {
+            if (!submit(id)) break;
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 완료 이벤트 정리
+     */
+    @Scheduled(cron = "${app.events.outbox.purge-cron:0 50 4 * * *}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        Integer deleted = transactionTemplate.execute(status -> outboxRepository.deleteDoneBefore(before));
+        log.info("학습 이벤트 outbox 정리: {}건", deleted);
+    }
+
+    private boolean submit(Long outboxId) {
+        try {
+            executor.execute(() -> process(outboxId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.debug("학습 이벤트 스레드 풀 포화, 주기 작업에서 처리: outboxId={}", outboxId);
+            return false;
+        }
+    }
+
+    /**
+     * outbox 이벤트 1건 처리 (다른 스레드/서버가 가져갔으면 건너뜀)
+     */
+    void process(Long outboxId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+                outboxRepository.claim(outboxId, now, now.plusNanos(leaseMs * 1_000_000)));
+        if (claimed == null || claimed == 0) return;
+
+        LearningEventOutbox row = outboxRepository.findById(outboxId).orElse(null);
+        if (row == null) return;
+
+        LearningEvent event = row.toEvent();
+        try {
+            // 후속 처리 단계별 트랜잭션은 handlers가 관리
+            handlers.handle(event);
+            complete(outboxId, null);
+            log.debug("학습 이벤트 처리: outboxId={}, event={}", outboxId, event);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            // 재시도해도 결과가 같은 규칙 위반
+            complete(outboxId, e.getMessage());
+            log.info("학습 이벤트 처리 불가, 종료: outboxId={}, event={}, reason={}", outboxId, event, e.getMessage());
+        } catch (Exception e) {
+            fail(row, event, e);
+        }
+    }
+
+    private void complete(Long outboxId, String note) {
+        transactionTemplate.executeWithoutResult(status ->
+                outboxRepository.markDone(outboxId, LocalDateTime.now(), truncate(note)));
+    }
+
+    private void fail(LearningEventOutbox row, LearningEvent event, Exception e) {
+        int attempts = row.getAttempts() + 1;
+        String error = truncate(e.getClass().getSimpleName() + ": " + e.getMessage());
+
+        if (attempts >= maxAttempts) {
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxRepository.markFailed(row.getId(), LocalDateTime.now(), error));
+            log.error("학습 이벤트 재시도 횟수 초과: outboxId={}, event={}, attempts={}", row.getId(), event, attempts, e);
+            return;
+        }
+
+        long base = backoffMs << Math.min(attempts - 1, 16);
+        long delay = base + ThreadLocalRandom.current().nextLong(base / 2 + 1);
+        LocalDateTime next = LocalDateTime.now().plusNanos(delay * 1_000_000);
+        transactionTemplate.executeWithoutResult(status ->
+                outboxRepository.markRetry(row.getId(), next, error));
+        log.warn("학습 이벤트 처리 실패, {}ms 후 재시도: outboxId={}, event={}, attempts={}",
+                delay, row.getId(), event, attempts, e);
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= ERROR_MAX_LENGTH) return message;
+        return message.substring(0, ERROR_MAX_LENGTH);
+    }
+}
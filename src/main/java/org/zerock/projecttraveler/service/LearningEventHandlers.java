@@ -0,0 +1,66 @@
+package org.zerock.projecttraveler.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.zerock.projecttraveler.dto.CertificateDto;
+import org.zerock.projecttraveler.event.LearningEvent;
+
+/**
+ * 학습 이벤트 처리 (LearningEventDispatcher가 이벤트마다 호출)
+ *
+ * 후속 처리(학습 요약 갱신, 재수강 완료, 수료증 발급)는 단계마다 별도 트랜잭션으로 실행한다.
+ * 한 단계의 실패가 이미 끝난 다른 단계를 되돌리지 않는다.
+ * outbox 재시도로 같은 이벤트가 다시 들어올 수 있으므로 모든 처리는 멱등이어야 한다.
+ * - 조건 미충족(재수강 대상 아님, 수료 조건 미달)은 조용히 끝냄
+ * - IllegalArgumentException/IllegalStateException은 재시도해도 같은 결과 → 해당 단계만 종료하고 다음 단계 진행
+ * - 그 외 예외(DB 오류 등)는 이벤트 전체 재시도
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LearningEventHandlers {
+
+    private final QuizService quizService;
+    private final CertificateService certificateService;
+    private final LearningSummaryService learningSummaryService;
+    private final TransactionTemplate transactionTemplate;
+
+    public void handle(LearningEvent event) {
+        switch (event.type()) {
+            case LESSON_COMPLETED -> {
+                step(event, "summary", () -> learningSummaryService.refreshEnrollments(event.userId()));
+                step(event, "retake", () -> quizService.completeRetakeIfAllLessonsDone(event.userId(), event.courseId()));
+                step(event, "certificate", () -> issueCertificate(event));
+            }
+            case COURSE_COMPLETED -> {
+                step(event, "summary", () -> learningSummaryService.refreshEnrollments(event.userId()));
+                step(event, "certificate", () -> issueCertificate(event));
+            }
+            case QUIZ_PASSED -> step(event, "certificate", () -> issueCertificate(event));
+            case ENROLLMENT_CHANGED -> step(event, "summary", () -> learningSummaryService.refreshEnrollments(event.userId()));
+        }
+    }
+
+    /**
+     * 후속 처리 한 단계 (별도 트랜잭션, 규칙 위반은 이 단계만 종료)
+     */
+    private void step(LearningEvent event, String name, Runnable action) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> action.run());
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.info("학습 이벤트 후속 처리 불가, 건너뜀: event={}, step={}, reason={}", event, name, e.getMessage());
+        }
+    }
+
+    private void issueCertificate(LearningEvent event) {
+        if (event.courseId() == null) return;
+
+        CertificateDto.IssueResult result = certificateService.issueCertificate(event.userId(), event.courseId());
+        if (!Boolean.TRUE.equals(result.getSuccess())) {
+            log.debug("수료증 자동 발급 대상 아님: userId={}, courseId={}, reason={}",
+                    event.userId(), event.courseId(), result.getMessage());
+        }
+    }
+}
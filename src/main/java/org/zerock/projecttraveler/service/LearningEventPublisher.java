@@ -0,0 +1,27 @@
+package org.zerock.projecttraveler.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.zerock.projecttraveler.entity.LearningEventOutbox;
+import org.zerock.projecttraveler.event.LearningEvent;
+import org.zerock.projecttraveler.repository.LearningEventOutboxRepository;
+
+/**
+ * 학습 이벤트 발행
+ *
+ * 호출한 트랜잭션에 outbox 행을 함께 기록하고 트랜잭션 이벤트를 발행한다.
+ * 실제 처리는 커밋 후 LearningEventDispatcher가 한다 (롤백되면 outbox 행도 이벤트도 없음).
+ */
+@Component
+@RequiredArgsConstructor
+public class LearningEventPublisher {
+
+    private final LearningEventOutboxRepository outboxRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public void publish(LearningEvent event) {
+        LearningEventOutbox row = outboxRepository.save(LearningEventOutbox.of(event));
+        applicationEventPublisher.publishEvent(new LearningEvent.Recorded(row.getId(), event));
+    }
+}
@@ -5,12 +5,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.zerock.projecttraveler.dto.CourseDetailDto;
+import org.zerock.projecttraveler.dto.CurriculumSnapshot;
+import org.zerock.projecttraveler.dto.ProgressVector;
+import org.zerock.projecttraveler.dto.WatchCoverage;
 import org.zerock.projecttraveler.entity.*;
+import org.zerock.projecttraveler.event.LearningEvent;
 import org.zerock.projecttraveler.repository.*;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -19,44 +24,54 @@ import java.util.stream.Collectors;
 public class LearningService {
 
     private final CourseRepository courseRepository;
-    private final CourseUnitRepository unitRepository;
     private final LessonRepository lessonRepository;
     private final CourseEnrollmentRepository enrollmentRepository;
     private final LessonProgressRepository progressRepository;
     private final LearningSessionRepository sessionRepository;
     private final AttendanceService attendanceService;
     private final EnrollmentService enrollmentService;
+    private final HeartbeatAggregator heartbeatAggregator;
+    private final EnrollmentAccessCache enrollmentAccessCache;
+    private final CurriculumCache curriculumCache;
+    private final ProgressProjectionService progressProjectionService;
+    private final LearningSessionTracker learningSessionTracker;
+    private final UserRepository userRepository;
+    private final LearningSummaryService learningSummaryService;
+    private final LearningEventPublisher learningEventPublisher;
 
     // 90% 이상 시청 시 완료로 처리
     private static final double COMPLETION_THRESHOLD = 0.9;
 
     /**
      * 강좌 상세 정보 (커리큘럼 + 진도 포함)
+     * 커리큘럼은 CurriculumCache 스냅샷을 공유하고, 사용자 진도만 요청 시 덧씌운다.
      */
     public CourseDetailDto getCourseDetailView(Long courseId, Long userId) {
-        Course course = courseRepository.findById(courseId)
+        CurriculumSnapshot curriculum = curriculumCache.get(courseId)
                 .orElseThrow(() -> new IllegalArgumentException("강좌를 찾을 수 없습니다."));
 
-        List<CourseUnit> units = unitRepository.findByCourseIdWithLessons(courseId);
-        List<Lesson> allLessons = lessonRepository.findByCourseIdOrderBySortOrderAsc(courseId);
-
-        // 기본 정보
-        CourseDetailDto dto = CourseDetailDto.from(course);
-        dto.setTotalLessonCount(allLessons.size());
-        dto.setTotalUnitCount(units.size());
-
-        // 수강 정보
+        // 수강 정보 + 진도 (엔티티 없이 레슨 순서 배열로 조회)
         CourseEnrollment enrollment = null;
-        Map<Long, LessonProgress> progressMap = new HashMap<>();
+        ProgressVector progress = new ProgressVector(curriculum);
 
         if (userId != null) {
             enrollment = enrollmentRepository.findByUserIdAndCourseId(userId, courseId).orElse(null);
-
-            List<LessonProgress> progressList = progressRepository.findByUserIdAndCourseIdWithLesson(userId, courseId);
-            progressMap = progressList.stream()
-                    .collect(Collectors.toMap(p -> p.getLesson().getId(), p -> p));
+            progress = progressProjectionService.load(userId, curriculum);
         }
 
+        return assembleCourseDetailView(curriculum, enrollment, progress);
+    }
+
+    /**
+     * 커리큘럼 스냅샷에 수강 정보/진도를 덧씌워 화면 DTO 조립 (DB 접근 없음)
+     * src/jmh 의 CourseDetailViewBenchmark 측정 대상
+     */
+    static CourseDetailDto assembleCourseDetailView(CurriculumSnapshot curriculum,
+                                                    CourseEnrollment enrollment,
+                                                    ProgressVector progress) {
+        // 기본 정보
+        CourseDetailDto dto = curriculum.toCourseDetailDto();
+
         // 수강 정보 설정
         if (enrollment != null) {
             dto.setEnrollmentInfo(CourseDetailDto.EnrollmentInfo.builder()
@@ -64,131 +79,52 @@ public class LearningService {
                     .status(enrollment.getStatus().name())
                     .statusDisplayName(enrollment.getStatusDisplayName())
                     .accessible(enrollment.isAccessible())
-                    .enrollPolicy(course.getEnrollPolicy().name())
+                    .enrollPolicy(curriculum.enrollPolicy())
                     .lastAccessedAt(enrollment.getLastAccessedAt())
                     .build());
         } else {
             dto.setEnrollmentInfo(CourseDetailDto.EnrollmentInfo.builder()
                     .accessible(false)
-                    .enrollPolicy(course.getEnrollPolicy().name())
+                    .enrollPolicy(curriculum.enrollPolicy())
                     .build());
         }
 
         // 진도 정보 설정
-        int completedCount = (int) progressMap.values().stream().filter(LessonProgress::getCompleted).count();
-        long totalWatchedSec = progressMap.values().stream().mapToLong(LessonProgress::getWatchedSec).sum();
-
         dto.setProgressInfo(CourseDetailDto.ProgressInfo.builder()
-                .completedLessonCount(completedCount)
-                .totalLessonCount(allLessons.size())
-                .progressPercent(allLessons.isEmpty() ? 0 : (completedCount * 100 / allLessons.size()))
-                .totalWatchedSec(totalWatchedSec)
-                .totalWatchedFormatted(formatTime(totalWatchedSec))
+                .completedLessonCount(progress.completedCount())
+                .totalLessonCount(progress.lessonCount())
+                .progressPercent(progress.courseProgressPercent())
+                .totalWatchedSec(progress.totalWatchedSec())
+                .totalWatchedFormatted(formatTime(progress.totalWatchedSec()))
                 .build());
 
-        // 유닛 및 레슨 정보 설정
-        List<CourseDetailDto.UnitDto> unitDtos = new ArrayList<>();
-        Lesson continueLesson = null;
-        Lesson firstIncompleteLesson = null;
+        // 유닛 및 레슨 정보 설정 (기본 커리큘럼 유닛 포함, 스냅샷 순서 그대로)
+        List<CourseDetailDto.UnitDto> unitDtos = new ArrayList<>(curriculum.units().size());
+        CurriculumSnapshot.LessonSnapshot continueLesson = null;
+        CurriculumSnapshot.LessonSnapshot firstIncompleteLesson = null;
 
-        // 유닛에 속하지 않은 레슨들 처리 (unit_id가 NULL인 레슨들)
-        List<Lesson> unassignedLessons = allLessons.stream()
-                .filter(l -> l.getUnit() == null)
-                .collect(Collectors.toList());
-
-        if (!unassignedLessons.isEmpty()) {
-            List<CourseDetailDto.LessonDto> lessonDtos = new ArrayList<>();
+        for (CurriculumSnapshot.UnitSnapshot unit : curriculum.units()) {
+            List<CourseDetailDto.LessonDto> lessonDtos = new ArrayList<>(unit.lessons().size());
             int unitCompletedCount = 0;
             boolean hasInProgress = false;
 
-            for (Lesson lesson : unassignedLessons) {
-                LessonProgress progress = progressMap.get(lesson.getId());
+            for (CurriculumSnapshot.LessonSnapshot lesson : unit.lessons()) {
+                int position = lesson.position();
 
                 String status = "미시작";
                 int progressPercent = 0;
                 int lastPositionSec = 0;
                 boolean completed = false;
 
-                if (progress != null) {
-                    completed = progress.getCompleted();
-                    lastPositionSec = progress.getLastPositionSec() != null ? progress.getLastPositionSec() : 0;
-                    progressPercent = progress.getProgressPercent();
+                if (progress.hasProgress(position)) {
+                    completed = progress.completed(position);
+                    lastPositionSec = progress.lastPositionSec(position);
+                    progressPercent = progress.progressPercent(position);
 
                     if (completed) {
                         status = "완료";
                         unitCompletedCount++;
-                    } else if (progress.getWatchedSec() != null && progress.getWatchedSec() > 0) {
-                        status = "진행중";
-                        hasInProgress = true;
-                        if (continueLesson == null) {
-                            continueLesson = lesson;
-                        }
-                    }
-                }
-
-                if (!completed && firstIncompleteLesson == null) {
-                    firstIncompleteLesson = lesson;
-                }
-
-                lessonDtos.add(CourseDetailDto.LessonDto.builder()
-                        .id(lesson.getId())
-                        .title(lesson.getTitle())
-                        .sortOrder(lesson.getSortOrder())
-                        .formattedDuration(lesson.getFormattedDuration())
-                        .videoType(lesson.getVideoType().name())
-                        .videoUrl(lesson.getVideoUrl())
-                        .isPreview(lesson.getIsPreview())
-                        .status(status)
-                        .progressPercent(progressPercent)
-                        .lastPositionSec(lastPositionSec)
-                        .completed(completed)
-                        .build());
-            }
-
-            // 유닛 상태 결정
-            String unitStatus;
-            if (unitCompletedCount == unassignedLessons.size()) {
-                unitStatus = "완료";
-            } else if (hasInProgress || unitCompletedCount > 0) {
-                unitStatus = "진행중";
-            } else {
-                unitStatus = "미시작";
-            }
-
-            // 기본 유닛으로 추가
-            unitDtos.add(CourseDetailDto.UnitDto.builder()
-                    .id(0L)
-                    .title("기본 커리큘럼")
-                    .sortOrder(0)
-                    .lessonCount(unassignedLessons.size())
-                    .formattedDuration(formatLessonsTotalDuration(unassignedLessons))
-                    .status(unitStatus)
-                    .lessons(lessonDtos)
-                    .build());
-        }
-
-        for (CourseUnit unit : units) {
-            List<CourseDetailDto.LessonDto> lessonDtos = new ArrayList<>();
-            int unitCompletedCount = 0;
-            boolean hasInProgress = false;
-
-            for (Lesson lesson : unit.getLessons()) {
-                LessonProgress progress = progressMap.get(lesson.getId());
-
-                String status = "미시작";
-                int progressPercent = 0;
-                int lastPositionSec = 0;
-                boolean completed = false;
-
-                if (progress != null) {
-                    completed = progress.getCompleted();
-                    lastPositionSec = progress.getLastPositionSec() != null ? progress.getLastPositionSec() : 0;
-                    progressPercent = progress.getProgressPercent();
-
-                    if (completed) {
-                        status = "완료";
-                        unitCompletedCount++;
-                    } else if (progress.getWatchedSec() != null && progress.getWatchedSec() > 0) {
+                    } else if (progress.watchedSec(position) > 0) {
                         status = "진행중";
                         hasInProgress = true;
                         if (continueLesson == null) {
@@ -203,13 +139,15 @@ public class LearningService {
                 }
 
                 lessonDtos.add(CourseDetailDto.LessonDto.builder()
-                        .id(lesson.getId())
-                        .title(lesson.getTitle())
-                        .sortOrder(lesson.getSortOrder())
-                        .formattedDuration(lesson.getFormattedDuration())
-                        .videoType(lesson.getVideoType().name())
-                        .videoUrl(lesson.getVideoUrl())
-                        .isPreview(lesson.getIsPreview())
+                        .id(lesson.id())
+                        .title(lesson.title())
+                        .sortOrder(lesson.sortOrder())
+                        .formattedDuration(lesson.formattedDuration())
+                        .videoType(lesson.videoType())
+                        .videoUrl(lesson.videoUrl())
+                        .isPreview(lesson.preview())
+                        .prevLessonId(lesson.prevLessonId())
+                        .nextLessonId(lesson.nextLessonId())
                         .status(status)
                         .progressPercent(progressPercent)
                         .lastPositionSec(lastPositionSec)
@@ -219,7 +157,7 @@ public class LearningService {
 
             // 유닛 상태 결정
             String unitStatus;
-            if (unitCompletedCount == unit.getLessons().size() && !unit.getLessons().isEmpty()) {
+            if (unitCompletedCount == unit.lessons().size() && !unit.lessons().isEmpty()) {
                 unitStatus = "완료";
             } else if (hasInProgress || unitCompletedCount > 0) {
                 unitStatus = "진행중";
@@ -228,11 +166,11 @@ public class LearningService {
             }
 
             unitDtos.add(CourseDetailDto.UnitDto.builder()
-                    .id(unit.getId())
-                    .title(unit.getTitle())
-                    .sortOrder(unit.getSortOrder())
-                    .lessonCount(unit.getLessons().size())
-                    .formattedDuration(unit.getFormattedDuration())
+                    .id(unit.id())
+                    .title(unit.title())
+                    .sortOrder(unit.sortOrder())
+                    .lessonCount(unit.lessons().size())
+                    .formattedDuration(unit.formattedDuration())
                     .status(unitStatus)
                     .lessons(lessonDtos)
                     .build());
@@ -241,17 +179,16 @@ public class LearningService {
         dto.setUnits(unitDtos);
 
         // 이어서 학습할 레슨 설정
-        Lesson lessonToSet = continueLesson != null ? continueLesson :
-                             (firstIncompleteLesson != null ? firstIncompleteLesson :
-                             (enrollment != null && enrollment.getLastLesson() != null ? enrollment.getLastLesson() : null));
+        CurriculumSnapshot.LessonSnapshot lessonToSet = continueLesson != null ? continueLesson :
+                (firstIncompleteLesson != null ? firstIncompleteLesson :
+                (enrollment != null && enrollment.getLastLesson() != null ? curriculum.lesson(enrollment.getLastLesson().getId()) : null));
 
         if (lessonToSet != null) {
-            LessonProgress progress = progressMap.get(lessonToSet.getId());
             dto.setContinueLesson(CourseDetailDto.LessonDto.builder()
-                    .id(lessonToSet.getId())
-                    .title(lessonToSet.getTitle())
-                    .sortOrder(lessonToSet.getSortOrder())
-                    .lastPositionSec(progress != null ? progress.getLastPositionSec() : 0)
+                    .id(lessonToSet.id())
+                    .title(lessonToSet.title())
+                    .sortOrder(lessonToSet.sortOrder())
+                    .lastPositionSec(progress.lastPositionSec(lessonToSet.position()))
                     .build());
         }
 
@@ -260,43 +197,20 @@ public class LearningService {
 
     /**
      * Heartbeat 처리 (영상 학습 추적)
+     * 진도/최근 학습 정보는 HeartbeatAggregator에 모아 주기적으로 일괄 반영한다.
      */
     @Transactional
     public void heartbeat(Long userId, Long courseId, Long lessonId, int positionSec, int deltaWatchedSec) {
         // 수강 권한 확인
-        CourseEnrollment enrollment = enrollmentRepository.findByUserIdAndCourseId(userId, courseId)
-                .orElseThrow(() -> new IllegalArgumentException("수강 권한이 없습니다."));
-
-        if (!enrollment.isAccessible()) {
+        if (!enrollmentAccessCache.isAccessible(userId, courseId)) {
             throw new IllegalArgumentException("수강 권한이 없습니다.");
         }
 
-        Lesson lesson = lessonRepository.findById(lessonId)
-                .orElseThrow(() -> new IllegalArgumentException("레슨을 찾을 수 없습니다."));
+        // LessonProgress / Enrollment 갱신은 write-behind
+        heartbeatAggregator.record(userId, courseId, lessonId, positionSec, deltaWatchedSec);
 
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new IllegalArgumentException("강좌를 찾을 수 없습니다."));
-
-        // LessonProgress 업데이트 또는 생성
-        LessonProgress progress = progressRepository.findByUserIdAndLessonId(userId, lessonId)
-                .orElseGet(() -> {
-                    LessonProgress newProgress = LessonProgress.builder()
-                            .user(enrollment.getUser())
-                            .course(course)
-                            .lesson(lesson)
-                            .lastPositionSec(0)
-                            .watchedSec(0)
-                            .completed(false)
-                            .build();
-                    return progressRepository.save(newProgress);
-                });
-
-        progress.setLastPositionSec(positionSec);
-        progress.setWatchedSec(progress.getWatchedSec() + deltaWatchedSec);
-
-        // Enrollment 업데이트
-        enrollment.setLastAccessedAt(LocalDateTime.now());
-        enrollment.setLastLesson(lesson);
+        // 학습 세션 (유휴 시간 초과 시 종료, 일괄 저장)
+        learningSessionTracker.onHeartbeat(userId, courseId, lessonId, deltaWatchedSec);
 
         // 출석 처리
         try {
@@ -315,10 +229,7 @@ public class LearningService {
     @Transactional
     public boolean complete(Long userId, Long courseId, Long lessonId) {
         // 수강 권한 확인
-        CourseEnrollment enrollment = enrollmentRepository.findByUserIdAndCourseId(userId, courseId)
-                .orElseThrow(() -> new IllegalArgumentException("수강 권한이 없습니다."));
-
-        if (!enrollment.isAccessible()) {
+        if (!enrollmentAccessCache.isAccessible(userId, courseId)) {
             throw new IllegalArgumentException("수강 권한이 없습니다.");
         }
 
@@ -328,10 +239,19 @@ public class LearningService {
         Course course = courseRepository.findById(courseId)
                 .orElseThrow(() -> new IllegalArgumentException("강좌를 찾을 수 없습니다."));
 
-        LessonProgress progress = progressRepository.findByUserIdAndLessonId(userId, lessonId)
+        // 아직 flush되지 않은 heartbeat는 flush와 같은 잠금 SQL 경로로 반영
+        // (엔티티에 합산해 쓰면 동시에 진행 중인 flush의 증분/비트맵을 덮어씀)
+        heartbeatAggregator.drain(userId, lessonId).ifPresent(pending -> {
+            progressRepository.applyHeartbeats(List.of(pending));
+            enrollmentRepository.touchLastAccessed(List.of(pending));
+            learningSummaryService.onWatched(Map.of(userId, (long) pending.watchedDeltaSec()));
+        });
+
+        // 행 잠금 후 조회 → 판정/완료 표시 동안 flush가 끼어들지 않음
+        LessonProgress progress = progressRepository.findForUpdateByUserIdAndLessonId(userId, lessonId)
                 .orElseGet(() -> {
                     LessonProgress newProgress = LessonProgress.builder()
-                            .user(enrollment.getUser())
+                            .user(userRepository.getReferenceById(userId))
                             .course(course)
                             .lesson(lesson)
                             .lastPositionSec(0)
@@ -345,26 +265,46 @@ public class LearningService {
         if (lesson.getVideoType() == Lesson.VideoType.NONE ||
             lesson.getDurationSec() == null ||
             lesson.getDurationSec() == 0 ||
-            (progress.getWatchedSec() >= lesson.getDurationSec() * COMPLETION_THRESHOLD)) {
+            watchedRatio(progress, lesson.getDurationSec()) >= COMPLETION_THRESHOLD) {
 
             if (!progress.getCompleted()) {
+                LocalDateTime now = LocalDateTime.now();
+
+                // 완료 전환은 DB에서 조건부로 (동시 완료 요청 시 카운터는 한 번만 증가)
+                boolean flipped = progressRepository.markCompleted(progress.getId(), now) > 0;
                 progress.setCompleted(true);
-                progress.setCompletedAt(LocalDateTime.now());
+                progress.setCompletedAt(now);
 
-                log.info("레슨 완료: userId={}, lessonId={}", userId, lessonId);
+                if (flipped) {
+                    enrollmentRepository.incrementCompletedLessons(userId, courseId);
+                    learningEventPublisher.publish(new LearningEvent.LessonCompleted(userId, courseId, lessonId));
+                    log.info("레슨 완료: userId={}, lessonId={}", userId, lessonId);
 
-                // 강좌 완료 여부 체크
-                enrollmentService.checkAndCompleteEnrollment(userId, courseId);
+                    // 강좌 완료 여부 체크
+                    enrollmentService.checkAndCompleteEnrollment(userId, courseId);
+                }
             }
             return true;
         }
 
-        log.warn("완료 조건 미충족: userId={}, lessonId={}, watched={}, required={}",
-                userId, lessonId, progress.getWatchedSec(),
-                (int)(lesson.getDurationSec() * COMPLETION_THRESHOLD));
+        log.warn("완료 조건 미충족: userId={}, lessonId={}, watchedRatio={}, required={}",
+                userId, lessonId, String.format("%.2f", watchedRatio(progress, lesson.getDurationSec())),
+                COMPLETION_THRESHOLD);
         return false;
     }
 
+    /**
+     * 영상 길이 대비 시청 비율
+     * 시청 구간 비트맵 기준 (반복 시청/탐색 제외). 비트맵 도입 전 진도는 누적 시청 시간으로 판단하며,
+     * 첫 heartbeat 반영 시 누적 시청 시간으로 초기 비트맵을 만들어 비율을 이어받는다.
+     */
+    private double watchedRatio(LessonProgress progress, int durationSec) {
+        if (progress.getWatchedCoverage() != null) {
+            return WatchCoverage.coveredRatio(progress.getWatchedCoverage(), durationSec);
+        }
+        return (double) progress.getWatchedSec() / durationSec;
+    }
+
     /**
      * 레슨 진도 조회
      */
@@ -379,6 +319,17 @@ public class LearningService {
         return progressRepository.sumWatchedSecByUserId(userId);
     }
 
+    /**
+     * 이번 주(월요일 0시~) 학습 시간 (초)
+     * 저장된 세션 합계 + 진행 중인 세션
+     */
+    public long getThisWeekLearningSec(Long userId) {
+        LocalDateTime from = LocalDate.now().with(DayOfWeek.MONDAY).atStartOfDay();
+        LocalDateTime to = from.plusWeeks(1);
+        return sessionRepository.sumDurationByUserIdAndPeriod(userId, from, to)
+                + learningSessionTracker.openDurationSec(userId, from);
+    }
+
     /**
      * 특정 강좌의 레슨별 진도 목록 (레슨 정보 포함)
      */
@@ -386,7 +337,7 @@ public class LearningService {
         return progressRepository.findByUserIdAndCourseIdWithLesson(userId, courseId);
     }
 
-    private String formatTime(long seconds) {
+    static String formatTime(long seconds) {
         long hours = seconds / 3600;
         long minutes = (seconds % 3600) / 60;
         if (hours > 0 && minutes > 0) {
@@ -397,18 +348,4 @@ public class LearningService {
             return String.format("%d분", minutes);
         }
     }
-
-    private String formatLessonsTotalDuration(List<Lesson> lessons) {
-        int totalSec = lessons.stream()
-                .mapToInt(l -> l.getDurationSec() != null ? l.getDurationSec() : 0)
-                .sum();
-        if (totalSec == 0) return "미정";
-        int minutes = totalSec / 60;
-        if (minutes >= 60) {
-            int hours = minutes / 60;
-            int remainingMin = minutes % 60;
-            return remainingMin > 0 ? String.format("약 %d시간 %d분", hours, remainingMin) : String.format("약 %d시간", hours);
-        }
-        return String.format("약 %d분", minutes);
-    }
 }
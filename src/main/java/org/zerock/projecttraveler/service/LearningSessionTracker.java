@@ -0,0 +1,143 @@
+package org.zerock.projecttraveler.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.zerock.projecttraveler.dto.LearningSessionRecord;
+import org.zerock.projecttraveler.repository.LearningSessionRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * heartbeat 흐름으로 학습 세션(learning_session) 생성
+ *
+ * - 사용자의 첫 heartbeat에서 세션 시작 (시작 시각 = 첫 heartbeat - 시청 시간)
+ * - 이후 heartbeat마다 종료 시각 연장
+ * - 유휴 시간(app.learning.session.idle-gap-sec) 초과 또는 다른 레슨으로 이동 시 종료
+ *   (이어서 시작하는 세션은 이전 세션 종료 시각 이전으로 당기지 않아 학습 시간이 겹치지 않음)
+ * 종료된 세션은 메모리 큐에 모았다가 주기적으로 JDBC 배치 저장한다. (heartbeat마다 INSERT 하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LearningSessionTracker {
+
+    private final LearningSessionRepository sessionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.learning.session.idle-gap-sec:300}")
+    private long idleGapSec;
+
+    @Value("${app.learning.heartbeat.batch-size:500}")
+    private int batchSize;
+
+    // userId → 진행 중인 세션
+    private final ConcurrentHashMap<Long, LearningSessionRecord> open = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<LearningSessionRecord> closed = new ConcurrentLinkedQueue<>();
+
+    /**
+     * heartbeat 반영 (DB 접근 없음)
+     */
+    public void onHeartbeat(Long userId, Long courseId, Long lessonId, int deltaWatchedSec) {
+        onHeartbeat(userId, courseId, lessonId, deltaWatchedSec, LocalDateTime.now());
+    }
+
+    void onHeartbeat(Long userId, Long courseId, Long lessonId, int deltaWatchedSec, LocalDateTime now) {
+        open.compute(userId, (id, current) -> {
+            if (current != null
+                    && current.lessonId() == lessonId
+                    && !isIdle(current, now)) {
+                return current.extend(now);
+            }
+            LocalDateTime startedAt = now.minusSeconds(deltaWatchedSec);
+            if (current != null) {
+                close(current);
+                // 이전 세션과 겹치는 구간은 이미 이전 세션에 집계됨
+                if (startedAt.isBefore(current.endedAt())) {
+                    startedAt = current.endedAt();
+                }
+            }
+            return new LearningSessionRecord(userId, courseId, lessonId, startedAt, now);
+        });
+    }
+
+    /**
+     * 진행 중인 세션의 현재까지 학습 시간 (초, from 이후 시작한 세션만)
+     */
+    public long openDurationSec(Long userId, LocalDateTime from) {
+        LearningSessionRecord current = open.get(userId);
+        if (current == null || current.startedAt().isBefore(from)) return 0;
+        return current.durationSec();
+    }
+
+    /**
+     * 주기적으로 유휴 세션 종료 후 종료된 세션 일괄 저장
+     */
+    @Scheduled(fixedDelayString = "${app.learning.session.flush-interval-ms:60000}")
+    public void flush() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long userId : open.keySet()) {
+            open.computeIfPresent(userId, (id, current) -> {
+                if (isIdle(current, now)) {
+                    close(current);
+                    return null;
+                }
+                return current;
+            });
+        }
+
+        if (closed.isEmpty()) return;
+
+        List<LearningSessionRecord> drained = new ArrayList<>();
+        LearningSessionRecord session;
+        while ((session = closed.poll()) != null) {
+            drained.add(session);
+        }
+
+        for (int from = 0; from < drained.size(); from += batchSize) {
+            List<LearningSessionRecord> chunk = drained.subList(from, Math.min(from + batchSize, drained.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> sessionRepository.insertClosedSessions(chunk));
+            } catch (Exception e) {
+                // 다음 flush에서 재시도
+                log.warn("학습 세션 저장 실패: {}건 재시도 예정", chunk.size(), e);
+                closed.addAll(chunk);
+            }
+        }
+
+        log.debug("학습 세션 저장: {}건", drained.size());
+    }
+
+    /**
+     * 종료 시 진행 중인 세션까지 모두 저장
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        open.keySet().forEach(userId -> open.computeIfPresent(userId, (id, current) -> {
+            close(current);
+            return null;
+        }));
+        log.info("종료 전 학습 세션 저장: {}건", closed.size());
+        flush();
+    }
+
+    private boolean isIdle(LearningSessionRecord session, LocalDateTime now) {
+        return Duration.between(session.endedAt(), now).getSeconds() > idleGapSec;
+    }
+
+    private void close(LearningSessionRecord session) {
+        // 시청 시간이 없는 세션(heartbeat 1회, delta 0)은 버림
+        if (session.durationSec() > 0) {
+            closed.add(session);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package org.zerock.projecttraveler.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.zerock.projecttraveler.entity.CourseEnrollment;
+import org.zerock.projecttraveler.entity.UserLearningSummary;
+import org.zerock.projecttraveler.repository.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 학습 요약 읽기 모델 (user_learning_summary) 유지
+ *
+ * 요약 조회는 기본 키 1회. 값은 원본 변경 지점에서 증분으로 맞춘다.
+ * - 출석 체크: 출석일/연속 출석/이번 달 출석 (같은 트랜잭션)
+ * - heartbeat flush, 레슨 완료 시 미반영 heartbeat: 누적 시청 시간 (같은 트랜잭션)
+ * - 수강 상태 변경, 레슨 완료: 학습 이벤트 처리 시 해당 사용자의 수강 수/진도율 합계를 course_enrollment에서 다시 계산
+ * - 레슨 추가/삭제: 커밋 후 강좌 수강자 전원 재계산
+ * - 진도 초기화: 커밋 후 사용자 요약 전체 재계산
+ * 요약 행이 없으면 첫 조회 때 원본 테이블에서 만들고, 증분 누락/경합으로 어긋난 값은
+ * 매일 app.learning.summary.rebuild-cron 시각의 전체 재계산(또는 관리자 재계산)으로 보정된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LearningSummaryService {
+
+    private final UserLearningSummaryRepository summaryRepository;
+    private final CourseEnrollmentRepository enrollmentRepository;
+    private final LessonProgressRepository progressRepository;
+    private final AttendanceDailyRepository attendanceRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 트랜잭션별 커밋 후 전체 재계산 대상 사용자
+    private static final Object PENDING_KEY = new Object();
+
+    /**
+     * 사용자 요약 조회 (없으면 원본 테이블에서 생성)
+     */
+    public UserLearningSummary get(Long userId) {
+        return summaryRepository.findById(userId)
+                .orElseGet(() -> requiresNew().execute(status -> rebuildInCurrentTransaction(userId)));
+    }
+
+    /**
+     * 출석 1일 반영 (출석 행 생성과 같은 트랜잭션에서 호출)
+     */
+    public void onAttendance(Long userId, LocalDate attendDate) {
+        summaryRepository.recordAttendance(userId, attendDate);
+    }
+
+    /**
+     * 누적 시청 시간 증분 반영 (진도 반영과 같은 트랜잭션에서 호출)
+     */
+    public void onWatched(Map<Long, Long> deltaByUserId) {
+        summaryRepository.addWatchedSec(deltaByUserId);
+    }
+
+    /**
+     * 사용자 수강 집계 재계산 (학습 이벤트 처리 트랜잭션에서 호출)
+     */
+    public void refreshEnrollments(Long userId) {
+        summaryRepository.refreshEnrollments(List.of(userId));
+    }
+
+    /**
+     * 여러 사용자 수강 집계 재계산 (일괄 배정 등 호출한 트랜잭션에서 JDBC 배치 1회)
+     */
+    public void refreshEnrollments(Collection<Long> userIds) {
+        summaryRepository.refreshEnrollments(userIds);
+    }
+
+    /**
+     * 진도 초기화 등 여러 값이 한 번에 바뀐 경우 (커밋 후 사용자 요약 전체 재계산)
+     */
+    public void onProgressReset(Long userId) {
+        schedule(userId);
+    }
+
+    /**
+     * 강좌 전체 레슨 수 변경 (커밋 후 수강자 전원 재계산)
+     */
+    public void onCourseLessonsChanged(Long courseId) {
+        afterCommit(() -> {
+            int updated = requiresNew().execute(status -> summaryRepository.refreshEnrollmentsByCourse(courseId));
+            log.debug("학습 요약 강좌 수강자 재계산: courseId={}, rows={}", courseId, updated);
+        });
+    }
+
+    /**
+     * 원본 테이블 기준 사용자 요약 재계산
+     */
+    public UserLearningSummary rebuild(Long userId) {
+        return requiresNew().execute(status -> rebuildInCurrentTransaction(userId));
+    }
+
+    /**
+     * 전체 사용자 요약 재계산 (사용자별 트랜잭션)
+     * @return 재계산한 사용자 수
+     */
+    @Scheduled(cron = "${app.learning.summary.rebuild-cron:0 0 5 * * *}")
+    public int rebuildAll() {
+        List<Long> userIds = userRepository.findAllIds();
+        int rebuilt = 0;
+        for (Long userId : userIds) {
+            try {
+                rebuild(userId);
+                rebuilt++;
+            } catch (Exception e) {
+                log.warn("학습 요약 재계산 실패: userId={}", userId, e);
+            }
+        }
+        log.info("학습 요약 전체 재계산: {}/{}명", rebuilt, userIds.size());
+        return rebuilt;
+    }
+
+    private UserLearningSummary rebuildInCurrentTransaction(Long userId) {
+        LocalDate today = LocalDate.now();
+
+        List<CourseEnrollment> inProgress = enrollmentRepository.findInProgressByUserId(userId);
+        long percentSum = 0;
+        for (CourseEnrollment enrollment : inProgress) {
+            percentSum += enrollment.getProgressPercent();
+        }
+
+        // 최근 날짜부터: 가장 최근 출석일에서 끝나는 연속 구간 + 이번 달 출석일
+        List<LocalDate> dates = attendanceRepository.findAttendDatesByUserId(userId);
+        LocalDate lastAttendDate = dates.isEmpty() ? null : dates.get(0);
+        int streak = 0;
+        LocalDate expected = lastAttendDate;
+        for (LocalDate date : dates) {
+            if (!date.equals(expected)) break;
+            streak++;
+            expected = expected.minusDays(1);
+        }
+        int month = UserLearningSummary.monthKey(today);
+        int monthDays = 0;
+        for (LocalDate date : dates) {
+            if (UserLearningSummary.monthKey(date) != month) break;
+            monthDays++;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        UserLearningSummary summary = UserLearningSummary.builder()
+                .userId(userId)
+                .inProgressCount(inProgress.size())
+                .completedCount((int) enrollmentRepository.countCompletedByUserId(userId))
+                .inProgressPercentSum(percentSum)
+                .totalWatchedSec(progressRepository.sumWatchedSecByUserId(userId))
+                .totalAttendanceDays(dates.size())
+                .currentStreak(streak)
+                .lastAttendDate(lastAttendDate)
+                .attendanceMonth(month)
+                .monthAttendanceDays(monthDays)
+                .rebuiltAt(now)
+                .updatedAt(now)
+                .build();
+
+        summaryRepository.replace(summary);
+        log.debug("학습 요약 재계산: userId={}", userId);
+        return summary;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void schedule(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(Set.of(userId));
+            return;
+        }
+
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending == null) {
+            Set<Long> created = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(PENDING_KEY, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+                }
+            });
+            pending = created;
+        }
+        pending.add(userId);
+    }
+
+    private void apply(Set<Long> pending) {
+        try {
+            pending.forEach(this::rebuild);
+        } catch (Exception e) {
+            // 다음 재계산 작업에서 보정
+            log.warn("학습 요약 갱신 실패: users={}", pending, e);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    action.run();
+                } catch (Exception e) {
+                    log.warn("학습 요약 갱신 실패", e);
+                }
+            }
+        });
+    }
+
+    // 커밋 후 콜백/읽기 전용 트랜잭션 안에서도 별도 쓰기 트랜잭션으로 실행
+    private TransactionTemplate requiresNew() {
+        TransactionTemplate template = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+}
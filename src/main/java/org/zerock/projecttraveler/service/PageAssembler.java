@@ -0,0 +1,221 @@
+package org.zerock.projecttraveler.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 화면 조립기 (독립적인 조회 구간 동시 실행)
+ *
+ * 마이페이지처럼 서로 의존하지 않는 조회 여러 개로 만드는 화면은 구간별로 나눠 동시에 실행해
+ * 응답 시간을 "합"이 아니라 "가장 느린 구간"으로 줄인다.
+ * - 구간마다 별도 읽기 전용 트랜잭션 (지연 로딩은 구간 안에서 DTO로 변환까지 끝낼 것)
+ * - 구간별 제한 시간(app.page.section-timeout-ms) 초과/예외 시 대체값으로 화면을 그림
+ * - 병렬 실행 구간 수는 커넥션 풀보다 작게 제한 (구간 하나가 REQUIRES_NEW로 2개까지 사용)
+ *   빈 자리가 없으면 기다리지 않고 요청 스레드에서 바로 실행 → 부하 시에는 느려질 뿐 대체값으로 바뀌지 않음
+ * - 대체값은 실제 실패(예외, 병렬 실행 구간의 제한 시간 초과)에만 사용
+ * - 구간별 소요 시간은 lms.page.section 메트릭(page, section, mode=async|inline, outcome=success|error|timeout)
+ * 구간 안에서는 SecurityContext 등 요청 스레드 값에 의존하지 말고 필요한 값을 미리 꺼내 넘긴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PageAssembler {
+
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.page.executor.pool-size:4}")
+    private int poolSize;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int connectionPoolSize;
+
+    @Value("${app.page.executor.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${app.page.section-timeout-ms:2000}")
+    private long sectionTimeoutMs;
+
+    private ThreadPoolExecutor executor;
+    private TransactionTemplate readOnlyTransaction;
+    private Semaphore connectionPermits;
+
+    @PostConstruct
+    void init() {
+        // 구간당 최대 2커넥션 → 요청 스레드 몫을 남기도록 풀 크기의 절반 미만으로 제한
+        int maxSections = Math.max(1, (connectionPoolSize - 1) / 2);
+        if (poolSize > maxSections) {
+            log.warn("app.page.executor.pool-size({})가 커넥션 풀({}) 대비 커서 {}로 제한", poolSize, connectionPoolSize, maxSections);
+            poolSize = maxSections;
+        }
+        connectionPermits = new Semaphore(poolSize);
+
+        AtomicInteger seq = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "page-" + seq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 화면 조립 시작
+     */
+    public Assembly begin(String page) {
+        return new Assembly(page);
+    }
+
+    /**
+     * 화면 한 번의 조립 (구간 등록 → get()으로 결과 수집)
+     */
+    public final class Assembly {
+
+        private final String page;
+        private final List<String> degraded = Collections.synchronizedList(new ArrayList<>());
+
+        private Assembly(String page) {
+            this.page = page;
+        }
+
+        /**
+         * 구간 등록 (병렬 실행 자리가 있으면 스레드 풀에서, 없으면 요청 스레드에서 바로 실행)
+         * @param fallback 예외/제한 시간 초과 시 사용할 값
+         */
+        public <T> Section<T> section(String name, Supplier<T> loader, T fallback) {
+            Section<T> section = new Section<>(this, name, fallback);
+            if (connectionPermits.tryAcquire()) {
+                section.future = executor.submit(() -> {
+                    try {
+                        return readOnlyTransaction.execute(status -> loader.get());
+                    } finally {
+                        connectionPermits.release();
+                        section.finishedAt = System.nanoTime();
+                    }
+                });
+            } else {
+                section.inline = true;
+                FutureTask<T> task = new FutureTask<>(() -> {
+                    try {
+                        return readOnlyTransaction.execute(status -> loader.get());
+                    } finally {
+                        section.finishedAt = System.nanoTime();
+                    }
+                });
+                task.run();
+                section.future = task;
+            }
+            return section;
+        }
+
+        /**
+         * 대체값으로 그린 구간 이름 목록
+         */
+        public List<String> degradedSections() {
+            return List.copyOf(degraded);
+        }
+    }
+
+    /**
+     * 조회 구간 (결과 대기)
+     */
+    public final class Section<T> {
+
+        private final Assembly assembly;
+        private final String name;
+        private final T fallback;
+        private final long submittedAt = System.nanoTime();
+        private volatile long finishedAt;
+        private Future<T> future;
+        private boolean inline;
+        private T result;
+        private boolean resolved;
+
+        private Section(Assembly assembly, String name, T fallback) {
+            this.assembly = assembly;
+            this.name = name;
+            this.fallback = fallback;
+        }
+
+        /**
+         * 결과 (등록 시점부터 제한 시간까지만 대기, 실패하면 대체값)
+         */
+        public T get() {
+            if (!resolved) {
+                result = await();
+                resolved = true;
+            }
+            return result;
+        }
+
+        private long remainingNanos() {
+            return Math.max(0, TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMs) - (System.nanoTime() - submittedAt));
+        }
+
+        private T await() {
+            try {
+                T value = future.get(remainingNanos(), TimeUnit.NANOSECONDS);
+                record("success", finishedAt - submittedAt);
+                return value;
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                record("timeout", System.nanoTime() - submittedAt);
+                log.warn("화면 구간 제한 시간 초과: page={}, section={}, timeoutMs={}",
+                        assembly.page, name, sectionTimeoutMs);
+            } catch (ExecutionException e) {
+                record("error", finishedAt - submittedAt);
+                log.warn("화면 구간 조회 실패: page={}, section={}", assembly.page, name, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                record("timeout", System.nanoTime() - submittedAt);
+            }
+            assembly.degraded.add(name);
+            return fallback;
+        }
+
+        private void record(String outcome, long nanos) {
+            Timer.builder("lms.page.section")
+                    .description("화면 조립 구간별 소요 시간 (등록부터 완료까지)")
+                    .tag("page", assembly.page)
+                    .tag("section", name)
+                    .tag("mode", inline ? "inline" : "async")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(Math.max(0, nanos), TimeUnit.NANOSECONDS);
+        }
+    }
+}
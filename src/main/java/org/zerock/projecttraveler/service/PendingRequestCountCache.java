@@ -0,0 +1,70 @@
+package org.zerock.projecttraveler.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.zerock.projecttraveler.entity.CourseEnrollment;
+import org.zerock.projecttraveler.repository.CourseEnrollmentRepository;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 승인 대기 수강 신청 수 캐시 (관리자 메뉴 배지)
+ *
+ * 관리자 화면마다 COUNT 쿼리를 실행하지 않도록 값 1개를 캐시한다.
+ * - 승인 대기 건수를 바꾸는 서비스 메서드는 invalidate() 호출 (즉시 + 트랜잭션 종료 후)
+ * - 다른 서버 인스턴스의 변경은 TTL(app.cache.pending-requests.ttl-seconds) 이내 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class PendingRequestCountCache {
+
+    private final CourseEnrollmentRepository enrollmentRepository;
+
+    @Value("${app.cache.pending-requests.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    private record Snapshot(long count, long loadedAtNanos) {}
+
+    private volatile Snapshot snapshot;
+
+    // 조회 중 무효화가 일어났으면 조회 결과를 캐시에 넣지 않기 위한 세대 번호
+    private final AtomicLong invalidationSeq = new AtomicLong();
+
+    public long get() {
+        Snapshot current = snapshot;
+        if (current != null && System.nanoTime() - current.loadedAtNanos() <= ttlSeconds * 1_000_000_000L) {
+            return current.count();
+        }
+
+        long seq = invalidationSeq.get();
+        long count = enrollmentRepository.countByStatus(CourseEnrollment.Status.REQUESTED);
+        if (invalidationSeq.get() == seq) {
+            snapshot = new Snapshot(count, System.nanoTime());
+        }
+        return count;
+    }
+
+    /**
+     * 승인 대기 건수 변경 시 호출
+     */
+    public void invalidate() {
+        evict();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict();
+                }
+            });
+        }
+    }
+
+    private void evict() {
+        invalidationSeq.incrementAndGet();
+        snapshot = null;
+    }
+}
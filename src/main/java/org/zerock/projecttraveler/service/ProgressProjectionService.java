@@ -0,0 +1,39 @@
+package org.zerock.projecttraveler.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.zerock.projecttraveler.dto.CurriculumSnapshot;
+import org.zerock.projecttraveler.dto.ProgressVector;
+import org.zerock.projecttraveler.repository.LessonProgressRepository;
+
+import java.util.Optional;
+
+/**
+ * 레슨 진도 조회 전용 서비스 (화면/DTO 구성용)
+ * LessonProgress 엔티티를 영속성 컨텍스트에 올리지 않고 ProgressVector로 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProgressProjectionService {
+
+    private final CurriculumCache curriculumCache;
+    private final LessonProgressRepository progressRepository;
+
+    /**
+     * 커리큘럼 순서에 맞춘 사용자 진도
+     */
+    public ProgressVector load(Long userId, CurriculumSnapshot curriculum) {
+        ProgressVector progress = new ProgressVector(curriculum);
+        progressRepository.scanProgress(userId, curriculum.courseId(), progress::put);
+        return progress;
+    }
+
+    /**
+     * 강좌 ID로 사용자 진도 조회 (없는 강좌면 empty)
+     */
+    public Optional<ProgressVector> load(Long userId, Long courseId) {
+        return curriculumCache.get(courseId).map(curriculum -> load(userId, curriculum));
+    }
+}
@@ -0,0 +1,81 @@
+package org.zerock.projecttraveler.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.zerock.projecttraveler.dto.QuizAnswerKey;
+import org.zerock.projecttraveler.repository.QuizRepository;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 퀴즈별 정답표 캐시
+ *
+ * 제출마다 퀴즈/문제/선택지를 다시 조회하지 않고, 퀴즈 내용이 바뀔 때까지 같은 불변 정답표로 채점한다.
+ * - AdminQuizController의 퀴즈/문제/선택지 변경은 반드시 evict 호출
+ * - evict 시 퀴즈 버전이 올라가며, 버전이 바뀌는 동안 만든 정답표는 캐시하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QuizAnswerKeyCache {
+
+    private final QuizRepository quizRepository;
+
+    private final ConcurrentHashMap<Long, QuizAnswerKey> keys = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 정답표 조회 (없는 퀴즈면 empty)
+     */
+    public Optional<QuizAnswerKey> get(Long quizId) {
+        QuizAnswerKey cached = keys.get(quizId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long version = currentVersion(quizId);
+        Optional<QuizAnswerKey> loaded = quizRepository.findByIdWithQuestionsAndOptions(quizId)
+                .map(quiz -> QuizAnswerKey.of(quiz, version));
+
+        loaded.ifPresent(key -> {
+            if (currentVersion(quizId) == version) {
+                keys.put(quizId, key);
+                log.debug("퀴즈 정답표 생성: quizId={}, version={}, questions={}",
+                        quizId, version, key.totalQuestions());
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * 퀴즈의 현재 정답표 버전
+     */
+    public long currentVersion(Long quizId) {
+        return versions.getOrDefault(quizId, 0L);
+    }
+
+    /**
+     * 퀴즈 내용 변경 시 호출 (즉시 + 트랜잭션 종료 후 한 번 더 제거)
+     */
+    public void evict(Long quizId) {
+        bump(quizId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bump(quizId);
+                }
+            });
+        }
+    }
+
+    private void bump(Long quizId) {
+        versions.merge(quizId, 1L, Long::sum);
+        keys.remove(quizId);
+    }
+}
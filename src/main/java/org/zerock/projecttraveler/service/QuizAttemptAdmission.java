@@ -0,0 +1,132 @@
+package org.zerock.projecttraveler.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.zerock.projecttraveler.dto.QuizDto;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 퀴즈 제출 입장 제어 (중복 제출로 같은 시도 번호가 두 번 생기지 않게)
+ *
+ * - 서버 내: (userId, quizId) 해시로 고른 스트라이프 락을 잡은 채 제출 트랜잭션을 커밋까지 실행
+ *   → 같은 사용자·퀴즈의 제출만 직렬화되고 다른 제출은 서로 막지 않음
+ * - 서버 간: quiz_attempt (user_id, quiz_id, cycle, attempt_no) 유니크 제약이 최종 판정
+ *   → 제약 위반 시 잠시 물러났다가 새 트랜잭션으로 재시도 (시도 횟수는 다시 계산되어 초과면 거절)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QuizAttemptAdmission {
+
+    // 시도 번호 유니크 제약 (QuizAttempt, V006) - 이 제약 위반만 재시도 대상
+    private static final String ATTEMPT_NO_CONSTRAINT = "uk_attempt_no";
+
+    private final QuizService quizService;
+
+    @Value("${app.quiz.admission.lock-stripes:64}")
+    private int lockStripes;
+
+    @Value("${app.quiz.admission.lock-timeout-ms:5000}")
+    private long lockTimeoutMs;
+
+    @Value("${app.quiz.admission.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${app.quiz.admission.backoff-ms:50}")
+    private long backoffMs;
+
+    private ReentrantLock[] stripes;
+
+    /**
+     * 퀴즈 제출 (QuizService.submitQuiz를 락 + 재시도로 감쌈)
+     * 응시 불가/대기 시간 초과는 IllegalStateException
+     */
+    public QuizDto.SubmitResult submit(Long userId, QuizDto.SubmitRequest request) {
+        ReentrantLock lock = stripeFor(userId, request.getQuizId());
+
+        for (int retry = 0; ; retry++) {
+            acquire(lock);
+            try {
+                return quizService.submitQuiz(userId, request);
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+                // 다른 서버가 같은 시도 번호를 먼저 저장함 (또는 그 과정의 잠금 충돌)
+                // FK/NOT NULL 등 다른 제약 위반은 재시도해도 같으므로 그대로 전파
+                if (e instanceof DataIntegrityViolationException && !isAttemptNoConflict(e)) {
+                    throw e;
+                }
+                if (retry >= maxRetries) {
+                    log.warn("Quiz attempt admission gave up: userId={}, quizId={}, retries={}",
+                            userId, request.getQuizId(), retry);
+                    throw new IllegalStateException("제출이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+                }
+                log.debug("Quiz attempt conflict, retrying: userId={}, quizId={}, retry={}",
+                        userId, request.getQuizId(), retry + 1);
+            } finally {
+                lock.unlock();
+            }
+            backoff(retry);
+        }
+    }
+
+    // 원인 예외의 제약 이름(Hibernate) 또는 드라이버 메시지로 시도 번호 제약 위반인지 판단
+    private static boolean isAttemptNoConflict(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(ATTEMPT_NO_CONSTRAINT);
+            }
+            if (cause instanceof SQLException && cause.getMessage() != null
+                    && cause.getMessage().toLowerCase(Locale.ROOT).contains(ATTEMPT_NO_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void acquire(ReentrantLock lock) {
+        try {
+            if (!lock.tryLock(lockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("이전 제출을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("제출 처리가 중단되었습니다.");
+        }
+    }
+
+    // 지수 백오프 + 지터 (락 밖에서 대기)
+    private void backoff(int retry) {
+        long base = backoffMs << Math.min(retry, 10);
+        long sleep = base + ThreadLocalRandom.current().nextLong(base + 1);
+        try {
+            Thread.sleep(sleep);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("제출 처리가 중단되었습니다.");
+        }
+    }
+
+    @PostConstruct
+    void initStripes() {
+        stripes = new ReentrantLock[Math.max(1, lockStripes)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    private ReentrantLock stripeFor(Long userId, Long quizId) {
+        int hash = 31 * Long.hashCode(userId) + (quizId != null ? Long.hashCode(quizId) : 0);
+        hash ^= (hash >>> 16);
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+}
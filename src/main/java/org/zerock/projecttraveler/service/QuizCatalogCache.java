@@ -0,0 +1,89 @@
+package org.zerock.projecttraveler.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.zerock.projecttraveler.dto.QuizCatalog;
+import org.zerock.projecttraveler.entity.Quiz;
+import org.zerock.projecttraveler.repository.QuizQuestionRepository;
+import org.zerock.projecttraveler.repository.QuizRepository;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 강좌별 퀴즈 목록 캐시
+ *
+ * 강좌 상세 화면마다 퀴즈별로 문제/선택지를 다시 조회하지 않고, 강좌의 퀴즈 내용이 바뀔 때까지
+ * 같은 스냅샷을 공유한다. 캐시가 비어 있을 때도 퀴즈 수와 무관하게 쿼리 2회
+ * (퀴즈 + 문제 fetch join, 문제 + 선택지 fetch join)로 만든다.
+ * - AdminQuizController의 퀴즈/문제/선택지 변경은 반드시 evict 호출
+ * - evict 시 강좌 버전이 올라가며, 버전이 바뀌는 동안 만든 스냅샷은 캐시하지 않음
+ * - 호출 측 트랜잭션 안에서 사용 (두 쿼리가 같은 영속성 컨텍스트를 공유해야 함)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QuizCatalogCache {
+
+    private final QuizRepository quizRepository;
+    private final QuizQuestionRepository questionRepository;
+
+    private final ConcurrentHashMap<Long, QuizCatalog> catalogs = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 강좌의 퀴즈 목록 스냅샷 조회 (퀴즈가 없으면 빈 스냅샷)
+     */
+    public QuizCatalog get(Long courseId) {
+        QuizCatalog cached = catalogs.get(courseId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = currentVersion(courseId);
+        List<Quiz> quizzes = quizRepository.findActiveByCourseIdWithQuestions(courseId);
+        if (!quizzes.isEmpty()) {
+            // 같은 영속성 컨텍스트의 문제 엔티티에 선택지 컬렉션 채움 (MultipleBagFetchException 방지)
+            questionRepository.findActiveByCourseIdWithOptions(courseId);
+        }
+        QuizCatalog loaded = QuizCatalog.of(courseId, quizzes, version);
+
+        if (currentVersion(courseId) == version) {
+            catalogs.put(courseId, loaded);
+            log.debug("퀴즈 목록 스냅샷 생성: courseId={}, version={}, quizzes={}",
+                    courseId, version, loaded.quizzes().size());
+        }
+        return loaded;
+    }
+
+    /**
+     * 강좌의 현재 퀴즈 내용 버전
+     */
+    public long currentVersion(Long courseId) {
+        return versions.getOrDefault(courseId, 0L);
+    }
+
+    /**
+     * 강좌 퀴즈 내용 변경 시 호출 (즉시 + 트랜잭션 종료 후 한 번 더 제거)
+     */
+    public void evict(Long courseId) {
+        bump(courseId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bump(courseId);
+                }
+            });
+        }
+    }
+
+    private void bump(Long courseId) {
+        versions.merge(courseId, 1L, Long::sum);
+        catalogs.remove(courseId);
+    }
+}
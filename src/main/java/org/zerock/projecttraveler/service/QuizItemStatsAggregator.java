@@ -0,0 +1,130 @@
+package org.zerock.projecttraveler.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.zerock.projecttraveler.dto.QuizAnswerKey;
+import org.zerock.projecttraveler.dto.QuizDto;
+import org.zerock.projecttraveler.dto.QuizItemStatDelta;
+import org.zerock.projecttraveler.repository.QuizQuestionStatRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 문제/선택지 응답 집계 버퍼 (write-behind)
+ *
+ * 채점 결과를 quiz_answer 스캔 없이 통계로 보여주기 위해 제출마다 문제별/선택지별 증분을
+ * 메모리에서 더해 두었다가, flush 주기마다 롤업 테이블(quiz_question_stat, quiz_option_stat)에 JDBC 배치로 더한다.
+ * - 증분은 제출 트랜잭션이 커밋된 뒤에만 기록 (롤백된 제출은 세지 않음)
+ * - 통계는 flush 주기(app.quiz.stats.flush-interval-ms) 이내로 최종 일관성을 가진다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QuizItemStatsAggregator {
+
+    private final QuizQuestionStatRepository statRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Long, QuizItemStatDelta.Question> pendingQuestions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, QuizItemStatDelta.Option> pendingOptions = new ConcurrentHashMap<>();
+
+    /**
+     * 채점된 제출 1건 기록 (DB 접근 없음, 트랜잭션 중이면 커밋 후 반영)
+     */
+    public void record(QuizAnswerKey key, List<QuizDto.AnswerResult> results, boolean passed) {
+        if (results.isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(key, results, passed);
+                }
+            });
+        } else {
+            add(key, results, passed);
+        }
+    }
+
+    private void add(QuizAnswerKey key, List<QuizDto.AnswerResult> results, boolean passed) {
+        long p = passed ? 1 : 0;
+        for (QuizDto.AnswerResult result : results) {
+            int index = key.indexOf(result.getQuestionId());
+            if (index < 0) continue;
+
+            long c = Boolean.TRUE.equals(result.getIsCorrect()) ? 1 : 0;
+            pendingQuestions.merge(result.getQuestionId(),
+                    new QuizItemStatDelta.Question(result.getQuestionId(), key.quizId(), 1, c, p, c * p),
+                    QuizItemStatDelta.Question::merge);
+
+            // 해당 문제의 선택지를 고른 경우만 (다른 문제의 선택지 ID는 무시)
+            Long optionId = result.getSelectedOptionId();
+            if (optionId != null && key.questionIndexOfOption(optionId) == index) {
+                pendingOptions.merge(optionId,
+                        new QuizItemStatDelta.Option(optionId, result.getQuestionId(), key.quizId(), 1, p),
+                        QuizItemStatDelta.Option::merge);
+            }
+        }
+    }
+
+    /**
+     * 미반영 증분 수 (문제 + 선택지)
+     */
+    public int pendingCount() {
+        return pendingQuestions.size() + pendingOptions.size();
+    }
+
+    /**
+     * 주기적 flush
+     */
+    @Scheduled(fixedDelayString = "${app.quiz.stats.flush-interval-ms:10000}")
+    public void flush() {
+        if (pendingQuestions.isEmpty() && pendingOptions.isEmpty()) return;
+
+        List<QuizItemStatDelta.Question> questions = drain(pendingQuestions);
+        List<QuizItemStatDelta.Option> options = drain(pendingOptions);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                statRepository.applyQuestionDeltas(questions);
+                statRepository.applyOptionDeltas(options);
+            });
+        } catch (Exception e) {
+            // 실패한 증분은 다음 flush에서 재시도 (그 사이 들어온 증분과 병합)
+            log.warn("퀴즈 통계 flush 실패: 문제 {}건, 선택지 {}건 재시도 예정", questions.size(), options.size(), e);
+            questions.forEach(d -> pendingQuestions.merge(d.questionId(), d, QuizItemStatDelta.Question::merge));
+            options.forEach(d -> pendingOptions.merge(d.optionId(), d, QuizItemStatDelta.Option::merge));
+            return;
+        }
+
+        log.debug("퀴즈 통계 flush: 문제 {}건, 선택지 {}건", questions.size(), options.size());
+    }
+
+    private static <T> List<T> drain(ConcurrentHashMap<Long, T> pending) {
+        List<T> drained = new ArrayList<>(pending.size());
+        for (Long key : pending.keySet()) {
+            T value = pending.remove(key);
+            if (value != null) {
+                drained.add(value);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 종료 시 남은 증분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 퀴즈 통계 flush: {}건", pendingCount());
+        flush();
+    }
+}
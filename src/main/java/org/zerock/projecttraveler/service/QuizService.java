@@ -4,12 +4,19 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.zerock.projecttraveler.dto.EnrollmentAccess;
+import org.zerock.projecttraveler.dto.LessonCounters;
+import org.zerock.projecttraveler.dto.QuizAnswerKey;
+import org.zerock.projecttraveler.dto.QuizAttemptStats;
 import org.zerock.projecttraveler.dto.QuizDto;
 import org.zerock.projecttraveler.entity.*;
+import org.zerock.projecttraveler.event.LearningEvent;
 import org.zerock.projecttraveler.repository.*;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,8 +39,16 @@ public class QuizService {
     private final UserRepository userRepository;
     private final CourseEnrollmentRepository enrollmentRepository;
     private final LessonProgressRepository lessonProgressRepository;
-    private final LessonRepository lessonRepository;
     private final AttendanceService attendanceService;
+    private final HeartbeatAggregator heartbeatAggregator;
+    private final EnrollmentAccessCache enrollmentAccessCache;
+    private final QuizAnswerKeyCache quizAnswerKeyCache;
+    private final QuizCatalogCache quizCatalogCache;
+    private final QuizItemStatsAggregator quizItemStatsAggregator;
+    private final QuizQuestionStatRepository questionStatRepository;
+    private final QuizOptionStatRepository optionStatRepository;
+    private final LearningSummaryService learningSummaryService;
+    private final LearningEventPublisher learningEventPublisher;
 
     /**
      * 강좌의 퀴즈 조회 (문제 포함, 정답 미포함)
@@ -64,27 +79,21 @@ public class QuizService {
 
     /**
      * 재수강 자동 완료 - 레슨을 모두 재수강 완료 시 퀴즈 잠금 자동 해제
-     * RETAKE_REQUIRED 상태이고 모든 레슨 완료 시에만 동작, 그 외 조용히 리턴
+     * RETAKE_REQUIRED 상태이고 모든 레슨 완료 시에만 동작, 그 외 조용히 리턴 (DB 오류는 그대로 전파)
      */
     @Transactional
-    public void tryCompleteRetake(Long userId, Long courseId) {
-        try {
-            CourseEnrollment enrollment = enrollmentRepository
-                    .findByUserIdAndCourseId(userId, courseId)
-                    .orElse(null);
-            if (enrollment == null) return;
-            if (enrollment.getQuizStatus() != CourseEnrollment.QuizStatus.RETAKE_REQUIRED) return;
-
-            int totalLessons = lessonRepository.countByCourseId(courseId);
-            if (totalLessons == 0) return;
-            long completedLessons = lessonProgressRepository.countCompletedByUserIdAndCourseId(userId, courseId);
-            if (completedLessons < totalLessons) return;
-
-            completeRetake(userId, courseId);
-            log.info("재수강 자동 완료: userId={}, courseId={}", userId, courseId);
-        } catch (Exception e) {
-            log.debug("tryCompleteRetake skipped: userId={}, courseId={}, reason={}", userId, courseId, e.getMessage());
-        }
+    public void completeRetakeIfAllLessonsDone(Long userId, Long courseId) {
+        EnrollmentAccess enrollment = enrollmentAccessCache.find(userId, courseId).orElse(null);
+        if (enrollment == null) return;
+        if (enrollment.quizStatus() != CourseEnrollment.QuizStatus.RETAKE_REQUIRED) return;
+
+        boolean allCompleted = enrollmentRepository.findLessonCounters(userId, courseId)
+                .map(LessonCounters::allCompleted)
+                .orElse(false);
+        if (!allCompleted) return;
+
+        completeRetake(userId, courseId);
+        log.info("재수강 자동 완료: userId={}, courseId={}", userId, courseId);
     }
 
     /**
@@ -111,26 +120,13 @@ public class QuizService {
         Quiz quiz = quizRepository.findById(quizId).orElse(null);
         if (quiz == null) return false;
 
-        CourseEnrollment enrollment = enrollmentRepository
-                .findByUserIdAndCourseId(userId, quiz.getCourse().getId())
+        EnrollmentAccess enrollment = enrollmentAccessCache
+                .find(userId, quiz.getCourse().getId())
                 .orElse(null);
-        if (enrollment == null) return false;
-
-        int cycle = enrollment.getQuizCycle();
-
-        // 퀴즈별 상태를 attempt 기록 기반으로 계산
-        CourseEnrollment.QuizStatus perQuizStatus = calcPerQuizStatus(userId, quizId, cycle);
-
-        if (perQuizStatus == CourseEnrollment.QuizStatus.PASSED) {
-            return false;
-        }
-        if (perQuizStatus == CourseEnrollment.QuizStatus.RETAKE_REQUIRED) {
-            return false;
-        }
+        if (enrollment == null || !enrollment.isAccessible()) return false;
 
-        // 현재 사이클에서 시도 횟수 확인
-        int attemptsInCycle = attemptRepository.countByUserIdAndQuizIdAndCycle(userId, quizId, cycle);
-        return attemptsInCycle < MAX_ATTEMPTS_PER_CYCLE;
+        // 퀴즈별 상태를 attempt 기록 기반으로 계산 (집계 쿼리 1회)
+        return canAttempt(findAttemptStats(userId, quizId, enrollment.quizCycle()));
     }
 
     /**
@@ -146,18 +142,25 @@ public class QuizService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        Quiz quiz = quizRepository.findByIdWithQuestionsAndOptions(request.getQuizId())
+        // 정답표 (캐시, 퀴즈 변경 시 무효화)
+        QuizAnswerKey key = quizAnswerKeyCache.get(request.getQuizId())
                 .orElseThrow(() -> new IllegalArgumentException("퀴즈를 찾을 수 없습니다."));
+        Long quizId = key.quizId();
+        Long courseId = key.courseId();
 
         // 수강 정보 조회
         CourseEnrollment enrollment = enrollmentRepository
-                .findByUserIdAndCourseId(userId, quiz.getCourse().getId())
+                .findByUserIdAndCourseId(userId, courseId)
                 .orElseThrow(() -> new IllegalArgumentException("수강 정보를 찾을 수 없습니다."));
+        if (!enrollment.isAccessible()) {
+            throw new IllegalArgumentException("수강 권한이 없습니다.");
+        }
 
         int cycle = enrollment.getQuizCycle();
 
         // 퀴즈별 상태를 attempt 기록 기반으로 계산하여 응시 가능 여부 확인
-        CourseEnrollment.QuizStatus perQuizStatus = calcPerQuizStatus(userId, quiz.getId(), cycle);
+        QuizAttemptStats stats = findAttemptStats(userId, quizId, cycle);
+        CourseEnrollment.QuizStatus perQuizStatus = stats.status();
 
         if (perQuizStatus == CourseEnrollment.QuizStatus.RETAKE_REQUIRED) {
             throw new IllegalStateException("재수강이 필요합니다. 강의를 다시 수강한 후 퀴즈에 응시해주세요.");
@@ -168,77 +171,69 @@ public class QuizService {
         }
 
         // 현재 사이클에서 시도 횟수 확인
-        int attemptsInCycle = attemptRepository.countByUserIdAndQuizIdAndCycle(userId, quiz.getId(), cycle);
+        int attemptsInCycle = (int) stats.attemptsInCycle();
         if (attemptsInCycle >= MAX_ATTEMPTS_PER_CYCLE) {
             throw new IllegalStateException("이 사이클에서 최대 응시 횟수(2회)를 초과했습니다.");
         }
 
         int attemptNo = attemptsInCycle + 1;
 
-        // 정답 맵 생성 (questionId -> correctOptionId)
-        Map<Long, Long> correctAnswers = quiz.getQuestions().stream()
-                .collect(Collectors.toMap(
-                        QuizQuestion::getId,
-                        q -> q.getOptions().stream()
-                                .filter(QuizOption::getIsCorrect)
-                                .findFirst()
-                                .map(QuizOption::getId)
-                                .orElse(-1L)
-                ));
-
-        // Attempt 생성
-        QuizAttempt attempt = QuizAttempt.builder()
-                .user(user)
-                .quiz(quiz)
-                .attemptNo(attemptNo)
-                .cycle(cycle)
-                .totalQuestions(quiz.getTotalQuestions())
-                .startedAt(LocalDateTime.now())
-                .build();
-        attempt = attemptRepository.save(attempt);
-
-        // 답안 채점
+        // 답안 채점 (정답표만으로 메모리에서 처리, 문제/선택지는 참조 프록시)
+        LocalDateTime now = LocalDateTime.now();
         int correctCount = 0;
-        List<QuizDto.AnswerResult> answerResults = new ArrayList<>();
+        List<QuizAnswer> answers = new ArrayList<>(request.getAnswers().size());
+        List<QuizDto.AnswerResult> answerResults = new ArrayList<>(request.getAnswers().size());
 
         for (QuizDto.AnswerSubmit answerSubmit : request.getAnswers()) {
-            QuizQuestion question = questionRepository.findById(answerSubmit.getQuestionId())
-                    .orElse(null);
-            if (question == null) continue;
-
-            Long correctOptionId = correctAnswers.get(answerSubmit.getQuestionId());
-            boolean isCorrect = correctOptionId != null &&
-                    correctOptionId.equals(answerSubmit.getSelectedOptionId());
+            int index = answerSubmit.getQuestionId() != null ? key.indexOf(answerSubmit.getQuestionId()) : -1;
+            if (index < 0) continue;
 
+            Long selectedOptionId = answerSubmit.getSelectedOptionId();
+            boolean isCorrect = key.isCorrect(index, selectedOptionId);
             if (isCorrect) correctCount++;
 
-            // Answer 저장
-            QuizAnswer answer = QuizAnswer.builder()
-                    .attempt(attempt)
-                    .question(question)
-                    .selectedOption(answerSubmit.getSelectedOptionId() != null ?
-                            optionRepository.findById(answerSubmit.getSelectedOptionId()).orElse(null) : null)
+            answers.add(QuizAnswer.builder()
+                    .question(questionRepository.getReferenceById(answerSubmit.getQuestionId()))
+                    .selectedOption(selectedOptionId != null && key.hasOption(selectedOptionId) ?
+                            optionRepository.getReferenceById(selectedOptionId) : null)
                     .textAnswer(answerSubmit.getTextAnswer())
                     .isCorrect(isCorrect)
-                    .build();
-            answerRepository.save(answer);
+                    .answeredAt(now)
+                    .build());
 
             answerResults.add(QuizDto.AnswerResult.builder()
                     .questionId(answerSubmit.getQuestionId())
                     .isCorrect(isCorrect)
-                    .correctOptionId(correctOptionId)
-                    .selectedOptionId(answerSubmit.getSelectedOptionId())
+                    .correctOptionId(key.correctOptionId(index))
+                    .selectedOptionId(selectedOptionId)
                     .build());
         }
 
-        // 점수 계산
-        attempt.setCorrectCount(correctCount);
+        // Attempt 생성 (채점 결과까지 포함해 INSERT 1회, 이후 UPDATE 없음)
+        QuizAttempt attempt = QuizAttempt.builder()
+                .user(user)
+                .quiz(quizRepository.getReferenceById(quizId))
+                .attemptNo(attemptNo)
+                .cycle(cycle)
+                .totalQuestions(key.totalQuestions())
+                .correctCount(correctCount)
+                .startedAt(now)
+                .completedAt(now)
+                .build();
         attempt.calculateScore();
         int scorePercent = attempt.getScorePercent();
         boolean passed = scorePercent >= PASSING_SCORE;
         attempt.setPassed(passed);
-        attempt.setCompletedAt(LocalDateTime.now());
-        attemptRepository.save(attempt);
+        attempt = attemptRepository.save(attempt);
+
+        // Answer 저장 (pooled ID → flush 시 JDBC 배치, hibernate.jdbc.batch_size)
+        for (QuizAnswer answer : answers) {
+            answer.setAttempt(attempt);
+        }
+        answerRepository.saveAll(answers);
+
+        // 문제/선택지 응답 통계 증분 (커밋 후 버퍼에 더하고 주기적으로 롤업 테이블 반영)
+        quizItemStatsAggregator.record(key, answerResults, passed);
 
         // 상태 결정 및 업데이트
         QuizDto.ResultStatus resultStatus;
@@ -247,14 +242,15 @@ public class QuizService {
         if (passed) {
             // 합격 - enrollment.quizStatus는 저장하지 않음 (퀴즈별 상태는 attempt 기록으로 계산)
             resultStatus = QuizDto.ResultStatus.PASS;
+            learningEventPublisher.publish(new LearningEvent.QuizPassed(userId, courseId, quizId));
             log.info("Quiz PASSED: userId={}, quizId={}, score={}%, attemptNo={}, cycle={}",
-                    userId, quiz.getId(), scorePercent, attemptNo, cycle);
+                    userId, quizId, scorePercent, attemptNo, cycle);
         } else if (attemptNo == 1) {
             // 1차 실패 -> 2차 응시 가능, 정답/해설 공개
             resultStatus = QuizDto.ResultStatus.RETRY_ALLOWED;
             showReview = true;
             log.info("Quiz 1st attempt FAILED: userId={}, quizId={}, score={}%. Retry allowed.",
-                    userId, quiz.getId(), scorePercent);
+                    userId, quizId, scorePercent);
         } else {
             // 2차 실패 -> 재수강 필요, 레슨 진도 초기화
             resultStatus = QuizDto.ResultStatus.RETAKE_REQUIRED;
@@ -263,11 +259,15 @@ public class QuizService {
             // enrollment 상태도 RETAKE_REQUIRED로 동기화
             enrollment.setQuizStatus(CourseEnrollment.QuizStatus.RETAKE_REQUIRED);
             enrollmentRepository.save(enrollment);
+            enrollmentAccessCache.invalidate(userId, courseId);
 
-            // 레슨 진도를 0%로 초기화
-            int resetCount = lessonProgressRepository.resetProgressByUserIdAndCourseId(userId, quiz.getCourse().getId());
+            // 레슨 진도를 0%로 초기화 (미반영 heartbeat도 폐기)
+            heartbeatAggregator.discard(userId, courseId);
+            int resetCount = lessonProgressRepository.resetProgressByUserIdAndCourseId(userId, courseId);
+            enrollmentRepository.resetCompletedLessons(userId, courseId);
+            learningSummaryService.onProgressReset(userId);
             log.info("Quiz 2nd attempt FAILED: userId={}, quizId={}, score={}%. Retake required. Reset {} lesson progress records.",
-                    userId, quiz.getId(), scorePercent, resetCount);
+                    userId, quizId, scorePercent, resetCount);
         }
 
         // 출석 처리 (퀴즈 제출 시 출석으로 인정)
@@ -295,12 +295,12 @@ public class QuizService {
         Quiz quiz = quizRepository.findByIdWithQuestionsAndOptions(quizId).orElse(null);
         if (quiz == null) return Optional.empty();
 
-        CourseEnrollment enrollment = enrollmentRepository
-                .findByUserIdAndCourseId(userId, quiz.getCourse().getId())
+        EnrollmentAccess enrollment = enrollmentAccessCache
+                .find(userId, quiz.getCourse().getId())
                 .orElse(null);
         if (enrollment == null) return Optional.empty();
 
-        int currentCycle = enrollment.getQuizCycle();
+        int currentCycle = enrollment.quizCycle();
 
         // 해당 시도 조회
         QuizAttempt attempt = attemptRepository
@@ -368,8 +368,7 @@ public class QuizService {
         int cycle = enrollment.getQuizCycle();
 
         // attempt 기록 기반으로 재수강 필요 여부 확인 (퀴즈별 상태 계산)
-        boolean retakeRequired = quizRepository.findByCourseIdAndActiveTrueOrderByIdAsc(courseId).stream()
-                .anyMatch(quiz -> calcPerQuizStatus(userId, quiz.getId(), cycle) == CourseEnrollment.QuizStatus.RETAKE_REQUIRED);
+        boolean retakeRequired = isRetakeRequired(userId, courseId, cycle);
 
         if (!retakeRequired) {
             throw new IllegalStateException("재수강이 필요한 상태가 아닙니다.");
@@ -378,6 +377,7 @@ public class QuizService {
         // enrollment 상태도 동기화
         enrollment.setQuizStatus(CourseEnrollment.QuizStatus.RETAKE_REQUIRED);
         enrollmentRepository.save(enrollment);
+        enrollmentAccessCache.invalidate(userId, courseId);
 
         log.info("Retake started: userId={}, courseId={}", userId, courseId);
         return true;
@@ -401,8 +401,7 @@ public class QuizService {
 
         // attempt 기록 기반으로 재수강 필요 여부 확인
         boolean retakeRequired = enrollment.getQuizStatus() == CourseEnrollment.QuizStatus.RETAKE_REQUIRED
-                || quizRepository.findByCourseIdAndActiveTrueOrderByIdAsc(courseId).stream()
-                .anyMatch(quiz -> calcPerQuizStatus(userId, quiz.getId(), cycle) == CourseEnrollment.QuizStatus.RETAKE_REQUIRED);
+                || isRetakeRequired(userId, courseId, cycle);
 
         if (!retakeRequired) {
             throw new IllegalStateException("재수강이 필요한 상태가 아닙니다.");
@@ -413,6 +412,7 @@ public class QuizService {
         enrollment.setQuizCycle(newCycle);
         enrollment.setQuizStatus(CourseEnrollment.QuizStatus.IN_PROGRESS);
         enrollmentRepository.save(enrollment);
+        enrollmentAccessCache.invalidate(userId, courseId);
 
         log.info("Retake completed: userId={}, courseId={}, newCycle={}", userId, courseId, newCycle);
         return true;
@@ -442,45 +442,59 @@ public class QuizService {
     }
 
     /**
-     * 특정 퀴즈의 상태를 attempt 기록 기반으로 계산
+     * 강좌의 전체 활성 퀴즈 상태 조회 - 퀴즈 목록 1회 + 시도 집계 1회 (퀴즈 수와 무관)
      */
-    private QuizDto.QuizStatus buildQuizStatusForQuiz(Long userId, Long courseId, Quiz quiz) {
-        CourseEnrollment enrollment = enrollmentRepository
-                .findByUserIdAndCourseId(userId, courseId)
-                .orElse(null);
+    public List<QuizDto.QuizStatus> getQuizStatusesForCourse(Long userId, Long courseId) {
+        List<Quiz> quizzes = quizRepository.findByCourseIdAndActiveTrueOrderByIdAsc(courseId);
+        if (quizzes.isEmpty()) return List.of();
 
-        int currentCycle = enrollment != null ? enrollment.getQuizCycle() : 1;
+        int currentCycle = currentCycle(userId, courseId);
+        boolean accessible = enrollmentAccessCache.isAccessible(userId, courseId);
+        Map<Long, QuizAttemptStats> statsByQuiz = findAttemptStatsByCourse(userId, courseId, currentCycle);
 
-        // 퀴즈별 상태를 attempt 기록으로 계산
-        CourseEnrollment.QuizStatus quizStatus = calcPerQuizStatus(userId, quiz.getId(), currentCycle);
-
-        Integer bestScore = attemptRepository.findBestScoreByUserIdAndQuizId(userId, quiz.getId())
-                .orElse(null);
-        boolean hasPassed = attemptRepository.existsByUserIdAndQuizIdAndPassedTrue(userId, quiz.getId());
-        int attemptCount = attemptRepository.countByUserIdAndQuizId(userId, quiz.getId());
-        int attemptsInCycle = attemptRepository.countByUserIdAndQuizIdAndCycle(userId, quiz.getId(), currentCycle);
+        return quizzes.stream()
+                .map(quiz -> buildQuizStatus(quiz, currentCycle, accessible,
+                        statsByQuiz.getOrDefault(quiz.getId(), QuizAttemptStats.empty(quiz.getId()))))
+                .toList();
+    }
 
-        boolean canAttempt = quizStatus != CourseEnrollment.QuizStatus.RETAKE_REQUIRED
-                && quizStatus != CourseEnrollment.QuizStatus.PASSED
-                && attemptsInCycle < MAX_ATTEMPTS_PER_CYCLE;
+    /**
+     * 특정 퀴즈의 상태를 attempt 기록 기반으로 계산
+     */
+    private QuizDto.QuizStatus buildQuizStatusForQuiz(Long userId, Long courseId, Quiz quiz) {
+        int currentCycle = currentCycle(userId, courseId);
+        boolean accessible = enrollmentAccessCache.isAccessible(userId, courseId);
+        return buildQuizStatus(quiz, currentCycle, accessible, findAttemptStats(userId, quiz.getId(), currentCycle));
+    }
 
-        String message = getStatusMessage(quizStatus, attemptsInCycle);
+    /**
+     * @param accessible 수강 권한 여부 (미신청/미승인이면 응시 불가로 표시, 제출 시 검사와 동일)
+     */
+    private QuizDto.QuizStatus buildQuizStatus(Quiz quiz, int currentCycle, boolean accessible, QuizAttemptStats stats) {
+        CourseEnrollment.QuizStatus quizStatus = stats.status();
+        int attemptsInCycle = (int) stats.attemptsInCycle();
 
         return QuizDto.QuizStatus.builder()
                 .quizId(quiz.getId())
                 .title(quiz.getTitle())
                 .passingScore(PASSING_SCORE)
-                .bestScore(bestScore)
-                .hasPassed(hasPassed)
-                .attemptCount(attemptCount)
+                .bestScore(stats.bestScore())
+                .hasPassed(stats.hasPassed())
+                .attemptCount((int) stats.attemptCount())
                 .currentCycle(currentCycle)
                 .attemptsInCycle(attemptsInCycle)
                 .quizStatusCode(quizStatus.name())
-                .canAttempt(canAttempt)
-                .message(message)
+                .canAttempt(accessible && canAttempt(stats))
+                .message(accessible ? getStatusMessage(quizStatus, attemptsInCycle) : "수강 승인 후 퀴즈에 응시할 수 있습니다.")
                 .build();
     }
 
+    private int currentCycle(Long userId, Long courseId) {
+        return enrollmentAccessCache.find(userId, courseId)
+                .map(EnrollmentAccess::quizCycle)
+                .orElse(1);
+    }
+
     private String getStatusMessage(CourseEnrollment.QuizStatus status, int attemptsInCycle) {
         return switch (status) {
             case NOT_STARTED, IN_PROGRESS -> "퀴즈에 응시할 수 있습니다. (1차 시험)";
@@ -490,6 +504,56 @@ public class QuizService {
         };
     }
 
+    /**
+     * 퀴즈 문제별 응답 통계 (questionId → 통계, 응답이 없는 문제는 제외)
+     * 롤업 테이블만 조회하므로 응시 건수와 무관 (flush 주기만큼 지연될 수 있음)
+     */
+    public Map<Long, QuizDto.QuestionAnalysis> getItemAnalysis(Long quizId) {
+        Map<Long, Map<Long, QuizDto.OptionAnalysis>> optionsByQuestion = new HashMap<>();
+        Map<Long, Long> answeredByQuestion = new HashMap<>();
+
+        List<QuizQuestionStat> questionStats = questionStatRepository.findByQuizId(quizId);
+        for (QuizQuestionStat stat : questionStats) {
+            answeredByQuestion.put(stat.getQuestionId(), stat.getAnsweredCount());
+        }
+        for (QuizOptionStat stat : optionStatRepository.findByQuizId(quizId)) {
+            long answered = answeredByQuestion.getOrDefault(stat.getQuestionId(), 0L);
+            optionsByQuestion.computeIfAbsent(stat.getQuestionId(), k -> new HashMap<>())
+                    .put(stat.getOptionId(), QuizDto.OptionAnalysis.builder()
+                            .optionId(stat.getOptionId())
+                            .selectedCount(stat.getSelectedCount())
+                            .selectedRate(percent(stat.getSelectedCount(), answered))
+                            .build());
+        }
+
+        Map<Long, QuizDto.QuestionAnalysis> result = new HashMap<>();
+        for (QuizQuestionStat stat : questionStats) {
+            long answered = stat.getAnsweredCount();
+            long passedAnswered = stat.getPassedAnsweredCount();
+            long failedAnswered = answered - passedAnswered;
+
+            Double discrimination = null;
+            if (passedAnswered > 0 && failedAnswered > 0) {
+                double passedRate = (double) stat.getPassedCorrectCount() / passedAnswered;
+                double failedRate = (double) (stat.getCorrectCount() - stat.getPassedCorrectCount()) / failedAnswered;
+                discrimination = Math.round((passedRate - failedRate) * 100) / 100.0;
+            }
+
+            result.put(stat.getQuestionId(), QuizDto.QuestionAnalysis.builder()
+                    .questionId(stat.getQuestionId())
+                    .answeredCount(answered)
+                    .correctRate(percent(stat.getCorrectCount(), answered))
+                    .discrimination(discrimination)
+                    .options(optionsByQuestion.getOrDefault(stat.getQuestionId(), Map.of()))
+                    .build());
+        }
+        return result;
+    }
+
+    private static int percent(long count, long total) {
+        return total > 0 ? (int) Math.round(count * 100.0 / total) : 0;
+    }
+
     /**
      * 사용자의 퀴즈 시도 기록
      */
@@ -507,38 +571,57 @@ public class QuizService {
     }
 
     /**
-     * 코스의 전체 활성 퀴즈 리스트 조회
+     * 코스의 전체 활성 퀴즈 리스트 조회 (QuizCatalogCache, 퀴즈 수와 무관하게 캐시 미스 시 쿼리 2회)
      */
     public List<QuizDto.QuizInfo> getQuizzesForCourse(Long courseId) {
-        return quizRepository.findByCourseIdAndActiveTrueOrderByIdAsc(courseId).stream()
-                .map(q -> quizRepository.findByIdWithQuestionsAndOptions(q.getId()).orElse(q))
-                .map(full -> QuizDto.QuizInfo.from(full, false))
-                .toList();
+        return quizCatalogCache.get(courseId).quizzes();
     }
 
     /**
-     * 레슨의 전체 활성 퀴즈 리스트 조회
+     * 레슨의 전체 활성 퀴즈 리스트 조회 (레슨의 강좌 조회 1회 + 강좌 퀴즈 목록 캐시)
      */
     public List<QuizDto.QuizInfo> getQuizzesForLesson(Long lessonId) {
-        return quizRepository.findByLessonIdAndActiveTrueOrderByIdAsc(lessonId).stream()
-                .map(q -> quizRepository.findByIdWithQuestionsAndOptions(q.getId()).orElse(q))
-                .map(full -> QuizDto.QuizInfo.from(full, false))
+        List<Long> courseIds = quizRepository.findActiveCourseIdsByLessonId(lessonId);
+        if (courseIds.size() == 1) {
+            return quizCatalogCache.get(courseIds.get(0)).forLesson(lessonId);
+        }
+        return courseIds.stream()
+                .flatMap(courseId -> quizCatalogCache.get(courseId).forLesson(lessonId).stream())
+                .sorted(Comparator.comparing(QuizDto.QuizInfo::getId))
                 .toList();
     }
 
     /**
-     * 퀴즈별 상태를 QuizAttempt 기록 기반으로 계산 (enrollment.quizStatus 대신 사용)
+     * 퀴즈별 시도 집계 (enrollment.quizStatus 대신 QuizAttempt 기록 기반으로 상태 계산)
      */
-    private CourseEnrollment.QuizStatus calcPerQuizStatus(Long userId, Long quizId, int cycle) {
-        boolean passedInCycle =
-                attemptRepository.existsByUserIdAndQuizIdAndCycleAndPassedTrue(userId, quizId, cycle);
-        if (passedInCycle) return CourseEnrollment.QuizStatus.PASSED;
+    private QuizAttemptStats findAttemptStats(Long userId, Long quizId, int cycle) {
+        return attemptRepository.findStatsByUserIdAndQuizId(userId, quizId, cycle)
+                .orElseGet(() -> QuizAttemptStats.empty(quizId));
+    }
 
-        int attemptsInCycle =
-                attemptRepository.countByUserIdAndQuizIdAndCycle(userId, quizId, cycle);
+    /**
+     * 강좌 퀴즈별 시도 집계 (quizId → 집계, 시도 기록 없는 퀴즈는 제외)
+     */
+    private Map<Long, QuizAttemptStats> findAttemptStatsByCourse(Long userId, Long courseId, int cycle) {
+        return attemptRepository.findStatsByUserIdAndCourseId(userId, courseId, cycle).stream()
+                .collect(Collectors.toMap(QuizAttemptStats::quizId, stats -> stats));
+    }
 
-        if (attemptsInCycle == 0) return CourseEnrollment.QuizStatus.IN_PROGRESS;
-        if (attemptsInCycle == 1) return CourseEnrollment.QuizStatus.RETRY_ALLOWED;
-        return CourseEnrollment.QuizStatus.RETAKE_REQUIRED;
+    private boolean canAttempt(QuizAttemptStats stats) {
+        CourseEnrollment.QuizStatus status = stats.status();
+        return status != CourseEnrollment.QuizStatus.RETAKE_REQUIRED
+                && status != CourseEnrollment.QuizStatus.PASSED
+                && stats.attemptsInCycle() < MAX_ATTEMPTS_PER_CYCLE;
+    }
+
+    /**
+     * 강좌의 활성 퀴즈 중 하나라도 RETAKE_REQUIRED인지 (비활성 퀴즈의 시도 기록은 무시)
+     */
+    private boolean isRetakeRequired(Long userId, Long courseId, int cycle) {
+        Map<Long, QuizAttemptStats> statsByQuiz = findAttemptStatsByCourse(userId, courseId, cycle);
+        if (statsByQuiz.isEmpty()) return false;
+        return quizRepository.findByCourseIdAndActiveTrueOrderByIdAsc(courseId).stream()
+                .map(quiz -> statsByQuiz.get(quiz.getId()))
+                .anyMatch(stats -> stats != null && stats.status() == CourseEnrollment.QuizStatus.RETAKE_REQUIRED);
     }
 }
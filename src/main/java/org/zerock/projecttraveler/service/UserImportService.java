@@ -0,0 +1,498 @@
+package org.zerock.projecttraveler.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.zerock.projecttraveler.dto.BulkAssignDto;
+import org.zerock.projecttraveler.dto.UserImportDto;
+import org.zerock.projecttraveler.entity.User;
+import org.zerock.projecttraveler.repository.CourseRepository;
+import org.zerock.projecttraveler.repository.UserRepository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 일괄 등록 (인사 시스템 CSV)
+ *
+ * 업로드 파일을 임시 파일로 옮긴 뒤 전용 스레드에서 한 행씩 읽어 청크(app.user-import.chunk-size) 단위로 처리한다.
+ * 메모리에는 현재 청크와 보고용 문제 행(최대 app.user-import.max-reported-problems건)만 남으므로
+ * 파일 크기와 무관하게 사용량이 일정하다.
+ * - 청크당 아이디 중복 조회 1회 (이전 청크에서 만든 아이디도 여기서 걸러짐)
+ * - 비밀번호 BCrypt 해시는 크기가 제한된 전용 스레드 풀에서 병렬 계산
+ * - 사용자 행은 청크마다 JDBC 배치 INSERT 1회로 커밋
+ * - 강좌를 지정하면 청크마다 새 사용자를 BulkAssignmentService로 배정
+ * CSV 첫 행은 헤더이며 username, password 열은 필수, email, fullName(full_name, name) 열은 선택이다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserImportService {
+
+    private static final int USERNAME_MAX_LENGTH = 50;
+    private static final int EMAIL_MAX_LENGTH = 100;
+    private static final int FULL_NAME_MAX_LENGTH = 100;
+    // BCrypt 입력 한도 (초과 시 인코더가 예외 → 작업 전체 실패가 되지 않도록 행 단위로 거름)
+    private static final int PASSWORD_MAX_BYTES = 72;
+
+    private final UserRepository userRepository;
+    private final CourseRepository courseRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final BulkAssignmentService bulkAssignmentService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.user-import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.user-import.hash-threads:0}")
+    private int hashThreads;
+
+    @Value("${app.user-import.max-concurrent-jobs:1}")
+    private int maxConcurrentJobs;
+
+    @Value("${app.user-import.max-reported-problems:1000}")
+    private int maxReportedProblems;
+
+    @Value("${app.user-import.job-retention-minutes:60}")
+    private long jobRetentionMinutes;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor jobExecutor;
+    private ThreadPoolExecutor hashExecutor;
+
+    @PostConstruct
+    void init() {
+        jobExecutor = newExecutor("user-import-", maxConcurrentJobs, maxConcurrentJobs, new ThreadPoolExecutor.AbortPolicy());
+
+        // 청크 1개 분량만 대기 (해시 작업이 밀리면 제출한 스레드가 직접 계산)
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        hashExecutor = newExecutor("password-hash-", threads, Math.max(1, chunkSize), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobExecutor.shutdownNow();
+        hashExecutor.shutdownNow();
+    }
+
+    /**
+     * 일괄 등록 시작 (파일은 임시 파일로 옮긴 뒤 백그라운드에서 처리)
+     * @param courseId 등록한 사용자에게 배정할 강좌 (선택)
+     */
+    public UserImportDto.JobStatus start(Long adminId, MultipartFile file, Long courseId, String note) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("CSV 파일을 선택해주세요.");
+        }
+        if (courseId != null && !courseRepository.existsById(courseId)) {
+            throw new IllegalArgumentException("강좌를 찾을 수 없습니다.");
+        }
+
+        Path temp = Files.createTempFile("user-import-", ".csv");
+        file.transferTo(temp);
+
+        purgeFinishedJobs();
+        Job job = new Job(UUID.randomUUID().toString(), file.getOriginalFilename(), adminId, courseId, note);
+        jobs.put(job.id, job);
+        try {
+            jobExecutor.execute(() -> run(job, temp));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            Files.deleteIfExists(temp);
+            throw new IllegalStateException("진행 중인 사용자 등록 작업이 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+        log.info("사용자 일괄 등록 시작: jobId={}, adminId={}, file={}, bytes={}, courseId={}",
+                job.id, adminId, job.fileName, file.getSize(), courseId);
+        return job.toStatus();
+    }
+
+    /**
+     * 작업 진행 상황 조회
+     */
+    public Optional<UserImportDto.JobStatus> findJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::toStatus);
+    }
+
+    private void run(Job job, Path file) {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            CsvReader csv = new CsvReader(reader);
+            Columns columns = Columns.of(csv.next());
+
+            List<Row> chunk = new ArrayList<>(chunkSize);
+            List<String> record;
+            while ((record = csv.next()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) continue;
+                chunk.add(columns.row(csv.recordLine(), record));
+                if (chunk.size() >= chunkSize) {
+                    importChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(job, chunk);
+            }
+
+            job.finish(UserImportDto.State.DONE, null);
+            log.info("사용자 일괄 등록 완료: jobId={}, rows={}, created={}, duplicates={}, invalid={}, assigned={}",
+                    job.id, job.processedRows.get(), job.created.get(), job.duplicates.get(),
+                    job.invalid.get(), job.assigned.get());
+        } catch (Exception e) {
+            job.finish(UserImportDto.State.FAILED, e.getMessage());
+            log.error("사용자 일괄 등록 실패: jobId={}, processedRows={}", job.id, job.processedRows.get(), e);
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("사용자 등록 임시 파일 삭제 실패: {}", file, e);
+            }
+        }
+    }
+
+    private void importChunk(Job job, List<Row> rows) {
+        // 형식 검사 + 청크 안 중복 제거 (아이디 비교는 DB 콜레이션처럼 대소문자 무시)
+        Map<String, Row> candidates = new LinkedHashMap<>();
+        for (Row row : rows) {
+            String reason = row.invalidReason();
+            if (reason != null) {
+                job.problem(row, UserImportDto.Problem.INVALID, reason);
+            } else if (candidates.putIfAbsent(usernameKey(row.username), row) != null) {
+                job.problem(row, UserImportDto.Problem.DUPLICATE, "파일 안에서 중복된 아이디");
+            }
+        }
+
+        List<Row> accepted = withoutExisting(job, candidates);
+        List<User> users = hashPasswords(accepted);
+        try {
+            transactionTemplate.executeWithoutResult(status -> userRepository.insertAll(users));
+        } catch (DataIntegrityViolationException e) {
+            // 조회 직후 다른 요청이 같은 아이디를 만듦 → 한 번 더 걸러서 재시도
+            Set<String> taken = usernameKeys(userRepository.findExistingUsernames(
+                    users.stream().map(User::getUsername).toList()));
+            for (Row row : accepted) {
+                if (taken.contains(usernameKey(row.username))) {
+                    job.problem(row, UserImportDto.Problem.DUPLICATE, "이미 사용 중인 아이디");
+                }
+            }
+            users.removeIf(user -> taken.contains(usernameKey(user.getUsername())));
+            transactionTemplate.executeWithoutResult(status -> userRepository.insertAll(users));
+        }
+        job.created.addAndGet(users.size());
+
+        if (job.courseId != null && !users.isEmpty()) {
+            List<Long> userIds = userRepository.findIdsByUsernames(users.stream().map(User::getUsername).toList());
+            BulkAssignDto.JobStatus assigned = bulkAssignmentService.assignNow(job.adminId, userIds, job.courseId, job.note);
+            if (assigned.getState() != BulkAssignDto.State.DONE) {
+                throw new IllegalStateException("강좌 배정 실패: " + assigned.getError());
+            }
+            job.assigned.addAndGet(assigned.getChangedCount());
+        }
+
+        job.processedRows.addAndGet(rows.size());
+        log.debug("사용자 일괄 등록 진행: jobId={}, rows={}, created={}", job.id, job.processedRows.get(), job.created.get());
+    }
+
+    private List<Row> withoutExisting(Job job, Map<String, Row> candidates) {
+        if (candidates.isEmpty()) return new ArrayList<>();
+
+        Set<String> existing = usernameKeys(userRepository.findExistingUsernames(
+                candidates.values().stream().map(row -> row.username).toList()));
+        List<Row> accepted = new ArrayList<>(candidates.size());
+        for (Row row : candidates.values()) {
+            if (existing.contains(usernameKey(row.username))) {
+                job.problem(row, UserImportDto.Problem.DUPLICATE, "이미 사용 중인 아이디");
+            } else {
+                accepted.add(row);
+            }
+        }
+        return accepted;
+    }
+
+    private List<User> hashPasswords(List<Row> rows) {
+        List<Callable<String>> tasks = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            tasks.add(() -> passwordEncoder.encode(row.password));
+        }
+
+        List<User> users = new ArrayList<>(rows.size());
+        try {
+            List<Future<String>> hashes = hashExecutor.invokeAll(tasks);
+            for (int i = 0; i < rows.size(); i++) {
+                Row row = rows.get(i);
+                users.add(User.builder()
+                        .username(row.username)
+                        .password(hashes.get(i).get())
+                        .email(row.email)
+                        .fullName(row.fullName != null ? row.fullName : row.username)
+                        .role(User.Role.USER)
+                        .enabled(true)
+                        .build());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("사용자 등록이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 암호화 실패", e.getCause());
+        }
+        return users;
+    }
+
+    private static String usernameKey(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> usernameKeys(Collection<String> usernames) {
+        Set<String> keys = new HashSet<>(usernames.size());
+        for (String username : usernames) {
+            keys.add(usernameKey(username));
+        }
+        return keys;
+    }
+
+    private void purgeFinishedJobs() {
+        LocalDateTime before = LocalDateTime.now().minus(Duration.ofMinutes(jobRetentionMinutes));
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(before));
+    }
+
+    private static ThreadPoolExecutor newExecutor(String namePrefix, int threads, int queueCapacity,
+                                                  RejectedExecutionHandler rejectionPolicy) {
+        AtomicInteger seq = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, namePrefix + seq.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                rejectionPolicy);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * CSV 한 행
+     */
+    private static final class Row {
+
+        private final long line;
+        private final String username;
+        private final String password;
+        private final String email;
+        private final String fullName;
+
+        private Row(long line, String username, String password, String email, String fullName) {
+            this.line = line;
+            this.username = username;
+            this.password = password;
+            this.email = email;
+            this.fullName = fullName;
+        }
+
+        private String invalidReason() {
+            if (username == null) return "아이디 누락";
+            if (username.length() > USERNAME_MAX_LENGTH) return "아이디는 " + USERNAME_MAX_LENGTH + "자 이하";
+            if (password == null) return "비밀번호 누락";
+            if (password.getBytes(StandardCharsets.UTF_8).length > PASSWORD_MAX_BYTES) {
+                return "비밀번호는 " + PASSWORD_MAX_BYTES + "바이트(UTF-8) 이하";
+            }
+            if (email != null && email.length() > EMAIL_MAX_LENGTH) return "이메일은 " + EMAIL_MAX_LENGTH + "자 이하";
+            if (fullName != null && fullName.length() > FULL_NAME_MAX_LENGTH) return "이름은 " + FULL_NAME_MAX_LENGTH + "자 이하";
+            return null;
+        }
+    }
+
+    /**
+     * 헤더 기준 열 위치
+     */
+    private record Columns(int username, int password, int email, int fullName) {
+
+        static Columns of(List<String> header) {
+            if (header == null) {
+                throw new IllegalArgumentException("빈 파일입니다.");
+            }
+            Map<String, Integer> index = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i).trim().toLowerCase(Locale.ROOT).replace("_", "");
+                if (i == 0 && name.startsWith("\uFEFF")) name = name.substring(1);
+                index.putIfAbsent(name, i);
+            }
+            if (!index.containsKey("username") || !index.containsKey("password")) {
+                throw new IllegalArgumentException("필수 열(username, password)이 없습니다.");
+            }
+            return new Columns(index.get("username"), index.get("password"),
+                    index.getOrDefault("email", -1),
+                    index.getOrDefault("fullname", index.getOrDefault("name", -1)));
+        }
+
+        Row row(long line, List<String> record) {
+            return new Row(line, value(record, username), value(record, password),
+                    value(record, email), value(record, fullName));
+        }
+
+        private static String value(List<String> record, int index) {
+            if (index < 0 || index >= record.size()) return null;
+            String value = record.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+    }
+
+    /**
+     * 스트리밍 CSV 읽기 (RFC 4180: 큰따옴표 필드 안의 쉼표/줄바꿈/"" 허용)
+     */
+    static final class CsvReader {
+
+        private final Reader reader;
+        private long line = 1;
+        private long recordLine;
+        private int pushedBack = -1;
+
+        CsvReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * 마지막으로 읽은 행의 시작 줄 번호
+         */
+        long recordLine() {
+            return recordLine;
+        }
+
+        /**
+         * 다음 행 (파일 끝이면 null)
+         */
+        List<String> next() throws IOException {
+            int c = read();
+            if (c == -1) return null;
+
+            recordLine = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException(recordLine + "행: 닫히지 않은 큰따옴표");
+                    }
+                    if (c == '"') {
+                        int following = read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            c = following;
+                            continue;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r') {
+                        int following = read();
+                        if (following != '\n') pushedBack = following;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+        }
+
+        private int read() throws IOException {
+            int c;
+            if (pushedBack != -1) {
+                c = pushedBack;
+                pushedBack = -1;
+            } else {
+                c = reader.read();
+            }
+            if (c == '\n') line++;
+            return c;
+        }
+    }
+
+    /**
+     * 진행 중인 등록 작업 (작업 스레드가 갱신, 조회 스레드가 스냅샷으로 읽음)
+     */
+    private final class Job {
+
+        private final String id;
+        private final String fileName;
+        private final Long adminId;
+        private final Long courseId;
+        private final String note;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong processedRows = new AtomicLong();
+        private final AtomicLong created = new AtomicLong();
+        private final AtomicLong duplicates = new AtomicLong();
+        private final AtomicLong invalid = new AtomicLong();
+        private final AtomicLong assigned = new AtomicLong();
+        private final List<UserImportDto.RowProblem> problems = new ArrayList<>();
+        private volatile UserImportDto.State state = UserImportDto.State.RUNNING;
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        private Job(String id, String fileName, Long adminId, Long courseId, String note) {
+            this.id = id;
+            this.fileName = fileName;
+            this.adminId = adminId;
+            this.courseId = courseId;
+            this.note = note;
+        }
+
+        private void problem(Row row, UserImportDto.Problem problem, String reason) {
+            (problem == UserImportDto.Problem.INVALID ? invalid : duplicates).incrementAndGet();
+            synchronized (this) {
+                if (problems.size() < maxReportedProblems) {
+                    problems.add(new UserImportDto.RowProblem(row.line, row.username, problem, reason));
+                }
+            }
+        }
+
+        private void finish(UserImportDto.State finalState, String message) {
+            error = message;
+            finishedAt = LocalDateTime.now();
+            state = finalState;
+        }
+
+        private synchronized UserImportDto.JobStatus toStatus() {
+            return UserImportDto.JobStatus.builder()
+                    .jobId(id)
+                    .fileName(fileName)
+                    .courseId(courseId)
+                    .state(state)
+                    .processedRows(processedRows.get())
+                    .created(created.get())
+                    .duplicates(duplicates.get())
+                    .invalid(invalid.get())
+                    .assigned(assigned.get())
+                    .problems(List.copyOf(problems))
+                    .problemsTruncated(invalid.get() + duplicates.get() > problems.size())
+                    .error(error)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
@@ -2,9 +2,11 @@ package org.zerock.projecttraveler.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.zerock.projecttraveler.dto.UserOption;
 import org.zerock.projecttraveler.entity.User;
 import org.zerock.projecttraveler.repository.UserRepository;
 
@@ -20,6 +22,8 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
+    private static final int USER_SEARCH_MAX_SIZE = 100;
+
     /**
      * 회원가입
      */
@@ -99,6 +103,17 @@ public class UserService {
         return userRepository.findByRole(User.Role.USER);
     }
 
+    /**
+     * 사용자 검색 (아이디/이름 앞부분 일치, ID 키셋 페이지)
+     * @param query 검색어 (비어 있으면 전체)
+     * @param afterId 이전 페이지 마지막 사용자 ID (첫 페이지는 null)
+     */
+    public List<UserOption> searchUserOptions(String query, Long afterId, int size) {
+        String prefix = query == null || query.isBlank() ? null : query.trim() + "%";
+        return userRepository.searchUserOptions(prefix, afterId != null ? afterId : 0L,
+                PageRequest.of(0, Math.max(1, Math.min(size, USER_SEARCH_MAX_SIZE))));
+    }
+
     public List<User> findAllEnabledUsers() {
         return userRepository.findByEnabledTrue();
     }
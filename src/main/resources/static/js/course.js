@@ -127,63 +127,48 @@
 
         const quizBase = route.quiz(state.isUnity); // ✅ /quiz or /quiz-unity
 
+        // 강좌의 전체 퀴즈 상태를 한 번에 조회 (퀴즈 수와 무관하게 요청 1회)
+        const statuses = {};
+        try {
+            const res = await fetch(`/api/quiz/status/${courseId}/all`);
+            const data = await res.json();
+            if (!data.success || !data.data) return;
+            for (const s of data.data) statuses[s.quizId] = s;
+        } catch (e) {
+            console.error("Quiz status load error for courseId=" + courseId, e);
+            return;
+        }
+
         for (const card of quizCards) {
             const quizId = card.getAttribute("data-quiz-id");
-            if (!quizId) continue;
-
-            try {
-                const res = await fetch(`/api/quiz/${quizId}/can-attempt`);
-                const data = await res.json();
-
-                // ✅ (원본 유지) 퀴즈별 상세 상태도 가져오기 (누락 방지용)
-                const statusRes = await fetch(`/api/quiz/status/${courseId}`);
-                await statusRes.json();
-
-                const actionArea = card.querySelector(".quiz-action-area");
-                const iconEl = card.querySelector('div[style*="border-radius: 50%"]');
-
-                const histRes = await fetch(`/api/quiz/${quizId}/history`);
-                const histData = await histRes.json();
-
-                const passedAttempt =
-                    histData.success && histData.data ? histData.data.find((a) => a.passed) : null;
-
-                if (!actionArea || !iconEl) continue;
-
-                if (passedAttempt) {
-                    iconEl.textContent = "\u2713";
-                    iconEl.style.background = "#e8f5e9";
-                    iconEl.style.color = "#2e7d32";
-                    const msgEl = card.querySelector('div[style*="font-size: 13px"]');
-                    if (msgEl) msgEl.textContent = "최고 점수: " + passedAttempt.scorePercent + "점";
-                    actionArea.innerHTML =
-                        '<span style="padding: 8px 16px; background: #e8f5e9; color: #2e7d32; border-radius: 20px; font-size: 13px; font-weight: 600;">합격</span>';
-                } else if (data.success && data.data && data.data.canAttempt) {
-                    // ✅ quiz 이동 분기 적용
-                    actionArea.innerHTML = `<a href="${quizBase}?courseId=${courseId}&quizId=${quizId}" style="padding: 10px 24px; background: var(--primary-red); color: white; border-radius: 8px; text-decoration: none; font-weight: 600; font-size: 14px;">퀴즈 응시</a>`;
-                } else {
-                    const attempts = histData.success && histData.data ? histData.data.length : 0;
-
-                    if (attempts >= 2) {
-                        iconEl.textContent = "\uD83D\uDCDA";
-                        iconEl.style.background = "#fff3e0";
-                        const msgEl = card.querySelector('div[style*="font-size: 13px"]');
-                        if (msgEl) msgEl.textContent = "재수강이 필요합니다.";
-                        // ✅ quiz 이동 분기 적용 (원본은 "재수강" 버튼이 quiz로 가는 구조라 유지)
-                        actionArea.innerHTML = `<a href="${quizBase}?courseId=${courseId}&quizId=${quizId}" style="padding: 10px 24px; background: #ff9800; color: white; border-radius: 8px; text-decoration: none; font-weight: 600; font-size: 14px;">재수강</a>`;
-                    } else if (attempts === 1) {
-                        iconEl.style.background = "#fff3e0";
-                        const msgEl = card.querySelector('div[style*="font-size: 13px"]');
-                        if (msgEl) msgEl.textContent = "오답 확인 후 2차 시험에 응시하세요.";
-                        // ✅ quiz 이동 분기 적용
-                        actionArea.innerHTML = `<a href="${quizBase}?courseId=${courseId}&quizId=${quizId}" style="padding: 10px 24px; background: var(--primary-red); color: white; border-radius: 8px; text-decoration: none; font-weight: 600; font-size: 14px;">퀴즈 응시</a>`;
-                    } else {
-                        actionArea.innerHTML =
-                            '<span style="padding: 8px 16px; background: #f5f5f5; color: #666; border-radius: 20px; font-size: 13px;">응시 불가</span>';
-                    }
-                }
-            } catch (e) {
-                console.error("Quiz status load error for quizId=" + quizId, e);
+            const status = quizId ? statuses[quizId] : null;
+            if (!status) continue;
+
+            const actionArea = card.querySelector(".quiz-action-area");
+            const iconEl = card.querySelector('div[style*="border-radius: 50%"]');
+            if (!actionArea || !iconEl) continue;
+
+            if (status.hasPassed) {
+                iconEl.textContent = "\u2713";
+                iconEl.style.background = "#e8f5e9";
+                iconEl.style.color = "#2e7d32";
+                const msgEl = card.querySelector('div[style*="font-size: 13px"]');
+                if (msgEl) msgEl.textContent = "최고 점수: " + status.bestScore + "점";
+                actionArea.innerHTML =
+                    '<span style="padding: 8px 16px; background: #e8f5e9; color: #2e7d32; border-radius: 20px; font-size: 13px; font-weight: 600;">합격</span>';
+            } else if (status.canAttempt) {
+                // ✅ quiz 이동 분기 적용
+                actionArea.innerHTML = `<a href="${quizBase}?courseId=${courseId}&quizId=${quizId}" style="padding: 10px 24px; background: var(--primary-red); color: white; border-radius: 8px; text-decoration: none; font-weight: 600; font-size: 14px;">퀴즈 응시</a>`;
+            } else if (status.quizStatusCode === "RETAKE_REQUIRED") {
+                iconEl.textContent = "\uD83D\uDCDA";
+                iconEl.style.background = "#fff3e0";
+                const msgEl = card.querySelector('div[style*="font-size: 13px"]');
+                if (msgEl) msgEl.textContent = "재수강이 필요합니다.";
+                // ✅ quiz 이동 분기 적용 (원본은 "재수강" 버튼이 quiz로 가는 구조라 유지)
+                actionArea.innerHTML = `<a href="${quizBase}?courseId=${courseId}&quizId=${quizId}" style="padding: 10px 24px; background: #ff9800; color: white; border-radius: 8px; text-decoration: none; font-weight: 600; font-size: 14px;">재수강</a>`;
+            } else {
+                actionArea.innerHTML =
+                    '<span style="padding: 8px 16px; background: #f5f5f5; color: #666; border-radius: 20px; font-size: 13px;">응시 불가</span>';
             }
         }
     }
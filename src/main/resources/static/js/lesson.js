@@ -161,20 +161,49 @@
         }
     }
 
+    // ✅ heartbeat 전용 WebSocket (/ws/learning) - 연결 불가/끊김 시 REST 폴백
+    let heartbeatSocket = null;
+
+    function openHeartbeatSocket() {
+        if (!("WebSocket" in window)) return;
+
+        const scheme = location.protocol === "https:" ? "wss" : "ws";
+        try {
+            heartbeatSocket = new WebSocket(`${scheme}://${location.host}/ws/learning`);
+        } catch (e) {
+            heartbeatSocket = null;
+            return;
+        }
+
+        heartbeatSocket.addEventListener("message", function (event) {
+            // 서버는 실패 시에만 응답 프레임을 보냄
+            console.error("Heartbeat rejected:", event.data);
+        });
+        heartbeatSocket.addEventListener("close", function () {
+            heartbeatSocket = null;
+        });
+    }
+
     async function sendHeartbeat(positionSec, deltaSec) {
         if (!canAccess || deltaSec <= 0) return;
 
+        const payload = JSON.stringify({
+            courseId: courseId,
+            lessonId: lessonId,
+            positionSec: positionSec,
+            deltaWatchedSec: deltaSec
+        });
+
         try {
-            await fetch("/api/learning/heartbeat", {
-                method: "POST",
-                headers: { "Content-Type": "application/json" },
-                body: JSON.stringify({
-                    courseId: courseId,
-                    lessonId: lessonId,
-                    positionSec: positionSec,
-                    deltaWatchedSec: deltaSec
-                })
-            });
+            if (heartbeatSocket && heartbeatSocket.readyState === WebSocket.OPEN) {
+                heartbeatSocket.send(payload);
+            } else {
+                await fetch("/api/learning/heartbeat", {
+                    method: "POST",
+                    headers: { "Content-Type": "application/json" },
+                    body: payload
+                });
+            }
 
             totalWatchedSec += deltaSec;
             updateProgressUI();
@@ -437,6 +466,7 @@
 
         // ✅ 기존 인라인과 동일한 조건
         if (canAccess) {
+            openHeartbeatSocket();
             loadProgress();
             checkQuizStatus();
 
@@ -449,6 +479,7 @@
 
         window.addEventListener("beforeunload", function () {
             if (heartbeatInterval) clearInterval(heartbeatInterval);
+            if (heartbeatSocket) heartbeatSocket.close();
         });
 
         // ✅ onclick 핸들러가 HTML에 남아있으므로 전역 노출
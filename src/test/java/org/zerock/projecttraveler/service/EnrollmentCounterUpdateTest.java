@@ -0,0 +1,86 @@
+package org.zerock.projecttraveler.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.zerock.projecttraveler.dto.WatchCoverage;
+import org.zerock.projecttraveler.entity.*;
+import org.zerock.projecttraveler.repository.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 레슨 완료 카운터가 엔티티 flush로 덮어써지지 않음을 확인
+ * (증감 UPDATE 이후 같은 트랜잭션에서 읽어 둔 수강 엔티티의 상태를 바꿔도 카운터 유지)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:hsqldb:mem:enrollment-counter;sql.syntax_mys=true",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.HSQLDialect"
+})
+class EnrollmentCounterUpdateTest {
+
+    private static final int DURATION_SEC = 100;
+
+    @Autowired
+    private LearningService learningService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private LessonRepository lessonRepository;
+    @Autowired
+    private CourseEnrollmentRepository enrollmentRepository;
+    @Autowired
+    private LessonProgressRepository progressRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void completingLastLessonKeepsCounterWhenEnrollmentAlreadyLoaded() {
+        Course course = courseRepository.save(Course.builder().title("카운터 테스트 강좌").build());
+        Lesson lesson = lessonRepository.save(Lesson.builder()
+                .course(course)
+                .title("레슨 1")
+                .sortOrder(1)
+                .durationSec(DURATION_SEC)
+                .videoType(Lesson.VideoType.YOUTUBE)
+                .videoUrl("https://example.com/video")
+                .build());
+        User user = userRepository.save(User.builder()
+                .username("counter-last-lesson")
+                .password("{noop}password")
+                .fullName("counter-last-lesson")
+                .build());
+        enrollmentRepository.save(CourseEnrollment.builder()
+                .user(user)
+                .course(course)
+                .status(CourseEnrollment.Status.APPROVED)
+                .totalLessonCount(1)
+                .build());
+        progressRepository.save(LessonProgress.builder()
+                .user(user)
+                .course(course)
+                .lesson(lesson)
+                .lastPositionSec(DURATION_SEC)
+                .watchedSec(DURATION_SEC)
+                .watchedCoverage(WatchCoverage.mark(null, 0, DURATION_SEC))
+                .completed(false)
+                .build());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 카운터 +1 이전 값(0)을 가진 관리 엔티티
+            enrollmentRepository.findByUserIdAndCourseId(user.getId(), course.getId()).orElseThrow();
+            assertThat(learningService.complete(user.getId(), course.getId(), lesson.getId())).isTrue();
+        });
+
+        CourseEnrollment enrollment = enrollmentRepository.findByUserIdAndCourseId(user.getId(), course.getId()).orElseThrow();
+        assertThat(enrollment.getCompletedLessonCount()).isEqualTo(1);
+        assertThat(enrollment.getStatus()).isEqualTo(CourseEnrollment.Status.COMPLETED);
+    }
+}
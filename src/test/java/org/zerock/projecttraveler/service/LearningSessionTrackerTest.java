@@ -0,0 +1,81 @@
+package org.zerock.projecttraveler.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.zerock.projecttraveler.entity.*;
+import org.zerock.projecttraveler.repository.*;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 레슨 이동 시 이전 세션 종료 → 새 세션 시작 구간이 겹치지 않음을 확인
+ * (새 세션을 시청 시간만큼 앞당겨도 이전 세션 종료 시각 이전으로는 가지 않음)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:hsqldb:mem:learning-session;sql.syntax_mys=true",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.HSQLDialect"
+})
+class LearningSessionTrackerTest {
+
+    @Autowired
+    private LearningSessionTracker learningSessionTracker;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private LessonRepository lessonRepository;
+    @Autowired
+    private LearningSessionRepository sessionRepository;
+
+    @Test
+    void lessonSwitchStartsNewSessionAfterPreviousOne() {
+        Course course = courseRepository.save(Course.builder().title("세션 테스트 강좌").build());
+        Lesson first = lesson(course, 1);
+        Lesson second = lesson(course, 2);
+        User user = userRepository.save(User.builder()
+                .username("session-switch")
+                .password("{noop}password")
+                .fullName("session-switch")
+                .build());
+
+        // 유휴 시간보다 오래 전 흐름 → flush 시 두 세션 모두 종료/저장
+        LocalDateTime t0 = LocalDateTime.now().minusHours(1).withNano(0);
+        learningSessionTracker.onHeartbeat(user.getId(), course.getId(), first.getId(), 60, t0);
+        learningSessionTracker.onHeartbeat(user.getId(), course.getId(), first.getId(), 30, t0.plusSeconds(30));
+        // 10초 뒤 다른 레슨의 첫 heartbeat가 60초 시청을 보고
+        learningSessionTracker.onHeartbeat(user.getId(), course.getId(), second.getId(), 60, t0.plusSeconds(40));
+        learningSessionTracker.onHeartbeat(user.getId(), course.getId(), second.getId(), 30, t0.plusSeconds(70));
+        learningSessionTracker.flush();
+
+        List<LearningSession> sessions = sessionRepository.findRecentByUserId(user.getId()).stream()
+                .sorted(Comparator.comparing(LearningSession::getStartedAt))
+                .toList();
+        assertThat(sessions).hasSize(2);
+        assertThat(sessions.get(0).getStartedAt()).isEqualTo(t0.minusSeconds(60));
+        assertThat(sessions.get(0).getEndedAt()).isEqualTo(t0.plusSeconds(30));
+        assertThat(sessions.get(1).getStartedAt()).isEqualTo(sessions.get(0).getEndedAt());
+        assertThat(sessions.get(1).getEndedAt()).isEqualTo(t0.plusSeconds(70));
+        assertThat(sessionRepository.sumDurationByUserId(user.getId())).isEqualTo(90 + 40);
+    }
+
+    private Lesson lesson(Course course, int sortOrder) {
+        return lessonRepository.save(Lesson.builder()
+                .course(course)
+                .title("레슨 " + sortOrder)
+                .sortOrder(sortOrder)
+                .durationSec(600)
+                .videoType(Lesson.VideoType.YOUTUBE)
+                .videoUrl("https://example.com/video")
+                .build());
+    }
+}
@@ -0,0 +1,123 @@
+package org.zerock.projecttraveler.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.zerock.projecttraveler.dto.LearningHeartbeatSample;
+import org.zerock.projecttraveler.dto.WatchCoverage;
+import org.zerock.projecttraveler.entity.*;
+import org.zerock.projecttraveler.repository.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시청 구간 비트맵과 진도 초기화/기존 진도 이관 확인
+ * - 2차 시험 실패로 진도를 초기화하면 비트맵도 지워져 다시 시청해야 완료 가능
+ * - 비트맵 도입 전 진도는 첫 heartbeat 반영 시 누적 시청 시간을 이어받음
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:hsqldb:mem:lesson-coverage;sql.syntax_mys=true",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.HSQLDialect"
+})
+class LessonProgressCoverageTest {
+
+    private static final int DURATION_SEC = 100;
+
+    @Autowired
+    private LearningService learningService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private LessonRepository lessonRepository;
+    @Autowired
+    private CourseEnrollmentRepository enrollmentRepository;
+    @Autowired
+    private LessonProgressRepository progressRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void resetProgressRequiresWatchingAgain() {
+        Lesson lesson = videoLesson("초기화 테스트 강좌");
+        User user = enrolledUser(lesson.getCourse(), "coverage-reset");
+        progressRepository.save(LessonProgress.builder()
+                .user(user)
+                .course(lesson.getCourse())
+                .lesson(lesson)
+                .lastPositionSec(DURATION_SEC)
+                .watchedSec(DURATION_SEC)
+                .watchedCoverage(WatchCoverage.mark(null, 0, DURATION_SEC))
+                .completed(false)
+                .build());
+
+        transactionTemplate.executeWithoutResult(status ->
+                progressRepository.resetProgressByUserIdAndCourseId(user.getId(), lesson.getCourse().getId()));
+
+        boolean completed = learningService.complete(user.getId(), lesson.getCourse().getId(), lesson.getId());
+
+        assertThat(completed).isFalse();
+        LessonProgress progress = progressRepository.findByUserIdAndLessonId(user.getId(), lesson.getId()).orElseThrow();
+        assertThat(progress.getWatchedCoverage()).isNull();
+        assertThat(progress.getCompleted()).isFalse();
+    }
+
+    @Test
+    void legacyProgressKeepsWatchedSecOnFirstHeartbeat() {
+        Lesson lesson = videoLesson("기존 진도 테스트 강좌");
+        User user = enrolledUser(lesson.getCourse(), "coverage-legacy");
+        progressRepository.save(LessonProgress.builder()
+                .user(user)
+                .course(lesson.getCourse())
+                .lesson(lesson)
+                .lastPositionSec(85)
+                .watchedSec(85)
+                .completed(false)
+                .build());
+
+        // 마지막 10초만 새로 시청 → 기존 85초 + 10초로 90% 충족
+        LearningHeartbeatSample sample = new LearningHeartbeatSample(
+                user.getId(), lesson.getCourse().getId(), lesson.getId(),
+                DURATION_SEC, 10, LocalDateTime.now(), WatchCoverage.ofHeartbeat(DURATION_SEC, 10));
+        transactionTemplate.executeWithoutResult(status -> progressRepository.applyHeartbeats(List.of(sample)));
+
+        boolean completed = learningService.complete(user.getId(), lesson.getCourse().getId(), lesson.getId());
+
+        assertThat(completed).isTrue();
+    }
+
+    private Lesson videoLesson(String courseTitle) {
+        Course course = courseRepository.save(Course.builder().title(courseTitle).build());
+        return lessonRepository.save(Lesson.builder()
+                .course(course)
+                .title("레슨 1")
+                .sortOrder(1)
+                .durationSec(DURATION_SEC)
+                .videoType(Lesson.VideoType.YOUTUBE)
+                .videoUrl("https://example.com/video")
+                .build());
+    }
+
+    private User enrolledUser(Course course, String username) {
+        User user = userRepository.save(User.builder()
+                .username(username)
+                .password("{noop}password")
+                .fullName(username)
+                .build());
+        enrollmentRepository.save(CourseEnrollment.builder()
+                .user(user)
+                .course(course)
+                .status(CourseEnrollment.Status.APPROVED)
+                .build());
+        return user;
+    }
+}
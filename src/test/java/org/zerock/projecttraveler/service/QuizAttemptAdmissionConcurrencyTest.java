@@ -0,0 +1,183 @@
+package org.zerock.projecttraveler.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.zerock.projecttraveler.dto.QuizDto;
+import org.zerock.projecttraveler.entity.*;
+import org.zerock.projecttraveler.repository.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 사용자·퀴즈에 동시 제출이 몰려도 사이클당 시도 번호가 1, 2 한 번씩만 저장됨을 확인
+ * - QuizAttemptAdmission 경유: 스트라이프 락으로 직렬화, 초과 제출은 IllegalStateException
+ * - 락 없이 QuizService 직접 호출(다른 서버 인스턴스 가정): 유니크 제약이 중복 시도 번호를 거절
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:hsqldb:mem:quiz-admission;sql.syntax_mys=true;hsqldb.tx=mvcc",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.HSQLDialect"
+})
+class QuizAttemptAdmissionConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private QuizAttemptAdmission quizAttemptAdmission;
+    @Autowired
+    private QuizService quizService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private CourseEnrollmentRepository enrollmentRepository;
+    @Autowired
+    private QuizRepository quizRepository;
+    @Autowired
+    private QuizQuestionRepository questionRepository;
+    @Autowired
+    private QuizOptionRepository optionRepository;
+    @Autowired
+    private QuizAttemptRepository attemptRepository;
+
+    @Test
+    void concurrentSubmissionsThroughAdmissionCreateEachAttemptNumberOnce() throws Exception {
+        Course course = courseRepository.save(Course.builder().title("동시 제출 테스트 강좌").build());
+        User user = enrolledUser(course, "admission-locked");
+        Quiz quiz = quizWithOneQuestion(course);
+
+        List<Throwable> failures = submitConcurrently(
+                () -> quizAttemptAdmission.submit(user.getId(), wrongAnswer(quiz)));
+
+        assertAttemptNumbers(user, quiz);
+        assertThat(failures).hasSize(THREADS - 2);
+        assertThat(failures).allMatch(e -> e instanceof IllegalStateException);
+    }
+
+    @Test
+    void uniqueConstraintRejectsDuplicateAttemptNumbersWithoutLock() throws Exception {
+        Course course = courseRepository.save(Course.builder().title("제약 테스트 강좌").build());
+        User user = enrolledUser(course, "admission-unlocked");
+        Quiz quiz = quizWithOneQuestion(course);
+
+        List<Throwable> failures = submitConcurrently(
+                () -> quizService.submitQuiz(user.getId(), wrongAnswer(quiz)));
+
+        // 충돌한 제출은 재시도하지 않으므로 2차 시도까지 못 갈 수 있으나, 같은 번호는 절대 두 번 저장되지 않음
+        List<Integer> attemptNos = attemptNumbers(user, quiz);
+        assertThat(attemptNos).doesNotHaveDuplicates();
+        assertThat(attemptNos).isNotEmpty().allMatch(no -> no == 1 || no == 2);
+        assertThat(failures).allMatch(e -> e instanceof IllegalStateException
+                || e instanceof DataAccessException);
+    }
+
+    private void assertAttemptNumbers(User user, Quiz quiz) {
+        assertThat(attemptNumbers(user, quiz)).containsExactly(1, 2);
+    }
+
+    private List<Integer> attemptNumbers(User user, Quiz quiz) {
+        return attemptRepository
+                .findByUserIdAndQuizIdAndCycleOrderByAttemptNoAsc(user.getId(), quiz.getId(), 1)
+                .stream()
+                .map(QuizAttempt::getAttemptNo)
+                .toList();
+    }
+
+    /**
+     * THREADS개 스레드가 동시에 제출 (출발선 래치), 실패한 제출의 예외 목록 반환
+     */
+    private List<Throwable> submitConcurrently(Runnable submission) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    submission.run();
+                    return null;
+                }));
+            }
+            ready.await();
+            start.countDown();
+
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<?> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private User enrolledUser(Course course, String username) {
+        User user = userRepository.save(User.builder()
+                .username(username)
+                .password("{noop}password")
+                .fullName(username)
+                .build());
+        enrollmentRepository.save(CourseEnrollment.builder()
+                .user(user)
+                .course(course)
+                .status(CourseEnrollment.Status.APPROVED)
+                .build());
+        return user;
+    }
+
+    private Quiz quizWithOneQuestion(Course course) {
+        Quiz quiz = quizRepository.save(Quiz.builder().course(course).title("동시 제출 퀴즈").build());
+        QuizQuestion question = questionRepository.save(QuizQuestion.builder()
+                .quiz(quiz)
+                .question("문제 1")
+                .sortOrder(1)
+                .build());
+        for (int o = 0; o < 2; o++) {
+            optionRepository.save(QuizOption.builder()
+                    .question(question)
+                    .content("보기 " + (o + 1))
+                    .isCorrect(o == 0)
+                    .sortOrder(o + 1)
+                    .build());
+        }
+        return quiz;
+    }
+
+    // 오답 제출 → 불합격이므로 사이클당 2회까지 시도가 쌓임
+    private QuizDto.SubmitRequest wrongAnswer(Quiz quiz) {
+        QuizQuestion question = questionRepository.findByQuizIdWithOptions(quiz.getId()).get(0);
+        Long wrongOptionId = question.getOptions().stream()
+                .filter(o -> !o.getIsCorrect())
+                .findFirst()
+                .map(QuizOption::getId)
+                .orElseThrow();
+        return QuizDto.SubmitRequest.builder()
+                .quizId(quiz.getId())
+                .answers(List.of(QuizDto.AnswerSubmit.builder()
+                        .questionId(question.getId())
+                        .selectedOptionId(wrongOptionId)
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,257 @@
+package org.zerock.projecttraveler.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.zerock.projecttraveler.dto.QuizDto;
+import org.zerock.projecttraveler.entity.*;
+import org.zerock.projecttraveler.repository.*;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 퀴즈 제출 시 실행되는 SQL 문 수가 문제 수와 무관함을 확인
+ * (답안은 JDBC 배치 1회, 문제/선택지 개별 조회 없음)
+ * ID 블록 예약(id_generator)은 블록 크기마다 한 번이라 세지 않는다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:hsqldb:mem:quiz-submit;sql.syntax_mys=true",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.HSQLDialect"
+})
+class QuizSubmissionStatementCountTest {
+
+    @Autowired
+    private QuizService quizService;
+    @Autowired
+    private QuizAnswerKeyCache quizAnswerKeyCache;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private CourseEnrollmentRepository enrollmentRepository;
+    @Autowired
+    private QuizRepository quizRepository;
+    @Autowired
+    private QuizQuestionRepository questionRepository;
+    @Autowired
+    private QuizOptionRepository optionRepository;
+    @Autowired
+    private QuizAnswerRepository answerRepository;
+
+    @Test
+    void submissionStatementCountDoesNotGrowWithQuestionCount() {
+        Course course = courseRepository.save(Course.builder().title("문장 수 테스트 강좌").build());
+
+        int small = submitAndCount(course, "stmt-small", 1);
+        int large = submitAndCount(course, "stmt-large", 50);
+
+        assertThat(large).isEqualTo(small);
+        assertThat(large).isLessThanOrEqualTo(20);
+    }
+
+    @Test
+    void submissionStoresEveryAnswer() {
+        Course course = courseRepository.save(Course.builder().title("답안 저장 테스트 강좌").build());
+        User user = enrolledUser(course, "stmt-answers");
+        Quiz quiz = quizWithQuestions(course, 50);
+
+        QuizDto.SubmitResult result = quizService.submitQuiz(user.getId(), allCorrect(quiz));
+
+        assertThat(result.getCorrectCount()).isEqualTo(50);
+        assertThat(result.getScorePercent()).isEqualTo(100);
+        assertThat(answerRepository.findByAttemptId(result.getAttemptId())).hasSize(50);
+    }
+
+    private int submitAndCount(Course course, String username, int questionCount) {
+        User user = enrolledUser(course, username);
+        Quiz quiz = quizWithQuestions(course, questionCount);
+        QuizDto.SubmitRequest request = allCorrect(quiz);
+
+        // 정답표는 퀴즈 버전당 한 번만 만들어지므로 미리 적재
+        quizAnswerKeyCache.get(quiz.getId());
+
+        StatementCounter.start();
+        try {
+            quizService.submitQuiz(user.getId(), request);
+        } finally {
+            StatementCounter.stop();
+        }
+        return StatementCounter.count();
+    }
+
+    private User enrolledUser(Course course, String username) {
+        User user = userRepository.save(User.builder()
+                .username(username)
+                .password("{noop}password")
+                .fullName(username)
+                .build());
+        enrollmentRepository.save(CourseEnrollment.builder()
+                .user(user)
+                .course(course)
+                .status(CourseEnrollment.Status.APPROVED)
+                .build());
+        return user;
+    }
+
+    private Quiz quizWithQuestions(Course course, int questionCount) {
+        Quiz quiz = quizRepository.save(Quiz.builder().course(course).title("퀴즈 " + questionCount).build());
+        for (int q = 0; q < questionCount; q++) {
+            QuizQuestion question = questionRepository.save(QuizQuestion.builder()
+                    .quiz(quiz)
+                    .question("문제 " + (q + 1))
+                    .sortOrder(q + 1)
+                    .build());
+            for (int o = 0; o < 4; o++) {
+                optionRepository.save(QuizOption.builder()
+                        .question(question)
+                        .content("보기 " + (o + 1))
+                        .isCorrect(o == 0)
+                        .sortOrder(o + 1)
+                        .build());
+            }
+        }
+        return quiz;
+    }
+
+    private QuizDto.SubmitRequest allCorrect(Quiz quiz) {
+        List<QuizDto.AnswerSubmit> answers = new ArrayList<>();
+        for (QuizQuestion question : questionRepository.findByQuizIdWithOptions(quiz.getId())) {
+            Long correctOptionId = question.getOptions().stream()
+                    .filter(QuizOption::getIsCorrect)
+                    .findFirst()
+                    .map(QuizOption::getId)
+                    .orElseThrow();
+            answers.add(QuizDto.AnswerSubmit.builder()
+                    .questionId(question.getId())
+                    .selectedOptionId(correctOptionId)
+                    .build());
+        }
+        return QuizDto.SubmitRequest.builder()
+                .quizId(quiz.getId())
+                .answers(answers)
+                .build();
+    }
+
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof StatementCounter)) {
+                        return new StatementCounter(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * 테스트 스레드에서 실행된 execute* 호출 수 집계 (executeBatch는 1회로 계산)
+     * 스케줄러 스레드(heartbeat flush 등)의 SQL은 세지 않는다.
+     */
+    static class StatementCounter extends DelegatingDataSource {
+
+        private static final AtomicInteger COUNT = new AtomicInteger();
+        private static volatile Thread countingThread;
+
+        StatementCounter(DataSource target) {
+            super(target);
+        }
+
+        static void start() {
+            COUNT.set(0);
+            countingThread = Thread.currentThread();
+        }
+
+        static void stop() {
+            countingThread = null;
+        }
+
+        static int count() {
+            return COUNT.get();
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return countingConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return countingConnection(super.getConnection(username, password));
+        }
+
+        private static Connection countingConnection(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    StatementCounter.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (result instanceof Statement statement) {
+                            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                            return countingStatement(statement, sql);
+                        }
+                        return result;
+                    });
+        }
+
+        private static Object countingStatement(Statement statement, String preparedSql) {
+            return Proxy.newProxyInstance(
+                    StatementCounter.class.getClassLoader(),
+                    statementInterfaces(statement),
+                    (proxy, method, args) -> {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                        if (method.getName().startsWith("execute")
+                                && Thread.currentThread() == countingThread
+                                && (sql == null || !sql.contains(IdGenerators.TABLE))) {
+                            COUNT.incrementAndGet();
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Class<?>[] statementInterfaces(Statement statement) {
+            if (statement instanceof CallableStatement) {
+                return new Class<?>[]{CallableStatement.class};
+            }
+            if (statement instanceof PreparedStatement) {
+                return new Class<?>[]{PreparedStatement.class};
+            }
+            return new Class<?>[]{Statement.class};
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.zerock.projecttraveler.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.zerock.projecttraveler.dto.UserImportDto;
+import org.zerock.projecttraveler.repository.UserRepository;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 사용자 일괄 등록 - 잘못된 행은 INVALID로 보고하고 작업은 계속 진행
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:hsqldb:mem:user-import;sql.syntax_mys=true",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.HSQLDialect"
+})
+class UserImportServiceTest {
+
+    @Autowired
+    private UserImportService userImportService;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void passwordLongerThanBcryptLimitIsReportedAsInvalidRow() throws Exception {
+        // 한글 25자 = UTF-8 75바이트 (BCrypt 한도 72바이트 초과)
+        String tooLong = "가".repeat(25);
+        String csv = "username,password,fullName\n" +
+                "import-ok,password1234,정상 사용자\n" +
+                "import-long-pw," + tooLong + ",긴 비밀번호\n";
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "users.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+
+        UserImportDto.JobStatus status = userImportService.start(null, file, null, null);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (status.getState() == UserImportDto.State.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            status = userImportService.findJob(status.getJobId()).orElseThrow();
+        }
+
+        assertThat(status.getState()).isEqualTo(UserImportDto.State.DONE);
+        assertThat(status.getCreated()).isEqualTo(1);
+        assertThat(status.getInvalid()).isEqualTo(1);
+        assertThat(status.getProblems())
+                .extracting(UserImportDto.RowProblem::getUsername, UserImportDto.RowProblem::getProblem)
+                .containsExactly(tuple("import-long-pw", UserImportDto.Problem.INVALID));
+        assertThat(userRepository.findByUsername("import-ok")).isPresent();
+        assertThat(userRepository.findByUsername("import-long-pw")).isEmpty();
+    }
+}